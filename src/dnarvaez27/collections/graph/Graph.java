@@ -342,10 +342,7 @@ public class Graph<I, E> implements Algorithms
 		 */
 		public void addEdge( Edge edge )
 		{
-			if( edges.get( edge.to ) == null )
-			{
-				edges.put( edge.getTo( ), edge );
-			}
+			edges.putIfAbsent( edge.getTo( ), edge );
 		}
 		
 		/**
@@ -402,7 +399,7 @@ public class Graph<I, E> implements Algorithms
 		public double getWeight( )
 		{
 			double weight = 0;
-			for( Entry<I, Edge> e : edges.entries( ) )
+			for( Entry<I, Edge> e : edges )
 			{
 				weight += e.getValue( ).getTotalWeight( );
 			}
@@ -417,7 +414,7 @@ public class Graph<I, E> implements Algorithms
 		 */
 		public Edge removeEdge( I to )
 		{
-			for( Entry<I, Edge> e : edges.entries( ) )
+			for( Entry<I, Edge> e : edges )
 			{
 				if( e.getValue( ).getTo( ).equals( to ) )
 				{
@@ -589,7 +586,7 @@ public class Graph<I, E> implements Algorithms
 	{
 		this( G.numVertex, directed );
 		this.numVertex = G.numVertex;
-		Iterable<Entry<I, Vertex>> it = G.getGraph( ).entries( );
+		Iterable<Entry<I, Vertex>> it = G.getGraph( );
 		for( Entry<I, Vertex> entry : it )
 		{
 			addVertex( entry.getKey( ), entry.getValue( ).getElement( ) );
@@ -626,7 +623,7 @@ public class Graph<I, E> implements Algorithms
 		this( G.numVertex, directed );
 		this.numVertex = G.numVertex;
 		
-		for( Entry<I, Vertex> edge : G.adjacencyList.entries( ) )
+		for( Entry<I, Vertex> edge : G.adjacencyList )
 		{
 			addVertex( edge.getKey( ), edge.getValue( ).getElement( ) );
 		}
@@ -887,7 +884,7 @@ public class Graph<I, E> implements Algorithms
 		
 		sBuilder.append( String.format( "%s|", entry.getKey( ) ) );
 		
-		for( Entry<I, Edge> e : entry.getValue( ).edges.entries( ) )
+		for( Entry<I, Edge> e : entry.getValue( ).edges )
 		{
 			sBuilder.append( ARROW + " " + e.getValue( ).toStringTo( ) );
 		}
@@ -908,7 +905,7 @@ public class Graph<I, E> implements Algorithms
 		
 		sBuilder.append( String.format( "%s|", adjacencyList.get( entry.getKey( ) ).element ) );
 		
-		for( Entry<I, Edge> v : entry.getValue( ).edges.entries( ) )
+		for( Entry<I, Edge> v : entry.getValue( ).edges )
 		{
 			sBuilder.append( ARROW + " " + adjacencyList.get( v.getKey( ) ).element );
 		}
@@ -986,9 +983,9 @@ public class Graph<I, E> implements Algorithms
 	{
 		DoubleLinkedList<E> incoming = new DoubleLinkedList<>( );
 		
-		for( Entry<I, Vertex> entry : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> entry : adjacencyList )
 		{
-			for( Entry<I, Graph<I, E>.Edge> vertex : entry.getValue( ).edges.entries( ) )
+			for( Entry<I, Graph<I, E>.Edge> vertex : entry.getValue( ).edges )
 			{
 				if( vertex.getKey( ).equals( to ) )
 				{
@@ -1011,9 +1008,9 @@ public class Graph<I, E> implements Algorithms
 	{
 		DoubleLinkedList<I> incoming = new DoubleLinkedList<>( );
 		
-		for( Entry<I, Vertex> entry : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> entry : adjacencyList )
 		{
-			for( Entry<I, Graph<I, E>.Edge> vertex : entry.getValue( ).edges.entries( ) )
+			for( Entry<I, Graph<I, E>.Edge> vertex : entry.getValue( ).edges )
 			{
 				if( vertex.getKey( ).equals( to ) )
 				{
@@ -1055,7 +1052,7 @@ public class Graph<I, E> implements Algorithms
 	public DoubleLinkedList<E> getOutgoing( I from )
 	{
 		DoubleLinkedList<E> outgoing = new DoubleLinkedList<>( );
-		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges.entries( ) )
+		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges )
 		{
 			outgoing.add( adjacencyList.get( entry.getKey( ) ).getElement( ) );
 		}
@@ -1071,7 +1068,7 @@ public class Graph<I, E> implements Algorithms
 	public DoubleLinkedList<Edge> getOutgoingEdges( I from )
 	{
 		DoubleLinkedList<Edge> outgoing = new DoubleLinkedList<>( );
-		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges.entries( ) )
+		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges )
 		{
 			outgoing.add( entry.getValue( ) );
 		}
@@ -1087,7 +1084,7 @@ public class Graph<I, E> implements Algorithms
 	public DoubleLinkedList<I> getOutgoingId( I from )
 	{
 		DoubleLinkedList<I> outgoing = new DoubleLinkedList<>( );
-		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges.entries( ) )
+		for( Entry<I, Edge> entry : adjacencyList.get( from ).edges )
 		{
 			outgoing.add( adjacencyList.get( entry.getKey( ) ).getIdentifier( ) );
 		}
@@ -1130,7 +1127,7 @@ public class Graph<I, E> implements Algorithms
 	public double getWeight( )
 	{
 		double weight = 0;
-		for( Entry<I, Vertex> e : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> e : adjacencyList )
 		{
 			weight += e.getValue( ).getWeight( );
 		}
@@ -1238,7 +1235,7 @@ public class Graph<I, E> implements Algorithms
 	 */
 	private void removeVertexIncomming( I id )
 	{
-		for( Entry<I, Vertex> entry : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> entry : adjacencyList )
 		{
 			entry.getValue( ).removeEdge( id );
 		}
@@ -1282,7 +1279,7 @@ public class Graph<I, E> implements Algorithms
 	{
 		StringBuilder sBuilder = new StringBuilder( );
 		
-		for( Entry<I, Vertex> entry : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> entry : adjacencyList )
 		{
 			if( entry != null )
 			{
@@ -1304,7 +1301,7 @@ public class Graph<I, E> implements Algorithms
 	{
 		StringBuilder sBuilder = new StringBuilder( );
 		
-		for( Entry<I, Vertex> entry : adjacencyList.entries( ) )
+		for( Entry<I, Vertex> entry : adjacencyList )
 		{
 			if( entry != null )
 			{
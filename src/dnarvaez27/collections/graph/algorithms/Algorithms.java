@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import dnarvaez27.collections.elements.Entry;
 import dnarvaez27.collections.graph.Graph;
+import dnarvaez27.collections.hashtable.HashSetFlat;
 import dnarvaez27.collections.hashtable.HashTableLP;
 import dnarvaez27.collections.heap.HeapArray;
 import dnarvaez27.collections.heap.IndexedHeap;
@@ -18,18 +19,18 @@ public interface Algorithms
 		
 		private HashTableLP<I, I> edgeTo;
 		
-		private HashTableLP<I, Boolean> marked;
+		private HashSetFlat<I> marked;
 		
 		public BFS( Graph<I, E> G, I init )
 		{
 			this.G = G;
-			marked = new HashTableLP<>( );
+			marked = new HashSetFlat<>( );
 			edgeTo = new HashTableLP<>( );
 			
 			bfs( init );
-			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ).entries( ) )
+			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ) )
 			{
-				if( ( marked.get( entry.getKey( ) ) == null ) || !marked.get( entry.getKey( ) ) )
+				if( !marked.contains( entry.getKey( ) ) )
 				{
 					bfs( entry.getKey( ) );
 				}
@@ -39,18 +40,16 @@ public interface Algorithms
 		public void bfs( I init )
 		{
 			Queue<I> queue = new Queue<>( );
-			marked.put( init, true );
+			marked.add( init );
 			queue.enqueue( init );
 			while( !queue.isEmpty( ) )
 			{
 				I actual = queue.dequeue( );
-				for( Entry<I, Graph<I, E>.Edge> v : G.getGraph( ).get( actual ).getEdges( ).entries( ) )
+				for( Entry<I, Graph<I, E>.Edge> v : G.getGraph( ).get( actual ).getEdges( ) )
 				{
 					I i = v.getKey( );
-					Boolean bool = marked.get( i );
-					if( ( bool == null ) || !bool )
+					if( marked.add( i ) )
 					{
-						marked.put( i, true );
 						edgeTo.put( i, actual );
 						queue.enqueue( i );
 					}
@@ -61,7 +60,7 @@ public interface Algorithms
 		public String getEdgeTo( )
 		{
 			StringBuilder sBuilder = new StringBuilder( );
-			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ).entries( ) )
+			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ) )
 			{
 				I v = edgeTo.get( entry.getKey( ) );
 				sBuilder.append( String.format( "%s | %s" + System.lineSeparator( ), entry.getKey( ), v == null ? Graph.EMPTY : v ) );
@@ -81,7 +80,7 @@ public interface Algorithms
 		
 		private HashTableLP<I, I> edgesTo;
 		
-		private HashTableLP<I, Boolean> marked;
+		private HashSetFlat<I> marked;
 		
 		private Stack<I> postorder;
 		
@@ -104,7 +103,7 @@ public interface Algorithms
 			
 			this.G = G;
 			
-			marked = new HashTableLP<>( G.getNumVertex( ), 0.75f );
+			marked = new HashSetFlat<>( G.getNumVertex( ), 0.75f );
 			edgesTo = new HashTableLP<>( G.getNumVertex( ), 0.75f );
 			postorder = new Stack<>( );
 			
@@ -116,9 +115,9 @@ public interface Algorithms
 			
 			if( loop )
 			{
-				for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ).entries( ) )
+				for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ) )
 				{
-					if( ( marked.get( entry.getKey( ) ) == null ) || !marked.get( entry.getKey( ) ) )
+					if( !marked.contains( entry.getKey( ) ) )
 					{
 						components++;
 						dfs( entry );
@@ -129,11 +128,10 @@ public interface Algorithms
 		
 		public void dfs( Entry<I, Graph<I, E>.Vertex> entry )
 		{
-			marked.put( entry.getKey( ), true );
-			for( Entry<I, Graph<I, E>.Edge> e : entry.getValue( ).getEdges( ).entries( ) )
+			marked.add( entry.getKey( ) );
+			for( Entry<I, Graph<I, E>.Edge> e : entry.getValue( ).getEdges( ) )
 			{
-				Boolean bool = marked.get( e.getKey( ) );
-				if( ( bool == null ) || !bool )
+				if( !marked.contains( e.getKey( ) ) )
 				{
 					edgesTo.put( e.getKey( ), entry.getKey( ) );
 					dfs( G.getGraph( ).getEntry( e.getKey( ) ) );
@@ -149,7 +147,7 @@ public interface Algorithms
 		public String getEdgetoString( )
 		{
 			StringBuilder sBuilder = new StringBuilder( );
-			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ).entries( ) )
+			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ) )
 			{
 				I v = edgesTo.get( entry.getKey( ) );
 				sBuilder.append( String.format( "%s | %s" + System.lineSeparator( ), entry.getKey( ), v == null ? Graph.EMPTY : v ) );
@@ -238,7 +236,7 @@ public interface Algorithms
 			this.idWeight = idWeight;
 			tuplas = new HashTableLP<>( G.getNumVertex( ) * 2, 0.75f );
 			priority = new IndexedHeap<>( ( int ) ( G.getNumVertex( ) * 1.5 ) );
-			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ).entries( ) )
+			for( Entry<I, Graph<I, E>.Vertex> entry : G.getGraph( ) )
 			{
 				I to = entry.getKey( );
 				I from = null;
@@ -259,7 +257,8 @@ public interface Algorithms
 		
 		private void relax( I marcado )
 		{
-			Iterable<Entry<I, Graph<I, E>.Edge>> adyacentes = G.getGraph( ).get( marcado ).getEdges( ).entries( );
+			Iterable<Entry<I, Graph<I, E>.Edge>> adyacentes = G.getGraph( ).get( marcado ).getEdges( );
+			double distMarcado = tuplas.get( marcado ).getDist( );
 			for( Entry<I, Graph<I, E>.Edge> entry : adyacentes )
 			{
 				// Informacion del Arco
@@ -268,14 +267,15 @@ public interface Algorithms
 				double weight = e.getWeigth( idWeight );
 				
 				// Comparacion
-				double suma = tuplas.get( marcado ).getDist( ) + weight;
-				if( suma < tuplas.get( w ).getDist( ) )
+				double suma = distMarcado + weight;
+				Entry<I, Tupla> tupla = tuplas.getEntry( w ); // Entrada de w en las tuplas, se modifica sin volver a buscarla
+				if( suma < tupla.getValue( ).getDist( ) )
 				{
 					// w original (quien soy), v anterior
-					Tupla old = tuplas.get( w ); // Lo que tenía antes
+					Tupla old = tupla.getValue( ); // Lo que tenía antes
 					Tupla nueva = new Tupla( suma, w, marcado ); // Nueva asignacion
 					priority.set( old, nueva ); // Change
-					tuplas.put( w, nueva ); // Reemplazo en las tuplas con la nueva informacion
+					tupla.setValue( nueva ); // Reemplazo en las tuplas con la nueva informacion
 				}
 			}
 		}
@@ -306,14 +306,14 @@ public interface Algorithms
 			}
 			return path;
 		}
-		
+	
 	}
 	
 	public class LazyPrim<I, E>
 	{
 		private Graph<I, E> G;
 		
-		private HashTableLP<I, Boolean> marked;
+		private HashSetFlat<I> marked;
 		
 		private Queue<Graph<I, E>.Edge> mst;
 		
@@ -322,7 +322,7 @@ public interface Algorithms
 		public LazyPrim( Graph<I, E> G, final String idWeight )
 		{
 			this.G = G;
-			marked = new HashTableLP<>( G.getNumVertex( ), 0.75f );
+			marked = new HashSetFlat<>( G.getNumVertex( ), 0.75f );
 			mst = new Queue<>( );
 			priorityQueue = new HeapArray<>( new Comparator<Graph<I, E>.Edge>( )
 			{
@@ -333,16 +333,14 @@ public interface Algorithms
 				}
 			} );
 			
-			visit( G.getGraph( ).entries( ).get( 0 ).getKey( ) );
+			visit( G.getGraph( ).iterator( ).next( ).getKey( ) );
 			while( !priorityQueue.isEmpty( ) )
 			{
 				Graph<I, E>.Edge e = priorityQueue.poll( );
 				I v = e.getFrom( );
 				I w = e.getTo( );
-				Boolean bV = marked.get( v );
-				Boolean bW = marked.get( w );
-				boolean markedV = ( bV != null ) && bV;
-				boolean markedW = ( bW != null ) && bW;
+				boolean markedV = marked.contains( v );
+				boolean markedW = marked.contains( w );
 				if( markedV && markedW )
 				{
 					continue;
@@ -366,13 +364,11 @@ public interface Algorithms
 		
 		public void visit( I v )
 		{
-			marked.put( v, true );
+			marked.add( v );
 			for( Graph<I, E>.Edge edge : G.getGraph( ).get( v ).getValuesEdges( ) )
 			{
 				I a = edge.getFrom( ).equals( v ) ? edge.getTo( ) : edge.getFrom( );
-				Boolean b = marked.get( a );
-				boolean markedE = ( b != null ) && b;
-				if( !markedE )
+				if( !marked.contains( a ) )
 				{
 					priorityQueue.add( edge );
 				}
@@ -1,10 +1,23 @@
 package dnarvaez27.collections.hashtable;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.exceptions.IllegalOperationException;
 
 /**
- * Clase abstracta que define las funcionalidades en común de las HashTables
- * 
+ * Clase abstracta que define las funcionalidades en común de las HashTables<br>
+ * El tamaño del arreglo es siempre una potencia de dos, por lo que el indice de una llave se obtiene con una mascara
+ * sobre su hash disperso<br>
+ * Las operaciones compuestas ({@link #compute(Object, BiFunction)}, {@link #merge(Object, Object, BiFunction)}, etc.)
+ * se implementan aqui con {@link #get(Object)}, {@link #put(Object, Object)} y {@link #delete(Object)}.
+ * Las subclases las sobreescriben para recorrer una sola vez la secuencia de prueba<br>
+ * Las operaciones por lotes ({@link #getAll(Object[], Object[])} y {@link #putAll(Object[], Object[])}) se implementan
+ * aqui con una llamada por llave; las subclases pueden usar {@link #agrupar(int[])} para recorrer el lote en el orden del arreglo
+ *
  * @author dnarvaez27
  * @param <N> Tipo de los elementos del arreglo que implementa la HashTable
  * @param <K> Tipo de las llaves de las entradas de la HashTable
@@ -12,6 +25,26 @@ import dnarvaez27.collections.elements.Entry;
  */
 public abstract class AbstractHashTable<N, K, V> implements IHashTable<K, V>
 {
+	/**
+	 * Causa de rehash: crecimiento por el factor de carga
+	 */
+	protected static final int CRECER = 0;
+	
+	/**
+	 * Causa de rehash: reduccion por la politica de capacidad
+	 */
+	protected static final int REDUCIR = 1;
+	
+	/**
+	 * Causa de rehash: limpieza de marcas o reorganizacion de las entradas sin cambiar la capacidad
+	 */
+	protected static final int LIMPIAR = 2;
+	
+	/**
+	 * Causa de rehash: ajuste explicito con {@link #ensureCapacity(int)} o {@link #trimToSize()}
+	 */
+	protected static final int AJUSTAR = 3;
+	
 	/**
 	 * Arreglo que representa la HashTable
 	 */
@@ -37,18 +70,40 @@ public abstract class AbstractHashTable<N, K, V> implements IHashTable<K, V>
 	 */
 	protected int size;
 	
+	/**
+	 * Politica de capacidad que define el tamaño del arreglo al crecer o ajustarse
+	 */
+	protected ICapacityPolicy capacityPolicy;
+	
+	/**
+	 * Funcion que dispersa los bits del HashCode de las llaves
+	 */
+	protected IHashSpreader spreader;
+	
+	/**
+	 * Numero de rehash por cada causa, null si las estadisticas estan desactivadas
+	 */
+	private long[ ] rehashes;
+	
+	/**
+	 * Tiempo total en rehash mientras las estadisticas estan activadas, en nanosegundos
+	 */
+	private long tiempoRehash;
+	
 	private int capacidad;
 	
 	/**
 	 * Inicializa la capacidad y el factor de carga de la HashTable
-	 * 
+	 *
 	 * @param capacidad Capacidad inicial del arreglo que implementa la HashTable
 	 * @param loadFactor Factor de Carga que se asignara al HashTable
 	 */
 	public AbstractHashTable( int capacidad, float loadFactor )
 	{
-		this.capacidad = capacidad;
+		this.capacidad = tamanoArreglo( capacidad );
 		this.loadFactor = loadFactor;
+		this.capacityPolicy = new ICapacityPolicy.Geometric( );
+		this.spreader = new IHashSpreader.Xor( );
 	}
 	
 	/**
@@ -74,12 +129,297 @@ public abstract class AbstractHashTable<N, K, V> implements IHashTable<K, V>
 		put( classKey.cast( values[ 0 ] ), classValue.cast( values[ 1 ] ) );
 	}
 	
+	/**
+	 * Retorna las posiciones de un lote ordenadas por la region del arreglo a la que pertenece cada hash<br>
+	 * Se usa un ordenamiento por conteo sobre los bits altos del indice, de modo que el lote se busca recorriendo el arreglo
+	 * en orden y no saltando a posiciones aleatorias. El ordenamiento es estable: las llaves repetidas conservan su orden en el lote
+	 *
+	 * @param hashes Hash de cada llave del lote, calculados con {@link #dispersar(Object[])}
+	 * @return Posiciones del lote en el orden en que se deben buscar
+	 */
+	protected int[ ] agrupar( int[ ] hashes )
+	{
+		int regiones = Math.min( tamanoArreglo( hashes.length ), arreglo.length );
+		int corrimiento = Integer.numberOfTrailingZeros( arreglo.length ) - Integer.numberOfTrailingZeros( regiones );
+		int[ ] inicio = new int[ regiones + 1 ];
+		for( int hash : hashes )
+		{
+			inicio[ ( indice( hash ) >>> corrimiento ) + 1 ]++;
+		}
+		for( int i = 1; i < regiones; i++ )
+		{
+			inicio[ i + 1 ] += inicio[ i ];
+		}
+		int[ ] orden = new int[ hashes.length ];
+		for( int i = 0; i < hashes.length; i++ )
+		{
+			orden[ inicio[ indice( hashes[ i ] ) >>> corrimiento ]++ ] = i;
+		}
+		return orden;
+	}
+	
+	/**
+	 * Retorna la capacidad minima del arreglo para contener el numero de elementos dado sin superar el factor de carga
+	 *
+	 * @param elementos Numero de elementos a contener
+	 * @return Capacidad minima del arreglo
+	 */
+	protected int capacidadPara( int elementos )
+	{
+		return Math.max( 1, ( int ) Math.ceil( elementos / ( double ) loadFactor ) );
+	}
+	
+	/**
+	 * Retorna la capacidad actual del arreglo que implementa la HashTable
+	 *
+	 * @return Capacidad actual del arreglo
+	 */
+	public int capacity( )
+	{
+		return arreglo.length;
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		V old = get( key );
+		V value = funcion.apply( key, old );
+		if( value != null )
+		{
+			put( key, value );
+		}
+		else if( old != null )
+		{
+			delete( key );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		V value = get( key );
+		if( value == null )
+		{
+			value = funcion.apply( key );
+			if( value != null )
+			{
+				put( key, value );
+			}
+		}
+		return value;
+	}
+	
+	/**
+	 * Crea un arreglo vacio del tipo de los elementos de la HashTable
+	 *
+	 * @param capacidad Capacidad del arreglo
+	 * @return Arreglo vacio con la capacidad dada
+	 */
+	protected abstract N[ ] crearArreglo( int capacidad );
+	
+	/**
+	 * Asegura que la HashTable pueda contener el numero de elementos dado sin realizar rehash
+	 *
+	 * @param elementos Numero de elementos que se espera contener
+	 */
+	public void ensureCapacity( int elementos )
+	{
+		int requerida = capacidadPara( elementos );
+		if( requerida > arreglo.length )
+		{
+			reconstruir( tamanoArreglo( capacityPolicy.fit( requerida ) ), AJUSTAR );
+		}
+	}
+	
+	/**
+	 * Retorna la politica de capacidad de la HashTable
+	 *
+	 * @return Politica de capacidad
+	 */
+	public ICapacityPolicy getCapacityPolicy( )
+	{
+		return capacityPolicy;
+	}
+	
+	/**
+	 * Retorna una fotografia de las estadisticas de la HashTable<br>
+	 * Los histogramas se calculan recorriendo el arreglo en este momento, por lo que no tienen costo mientras no se
+	 * consultan. Los contadores de rehash solo incluyen los rehash realizados con las estadisticas activadas
+	 *
+	 * @return Estadisticas de la HashTable
+	 */
+	public HashTableStats getStatistics( )
+	{
+		return new HashTableStats( size, arreglo.length, marcas( ), longitudesSondeo( ), longitudesCadena( ), rehashes != null ? rehashes.clone( ) : new long[ 4 ], tiempoRehash );
+	}
+	
+	/**
+	 * Incrementa la capacidad del arreglo segun la politica de capacidad
+	 */
+	protected void crecer( )
+	{
+		reconstruir( tamanoArreglo( capacityPolicy.grow( arreglo.length, capacidadPara( size + 1 ) ) ), CRECER );
+	}
+	
+	/**
+	 * Reduce la capacidad del arreglo si la politica de capacidad lo indica
+	 */
+	protected void reducir( )
+	{
+		int nuevaCapacidad = tamanoArreglo( capacityPolicy.shrink( arreglo.length, capacidadPara( size ) ) );
+		if( nuevaCapacidad < arreglo.length )
+		{
+			reconstruir( nuevaCapacidad, REDUCIR );
+		}
+	}
+	
 	@Override
 	public boolean isEmpty( )
 	{
 		return size == 0;
 	}
 	
+	/**
+	 * Verifica si las estadisticas de rehash estan activadas
+	 *
+	 * @return True si se registran los rehash, False de lo contrario
+	 */
+	public boolean isStatisticsEnabled( )
+	{
+		return rehashes != null;
+	}
+	
+	/**
+	 * Retorna un iterador que recorre las entradas de la HashTable por medio de {@link #cursor()}<br>
+	 * Se crea una {@link Entry} por cada entrada recorrida
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator( )
+	{
+		return new ICursor.Iterador<>( cursor( ) );
+	}
+	
+	/**
+	 * Retorna el histograma de la longitud de las cadenas del arreglo, para {@link #getStatistics()}.
+	 * Las HashTables con cadenas lo sobreescriben
+	 *
+	 * @return Histograma de longitudes de cadena, vacio por defecto
+	 */
+	protected long[ ] longitudesCadena( )
+	{
+		return new long[ 0 ];
+	}
+	
+	/**
+	 * Retorna el histograma del numero de posiciones que recorre la busqueda de cada entrada, para {@link #getStatistics()}.
+	 * Las HashTables de direccionamiento abierto lo sobreescriben
+	 *
+	 * @return Histograma de longitudes de sondeo, vacio por defecto
+	 */
+	protected long[ ] longitudesSondeo( )
+	{
+		return new long[ 0 ];
+	}
+	
+	/**
+	 * Retorna el numero de posiciones marcadas (Flags) del arreglo, para {@link #getStatistics()}
+	 *
+	 * @return Numero de marcas, 0 por defecto
+	 */
+	protected int marcas( )
+	{
+		return 0;
+	}
+	
+	/**
+	 * Realiza un rehash por la causa dada. Si las estadisticas estan activadas se cuenta el rehash y se mide su duracion
+	 *
+	 * @param nuevaCapacidad Capacidad del nuevo arreglo
+	 * @param causa Causa del rehash: {@link #CRECER}, {@link #REDUCIR}, {@link #LIMPIAR} o {@link #AJUSTAR}
+	 */
+	protected void reconstruir( int nuevaCapacidad, int causa )
+	{
+		if( rehashes == null )
+		{
+			rehash( nuevaCapacidad );
+			return;
+		}
+		long inicio = System.nanoTime( );
+		rehash( nuevaCapacidad );
+		tiempoRehash += System.nanoTime( ) - inicio;
+		rehashes[ causa ]++;
+	}
+	
+	/**
+	 * Suma una entrada de la longitud dada al histograma, extendiendolo si es necesario
+	 *
+	 * @param histograma Histograma a modificar
+	 * @param longitud Longitud de la entrada
+	 * @return El histograma, o una copia extendida si la longitud no cabia
+	 */
+	protected static long[ ] contar( long[ ] histograma, int longitud )
+	{
+		if( longitud >= histograma.length )
+		{
+			histograma = Arrays.copyOf( histograma, Math.max( longitud + 1, histograma.length * 2 ) );
+		}
+		histograma[ longitud ]++;
+		return histograma;
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable, reubicando las entradas en un arreglo de la capacidad dada
+	 *
+	 * @param nuevaCapacidad Capacidad del nuevo arreglo. Debe poder contener todos los elementos
+	 */
+	protected abstract void rehash( int nuevaCapacidad );
+	
+	/**
+	 * Establece la politica de capacidad de la HashTable
+	 *
+	 * @param capacityPolicy Nueva politica de capacidad
+	 */
+	public void setCapacityPolicy( ICapacityPolicy capacityPolicy )
+	{
+		if( capacityPolicy == null )
+		{
+			throw new NullPointerException( "The policy cannot be null" );
+		}
+		this.capacityPolicy = capacityPolicy;
+	}
+	
+	/**
+	 * Activa o desactiva el registro de los rehash: cuantos se realizan por cada causa y cuanto tiempo toman<br>
+	 * Desactivadas, el unico costo es verificar un campo en cada rehash. Activarlas reinicia los contadores
+	 *
+	 * @param enabled True para registrar los rehash, False para dejar de registrarlos
+	 */
+	public void setStatisticsEnabled( boolean enabled )
+	{
+		rehashes = enabled ? new long[ 4 ] : null;
+		tiempoRehash = 0;
+	}
+	
+	/**
+	 * Establece la funcion que dispersa los bits del HashCode de las llaves
+	 *
+	 * @param spreader Nueva funcion de dispersion
+	 * @throws IllegalOperationException Si la HashTable no esta vacia, ya que los hash almacenados dejarian de ser validos
+	 */
+	public void setHashSpreader( IHashSpreader spreader )
+	{
+		if( spreader == null )
+		{
+			throw new NullPointerException( "The spreader cannot be null" );
+		}
+		if( !isEmpty( ) )
+		{
+			throw new IllegalOperationException( "The spreader can only be changed on an empty HashTable" );
+		}
+		this.spreader = spreader;
+	}
+	
 	/**
 	 * Establece las clases a utilizar en el uso de varargs {@link #add(Object...)}
 	 *
@@ -100,7 +440,57 @@ public abstract class AbstractHashTable<N, K, V> implements IHashTable<K, V>
 	 */
 	protected int hash( K key )
 	{
-		return ( key.hashCode( ) & 0x7FFFFFFF ) % arreglo.length;
+		return indice( dispersar( key ) );
+	}
+	
+	/**
+	 * Retorna el hash disperso de la llave dada por parametro
+	 *
+	 * @param key Llave de la cual se calculará el HashCode
+	 * @return Hash de la llave, dispersado con la funcion de dispersion de la HashTable
+	 */
+	protected int dispersar( K key )
+	{
+		return spreader.spread( key.hashCode( ) );
+	}
+	
+	/**
+	 * Retorna el hash disperso de cada una de las llaves del lote dado por parametro
+	 *
+	 * @param keys Llaves del lote
+	 * @return Arreglo con el hash de cada llave, en el mismo orden del lote
+	 * @throws NullPointerException Si alguna llave es null
+	 */
+	protected int[ ] dispersar( K[ ] keys )
+	{
+		int[ ] hashes = new int[ keys.length ];
+		for( int i = 0; i < keys.length; i++ )
+		{
+			hashes[ i ] = dispersar( verificarLlave( keys[ i ] ) );
+		}
+		return hashes;
+	}
+	
+	/**
+	 * Retorna el indice en el arreglo que corresponde al hash dado por parametro
+	 *
+	 * @param hash Hash calculado con {@link #dispersar(Object)}
+	 * @return Indice en el arreglo que corresponde al hash
+	 */
+	protected int indice( int hash )
+	{
+		return hash & ( arreglo.length - 1 );
+	}
+	
+	/**
+	 * Retorna el tamaño de arreglo valido para la capacidad dada: la menor potencia de dos mayor o igual a esta
+	 *
+	 * @param capacidad Capacidad deseada
+	 * @return Potencia de dos mayor o igual a la capacidad, al menos 1
+	 */
+	protected static int tamanoArreglo( int capacidad )
+	{
+		return ICapacityPolicy.Geometric.potencia( capacidad );
 	}
 	
 	@Override
@@ -109,15 +499,132 @@ public abstract class AbstractHashTable<N, K, V> implements IHashTable<K, V>
 		return size;
 	}
 	
+	/**
+	 * Reduce la capacidad del arreglo al minimo que permite la politica de capacidad para los elementos actuales
+	 */
+	public void trimToSize( )
+	{
+		int nuevaCapacidad = tamanoArreglo( capacityPolicy.fit( capacidadPara( size + 1 ) ) );
+		if( nuevaCapacidad < arreglo.length )
+		{
+			reconstruir( nuevaCapacidad, AJUSTAR );
+		}
+	}
+	
 	public Iterable<Entry<K, V>> elements( )
 	{
 		return entries( );
 	}
 	
-	@SuppressWarnings( "unchecked" )
 	public void clear( )
 	{
 		size = 0;
-		arreglo = ( N[ ] ) new Object[ capacidad ];
+		arreglo = crearArreglo( capacidad );
+	}
+	
+	@Override
+	public void getAll( K[ ] keys, V[ ] out )
+	{
+		verificarLote( keys, out );
+		for( int i = 0; i < keys.length; i++ )
+		{
+			out[ i ] = get( keys[ i ] );
+		}
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		V value = get( key );
+		return value != null ? value : defaultValue;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		V old = get( key );
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo != null )
+		{
+			put( key, nuevo );
+		}
+		else
+		{
+			delete( key );
+		}
+		return nuevo;
+	}
+	
+	/**
+	 * Reserva la capacidad para el lote completo con {@link #ensureCapacity(int)} y luego agrega cada entrada
+	 */
+	@Override
+	public void putAll( K[ ] keys, V[ ] values )
+	{
+		verificarLote( keys, values );
+		ensureCapacity( size + keys.length );
+		for( int i = 0; i < keys.length; i++ )
+		{
+			put( keys[ i ], values[ i ] );
+		}
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		V old = get( key );
+		if( old == null )
+		{
+			put( key, value );
+		}
+		return old;
+	}
+	
+	/**
+	 * Verifica que la llave no sea null, ya que en las HashTables de arreglos planos null representa una posicion vacia
+	 *
+	 * @param key Llave a verificar
+	 * @return La misma llave
+	 * @throws NullPointerException Si la llave es null
+	 */
+	protected K verificarLlave( K key )
+	{
+		if( key == null )
+		{
+			throw new NullPointerException( "La llave no puede ser null" );
+		}
+		return key;
+	}
+	
+	/**
+	 * Verifica que los arreglos de un lote tengan la misma longitud
+	 *
+	 * @param keys Llaves del lote
+	 * @param values Valores del lote
+	 * @throws IllegalArgumentException Si los arreglos no tienen la misma longitud
+	 */
+	protected static void verificarLote( Object[ ] keys, Object[ ] values )
+	{
+		if( keys.length != values.length )
+		{
+			throw new IllegalArgumentException( "The keys and values arrays must have the same length" );
+		}
+	}
+	
+	/**
+	 * Verifica que el valor dado a {@link #merge(Object, Object, BiFunction)} no sea null
+	 *
+	 * @param value Valor a verificar
+	 * @return El mismo valor
+	 * @throws NullPointerException Si el valor es null
+	 */
+	protected V verificarValor( V value )
+	{
+		if( value == null )
+		{
+			throw new NullPointerException( "El valor no puede ser null" );
+		}
+		return value;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,746 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable acotada que funciona como cache<br>
+ * Cada entrada tiene un peso (1 por defecto, ver {@link IWeigher}) y la suma de los pesos nunca supera el peso maximo.
+ * Las entradas se encadenan en el arreglo con Separate-Chaining y, a la vez, en una lista doblemente encadenada en orden de uso.
+ * Ambos enlaces estan en el mismo nodo, por lo que mover una entrada al final de la lista o expulsar la menos usada es O(1)
+ * y consultar una entrada no crea objetos<br>
+ * Cuando la cache esta llena se expulsa la entrada usada hace mas tiempo (LRU). Opcionalmente una {@link IAdmissionPolicy}
+ * decide si una entrada nueva merece reemplazarla, y un {@link IEvictionListener} recibe las entradas expulsadas.
+ * La cache cuenta los aciertos, los fallos y las expulsiones de {@link #get(Object)} y {@link #computeIfAbsent(Object, Function)}<br>
+ * No se permiten llaves ni valores null
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings(
+{
+		"unchecked",
+		"rawtypes",
+} )
+public class CacheTable<K, V> extends AbstractHashTable<CacheTable<K, V>.NodoCache, K, V>
+{
+	/**
+	 * Clase que modela una entrada de la cache<br>
+	 * Pertenece a la cadena de su posicion del arreglo y a la lista en orden de uso
+	 *
+	 * @author dnarvaez27
+	 */
+	public class NodoCache extends Entry<K, V>
+	{
+		/**
+		 * Hash de la llave del nodo, calculado con {@link AbstractHashTable#dispersar(Object)}
+		 */
+		private int hash;
+		
+		/**
+		 * Peso de la entrada
+		 */
+		private int peso;
+		
+		/**
+		 * Siguiente nodo de la cadena, null si es el ultimo
+		 */
+		private NodoCache siguiente;
+		
+		/**
+		 * Nodo usado justo antes que este en la lista en orden de uso
+		 */
+		private NodoCache anterior;
+		
+		/**
+		 * Nodo usado justo despues que este en la lista en orden de uso
+		 */
+		private NodoCache posterior;
+		
+		/**
+		 * Construye un nodo a partir de la informacion dada por parametro
+		 *
+		 * @param key Llave del nodo
+		 * @param value Valor del nodo
+		 * @param hash Hash de la llave
+		 * @param peso Peso de la entrada
+		 */
+		private NodoCache( K key, V value, int hash, int peso )
+		{
+			super( key, value );
+			this.hash = hash;
+			this.peso = peso;
+		}
+	}
+	
+	/**
+	 * Cursor que recorre la lista en orden de uso, desde la entrada usada hace mas tiempo
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Nodo actual, null si el cursor aun no ha avanzado
+		 */
+		private NodoCache actual;
+		
+		@Override
+		public boolean advance( )
+		{
+			if( actual != centinela )
+			{
+				actual = actual == null ? centinela.posterior : actual.posterior;
+			}
+			return actual != centinela;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return posicionado( ).getKey( );
+		}
+		
+		/**
+		 * Retorna el nodo actual
+		 *
+		 * @return Nodo actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private NodoCache posicionado( )
+		{
+			if( ( actual == null ) || ( actual == centinela ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return actual;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			actual = null;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return posicionado( ).getValue( );
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Nodo centinela de la lista en orden de uso. Su posterior es la entrada usada hace mas tiempo
+	 * y su anterior la usada mas recientemente
+	 */
+	private final NodoCache centinela;
+	
+	/**
+	 * Peso maximo de la cache
+	 */
+	private long maximo;
+	
+	/**
+	 * Suma de los pesos de las entradas
+	 */
+	private long peso;
+	
+	/**
+	 * Funcion que calcula el peso de las entradas, null si cada entrada pesa 1
+	 */
+	private IWeigher<K, V> weigher;
+	
+	/**
+	 * Politica de admision de las entradas nuevas, null si siempre se admiten
+	 */
+	private IAdmissionPolicy admision;
+	
+	/**
+	 * Receptor de las entradas expulsadas, null si no se notifican
+	 */
+	private IEvictionListener<K, V> listener;
+	
+	/**
+	 * Numero de consultas que encontraron la llave
+	 */
+	private long aciertos;
+	
+	/**
+	 * Numero de consultas que no encontraron la llave
+	 */
+	private long fallos;
+	
+	/**
+	 * Numero de entradas expulsadas o rechazadas por falta de capacidad
+	 */
+	private long expulsiones;
+	
+	/**
+	 * Construye una cache con el numero maximo de entradas dado
+	 *
+	 * @param maximumSize Numero maximo de entradas
+	 * @throws IllegalArgumentException Si el maximo no es positivo
+	 */
+	public CacheTable( long maximumSize )
+	{
+		this( maximumSize, null );
+	}
+	
+	/**
+	 * Construye una cache con el peso maximo dado, donde el peso de cada entrada lo calcula el IWeigher dado
+	 *
+	 * @param maximumWeight Peso maximo de la cache
+	 * @param weigher Funcion que calcula el peso de las entradas, null si cada entrada pesa 1
+	 * @throws IllegalArgumentException Si el maximo no es positivo
+	 */
+	public CacheTable( long maximumWeight, IWeigher<K, V> weigher )
+	{
+		super( TAMANO, 0.75f );
+		if( maximumWeight <= 0 )
+		{
+			throw new IllegalArgumentException( "The maximum weight must be positive" );
+		}
+		this.maximo = maximumWeight;
+		this.weigher = weigher;
+		this.centinela = new NodoCache( null, null, 0, 0 );
+		centinela.anterior = centinela;
+		centinela.posterior = centinela;
+		arreglo = crearArreglo( tamanoArreglo( TAMANO ) );
+	}
+	
+	/**
+	 * Actualiza el valor del nodo dado, recalculando su peso y marcandolo como el usado mas recientemente
+	 *
+	 * @param nodo Nodo a actualizar
+	 * @param value Nuevo valor del nodo
+	 * @return Valor anterior del nodo
+	 */
+	private V actualizar( NodoCache nodo, V value )
+	{
+		V old = nodo.getValue( );
+		int nuevo = pesar( nodo.getKey( ), value );
+		peso += nuevo - nodo.peso;
+		nodo.peso = nuevo;
+		nodo.setValue( value );
+		promover( nodo );
+		expulsar( );
+		return old;
+	}
+	
+	/**
+	 * Retorna el nodo con la llave dada por parametro, sin registrar el acceso
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Nodo con la llave, null si la llave no se encuentra
+	 */
+	private NodoCache buscar( K key, int hash )
+	{
+		NodoCache nodo = arreglo[ indice( hash ) ];
+		while( ( nodo != null ) && ( ( nodo.hash != hash ) || !nodo.getKey( ).equals( key ) ) )
+		{
+			nodo = nodo.siguiente;
+		}
+		return nodo;
+	}
+	
+	/**
+	 * Elimina todas las entradas de la cache, sin notificarlas. Los contadores se mantienen
+	 */
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		centinela.anterior = centinela;
+		centinela.posterior = centinela;
+		peso = 0;
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = registrar( key );
+		NodoCache nodo = buscar( key, hash );
+		V value = funcion.apply( key, nodo != null ? nodo.getValue( ) : null );
+		if( value == null )
+		{
+			if( nodo != null )
+			{
+				eliminar( nodo );
+				reducir( );
+			}
+		}
+		else if( nodo != null )
+		{
+			actualizar( nodo, value );
+		}
+		else
+		{
+			insertar( key, hash, value );
+		}
+		return value;
+	}
+	
+	/**
+	 * Retorna el valor de la llave o, si no se encuentra, lo calcula y lo agrega a la cache<br>
+	 * Cuenta como un acierto o un fallo, igual que {@link #get(Object)}. Si la politica de admision rechaza la entrada nueva,
+	 * el valor calculado se retorna aunque no quede en la cache
+	 */
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = registrar( key );
+		NodoCache nodo = buscar( key, hash );
+		if( nodo != null )
+		{
+			aciertos++;
+			promover( nodo );
+			return nodo.getValue( );
+		}
+		fallos++;
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			insertar( key, hash, value );
+		}
+		return value;
+	}
+	
+	@Override
+	protected NodoCache[ ] crearArreglo( int capacidad )
+	{
+		return new CacheTable.NodoCache[ capacidad ];
+	}
+	
+	/**
+	 * Retorna un cursor que recorre las entradas en orden de uso, desde la usada hace mas tiempo.
+	 * Recorrer la cache no modifica el orden de uso
+	 */
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	/**
+	 * Elimina la entrada de la llave dada, sin notificarla como expulsada
+	 */
+	@Override
+	public V delete( K key )
+	{
+		NodoCache nodo = buscar( key, dispersar( verificarLlave( key ) ) );
+		if( nodo == null )
+		{
+			return null;
+		}
+		eliminar( nodo );
+		reducir( );
+		return nodo.getValue( );
+	}
+	
+	/**
+	 * Retira el nodo dado de su cadena y de la lista en orden de uso
+	 *
+	 * @param nodo Nodo a retirar
+	 */
+	private void eliminar( NodoCache nodo )
+	{
+		int index = indice( nodo.hash );
+		if( arreglo[ index ] == nodo )
+		{
+			arreglo[ index ] = nodo.siguiente;
+		}
+		else
+		{
+			NodoCache previo = arreglo[ index ];
+			while( previo.siguiente != nodo )
+			{
+				previo = previo.siguiente;
+			}
+			previo.siguiente = nodo.siguiente;
+		}
+		nodo.siguiente = null;
+		nodo.anterior.posterior = nodo.posterior;
+		nodo.posterior.anterior = nodo.anterior;
+		peso -= nodo.peso;
+		size--;
+	}
+	
+	/**
+	 * Agrega el nodo dado al final de la lista en orden de uso, como el usado mas recientemente
+	 *
+	 * @param nodo Nodo a enlazar
+	 */
+	private void enlazar( NodoCache nodo )
+	{
+		nodo.anterior = centinela.anterior;
+		nodo.posterior = centinela;
+		centinela.anterior.posterior = nodo;
+		centinela.anterior = nodo;
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la cache en orden de uso, desde la usada hace mas tiempo
+	 */
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( NodoCache nodo = centinela.posterior; nodo != centinela; nodo = nodo.posterior )
+		{
+			list.add( new Entry<>( nodo.getKey( ), nodo.getValue( ) ) );
+		}
+		return list;
+	}
+	
+	/**
+	 * Retorna el numero de entradas expulsadas o rechazadas por falta de capacidad
+	 *
+	 * @return Numero de expulsiones
+	 */
+	public long evictionCount( )
+	{
+		return expulsiones;
+	}
+	
+	/**
+	 * Expulsa las entradas usadas hace mas tiempo hasta que el peso de la cache no supere el maximo
+	 */
+	private void expulsar( )
+	{
+		while( peso > maximo )
+		{
+			NodoCache victima = centinela.posterior;
+			eliminar( victima );
+			notificar( victima.getKey( ), victima.getValue( ) );
+		}
+	}
+	
+	/**
+	 * Retorna el valor de la llave dada y la marca como la usada mas recientemente<br>
+	 * Cuenta como un acierto o un fallo
+	 */
+	@Override
+	public V get( K key )
+	{
+		NodoCache nodo = buscar( key, registrar( key ) );
+		if( nodo == null )
+		{
+			fallos++;
+			return null;
+		}
+		aciertos++;
+		promover( nodo );
+		return nodo.getValue( );
+	}
+	
+	/**
+	 * Retorna la politica de admision de la cache
+	 *
+	 * @return Politica de admision, null si las entradas nuevas siempre se admiten
+	 */
+	public IAdmissionPolicy getAdmissionPolicy( )
+	{
+		return admision;
+	}
+	
+	/**
+	 * Retorna el peso maximo de la cache
+	 *
+	 * @return Peso maximo de la cache
+	 */
+	public long getMaximumWeight( )
+	{
+		return maximo;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		V value = get( key );
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Retorna el numero de consultas que encontraron la llave
+	 *
+	 * @return Numero de aciertos
+	 */
+	public long hitCount( )
+	{
+		return aciertos;
+	}
+	
+	/**
+	 * Agrega una entrada nueva como la usada mas recientemente y expulsa las entradas necesarias<br>
+	 * Si la entrada pesa mas que el maximo, o la politica de admision prefiere a la victima, la entrada se rechaza
+	 * y se notifica como expulsada<br>
+	 * <b>pre:</b> La llave no se encuentra en la cache
+	 *
+	 * @param key Llave de la entrada
+	 * @param hash Hash de la llave
+	 * @param value Valor de la entrada
+	 */
+	private void insertar( K key, int hash, V value )
+	{
+		int pesoEntrada = pesar( key, value );
+		if( ( pesoEntrada > maximo ) || ( ( admision != null ) && ( ( peso + pesoEntrada ) > maximo ) && !admision.admit( hash, centinela.posterior.hash ) ) )
+		{
+			notificar( key, value );
+			return;
+		}
+		NodoCache nodo = new NodoCache( key, value, hash, pesoEntrada );
+		int index = indice( hash );
+		nodo.siguiente = arreglo[ index ];
+		arreglo[ index ] = nodo;
+		enlazar( nodo );
+		peso += pesoEntrada;
+		size++;
+		if( ( ( float ) size / ( float ) arreglo.length ) > loadFactor )
+		{
+			crecer( );
+		}
+		expulsar( );
+	}
+	
+	@Override
+	protected long[ ] longitudesCadena( )
+	{
+		long[ ] histograma = new long[ 8 ];
+		for( NodoCache nodo : arreglo )
+		{
+			int longitud = 0;
+			for( ; nodo != null; nodo = nodo.siguiente )
+			{
+				longitud++;
+			}
+			histograma = contar( histograma, longitud );
+		}
+		return histograma;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		int hash = registrar( key );
+		NodoCache nodo = buscar( key, hash );
+		if( nodo == null )
+		{
+			insertar( key, hash, value );
+			return value;
+		}
+		V nuevo = funcion.apply( nodo.getValue( ), value );
+		if( nuevo == null )
+		{
+			eliminar( nodo );
+			reducir( );
+		}
+		else
+		{
+			actualizar( nodo, nuevo );
+		}
+		return nuevo;
+	}
+	
+	/**
+	 * Retorna el numero de consultas que no encontraron la llave
+	 *
+	 * @return Numero de fallos
+	 */
+	public long missCount( )
+	{
+		return fallos;
+	}
+	
+	/**
+	 * Cuenta una expulsion y la notifica al receptor de la cache
+	 *
+	 * @param key Llave de la entrada expulsada
+	 * @param value Valor de la entrada expulsada
+	 */
+	private void notificar( K key, V value )
+	{
+		expulsiones++;
+		if( listener != null )
+		{
+			listener.onEviction( key, value );
+		}
+	}
+	
+	/**
+	 * Retorna el peso de la entrada dada
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return Peso de la entrada
+	 * @throws IllegalArgumentException Si el peso es negativo
+	 */
+	private int pesar( K key, V value )
+	{
+		if( weigher == null )
+		{
+			return 1;
+		}
+		int pesoEntrada = weigher.weigh( key, value );
+		if( pesoEntrada < 0 )
+		{
+			throw new IllegalArgumentException( "The weight cannot be negative" );
+		}
+		return pesoEntrada;
+	}
+	
+	/**
+	 * Mueve el nodo dado al final de la lista en orden de uso, como el usado mas recientemente
+	 *
+	 * @param nodo Nodo a mover
+	 */
+	private void promover( NodoCache nodo )
+	{
+		if( centinela.anterior != nodo )
+		{
+			nodo.anterior.posterior = nodo.posterior;
+			nodo.posterior.anterior = nodo.anterior;
+			enlazar( nodo );
+		}
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		verificarValor( value );
+		int hash = registrar( key );
+		NodoCache nodo = buscar( key, hash );
+		if( nodo != null )
+		{
+			return actualizar( nodo, value );
+		}
+		insertar( key, hash, value );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		verificarValor( value );
+		int hash = registrar( key );
+		NodoCache nodo = buscar( key, hash );
+		if( nodo != null )
+		{
+			promover( nodo );
+			return nodo.getValue( );
+		}
+		insertar( key, hash, value );
+		return null;
+	}
+	
+	/**
+	 * Reubica los nodos en un arreglo de la capacidad dada, recorriendo la lista en orden de uso
+	 *
+	 * @param nuevaCapacidad Capacidad del nuevo arreglo
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		arreglo = crearArreglo( nuevaCapacidad );
+		for( NodoCache nodo = centinela.posterior; nodo != centinela; nodo = nodo.posterior )
+		{
+			int index = indice( nodo.hash );
+			nodo.siguiente = arreglo[ index ];
+			arreglo[ index ] = nodo;
+		}
+	}
+	
+	/**
+	 * Calcula el hash de la llave y registra el acceso en la politica de admision
+	 *
+	 * @param key Llave accedida
+	 * @return Hash disperso de la llave
+	 * @throws NullPointerException Si la llave es null
+	 */
+	private int registrar( K key )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		if( admision != null )
+		{
+			admision.record( hash );
+		}
+		return hash;
+	}
+	
+	/**
+	 * Establece la politica de admision de las entradas nuevas
+	 *
+	 * @param admissionPolicy Politica de admision, null para admitir siempre las entradas nuevas
+	 */
+	public void setAdmissionPolicy( IAdmissionPolicy admissionPolicy )
+	{
+		this.admision = admissionPolicy;
+	}
+	
+	/**
+	 * Establece el receptor de las entradas expulsadas
+	 *
+	 * @param listener Receptor de las entradas expulsadas, null para no notificarlas
+	 */
+	public void setEvictionListener( IEvictionListener<K, V> listener )
+	{
+		this.listener = listener;
+	}
+	
+	/**
+	 * Establece el peso maximo de la cache, expulsando las entradas necesarias si el nuevo maximo es menor
+	 *
+	 * @param maximumWeight Nuevo peso maximo
+	 * @throws IllegalArgumentException Si el maximo no es positivo
+	 */
+	public void setMaximumWeight( long maximumWeight )
+	{
+		if( maximumWeight <= 0 )
+		{
+			throw new IllegalArgumentException( "The maximum weight must be positive" );
+		}
+		this.maximo = maximumWeight;
+		expulsar( );
+	}
+	
+	/**
+	 * Retorna una representacion de la cache<br>
+	 * Las entradas se representan como <i>llave:valor</i> en orden de uso, desde la usada hace mas tiempo
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( NodoCache nodo = centinela.posterior; nodo != centinela; nodo = nodo.posterior )
+		{
+			sBuilder.append( nodo.getKey( ) + ":" + nodo.getValue( ) );
+			if( nodo.posterior != centinela )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Retorna la suma de los pesos de las entradas de la cache
+	 *
+	 * @return Peso actual de la cache
+	 */
+	public long weight( )
+	{
+		return peso;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,961 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable segura para el uso desde multiples hilos<br>
+ * Las llaves se reparten en segmentos, cada uno con su propio candado y su propio arreglo de SeparateChaining.
+ * Las escrituras solo bloquean el segmento de la llave y cada segmento crece por separado.
+ * Las lecturas no toman candados: los arreglos y los valores se publican de forma volatil y los nodos de una cadena
+ * no se modifican despues de publicados (las remociones copian los nodos anteriores al eliminado).
+ * Las operaciones compuestas ({@link #compute(Object, BiFunction)}, {@link #merge(Object, Object, BiFunction)}, etc.)
+ * son atomicas: se realizan con el candado del segmento tomado, por lo que sus funciones deben ser cortas<br>
+ * No se permiten llaves null
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+public class ConcurrentHashTable<K, V> implements IHashTable<K, V>
+{
+	/**
+	 * Nodo de la cadena de un segmento<br>
+	 * La llave, el hash y el siguiente nodo son finales, por lo que un lector siempre ve una cadena consistente
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de la llave
+	 * @param <V> Tipo del valor
+	 */
+	private static final class Nodo<K, V>
+	{
+		/**
+		 * Llave del nodo
+		 */
+		private final K key;
+		
+		/**
+		 * Hash disperso de la llave
+		 */
+		private final int hash;
+		
+		/**
+		 * Siguiente nodo de la cadena
+		 */
+		private final Nodo<K, V> next;
+		
+		/**
+		 * Valor del nodo. Es volatil para que los lectores vean los reemplazos sin tomar el candado
+		 */
+		private volatile V value;
+		
+		/**
+		 * Construye un nodo de la cadena
+		 *
+		 * @param key Llave del nodo
+		 * @param hash Hash disperso de la llave
+		 * @param next Siguiente nodo de la cadena
+		 * @param value Valor del nodo
+		 */
+		private Nodo( K key, int hash, Nodo<K, V> next, V value )
+		{
+			this.key = key;
+			this.hash = hash;
+			this.next = next;
+			this.value = value;
+		}
+	}
+	
+	/**
+	 * Segmento de la HashTable. Es una HashTable con SeparateChaining protegida por su propio candado
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de las llaves
+	 * @param <V> Tipo de los valores
+	 */
+	@SuppressWarnings( "serial" )
+	private static final class Segmento<K, V> extends ReentrantLock
+	{
+		/**
+		 * Cantidad de elementos del segmento. Se escribe con el candado tomado y se lee sin el
+		 */
+		private volatile int count;
+		
+		/**
+		 * Arreglo de cadenas del segmento. Se reemplaza completo al crecer
+		 */
+		private volatile AtomicReferenceArray<Nodo<K, V>> tabla;
+		
+		/**
+		 * Factor de carga del segmento
+		 */
+		private final float loadFactor;
+		
+		/**
+		 * Cantidad de elementos a partir de la cual el segmento crece
+		 */
+		private int umbral;
+		
+		/**
+		 * Construye un segmento vacio
+		 *
+		 * @param capacidad Capacidad inicial del arreglo, potencia de dos
+		 * @param loadFactor Factor de carga del segmento
+		 */
+		private Segmento( int capacidad, float loadFactor )
+		{
+			this.loadFactor = loadFactor;
+			inicializar( capacidad );
+		}
+		
+		/**
+		 * Retorna el nodo de la llave dada en la cadena que empieza en el nodo dado
+		 *
+		 * @param first Primer nodo de la cadena
+		 * @param key Llave a buscar
+		 * @param hash Hash disperso de la llave
+		 * @return Nodo de la llave, null si no se encuentra
+		 */
+		private Nodo<K, V> buscar( Nodo<K, V> first, Object key, int hash )
+		{
+			Nodo<K, V> nodo = first;
+			while( ( nodo != null ) && ( ( nodo.hash != hash ) || !nodo.key.equals( key ) ) )
+			{
+				nodo = nodo.next;
+			}
+			return nodo;
+		}
+		
+		/**
+		 * Elimina todas las entradas del segmento
+		 */
+		private void clear( )
+		{
+			lock( );
+			try
+			{
+				inicializar( tabla.length( ) );
+				count = 0;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Calcula el nuevo valor de la llave a partir de su valor actual, con el candado tomado
+		 *
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @param funcion Funcion que recibe la llave y su valor actual y retorna el nuevo valor
+		 * @return Nuevo valor de la llave, null si no quedo asociada a ningun valor
+		 */
+		private V compute( K key, int hash, BiFunction<? super K, ? super V, ? extends V> funcion )
+		{
+			lock( );
+			try
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				int index = hash & ( tab.length( ) - 1 );
+				Nodo<K, V> first = tab.get( index );
+				Nodo<K, V> nodo = buscar( first, key, hash );
+				V value = funcion.apply( key, nodo != null ? nodo.value : null );
+				if( value == null )
+				{
+					if( nodo != null )
+					{
+						eliminar( tab, index, first, nodo );
+					}
+				}
+				else if( nodo != null )
+				{
+					nodo.value = value;
+				}
+				else
+				{
+					insertar( tab, index, first, key, hash, value );
+				}
+				return value;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Si la llave no se encuentra, calcula su valor y lo agrega, con el candado tomado
+		 *
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @param funcion Funcion que recibe la llave y retorna su valor
+		 * @return Valor actual de la llave, o el valor calculado si no existia
+		 */
+		private V computeIfAbsent( K key, int hash, Function<? super K, ? extends V> funcion )
+		{
+			lock( );
+			try
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				int index = hash & ( tab.length( ) - 1 );
+				Nodo<K, V> first = tab.get( index );
+				Nodo<K, V> nodo = buscar( first, key, hash );
+				if( ( nodo != null ) && ( nodo.value != null ) )
+				{
+					return nodo.value;
+				}
+				V value = funcion.apply( key );
+				if( value != null )
+				{
+					if( nodo != null )
+					{
+						nodo.value = value;
+					}
+					else
+					{
+						insertar( tab, index, first, key, hash, value );
+					}
+				}
+				return value;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Elimina la entrada de la llave dada
+		 *
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @return Valor eliminado, null si la llave no se encontraba
+		 */
+		private V delete( Object key, int hash )
+		{
+			lock( );
+			try
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				int index = hash & ( tab.length( ) - 1 );
+				Nodo<K, V> first = tab.get( index );
+				Nodo<K, V> nodo = buscar( first, key, hash );
+				if( nodo == null )
+				{
+					return null;
+				}
+				eliminar( tab, index, first, nodo );
+				return nodo.value;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Elimina el nodo dado de su cadena. Se debe llamar con el candado tomado<br>
+		 * Los nodos anteriores al eliminado se copian para no modificar la cadena publicada
+		 *
+		 * @param tab Arreglo del segmento
+		 * @param index Indice de la cadena
+		 * @param first Primer nodo de la cadena
+		 * @param nodo Nodo a eliminar
+		 */
+		private void eliminar( AtomicReferenceArray<Nodo<K, V>> tab, int index, Nodo<K, V> first, Nodo<K, V> nodo )
+		{
+			Nodo<K, V> cadena = nodo.next;
+			for( Nodo<K, V> actual = first; actual != nodo; actual = actual.next )
+			{
+				cadena = new Nodo<>( actual.key, actual.hash, cadena, actual.value );
+			}
+			tab.set( index, cadena );
+			count = count - 1;
+		}
+		
+		/**
+		 * Retorna el valor de la llave dada sin tomar el candado
+		 *
+		 * @param key Llave de interes
+		 * @param hash Hash disperso de la llave
+		 * @return Valor de la llave, null si no se encuentra
+		 */
+		private V get( Object key, int hash )
+		{
+			if( count != 0 )
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				Nodo<K, V> nodo = tab.get( hash & ( tab.length( ) - 1 ) );
+				while( nodo != null )
+				{
+					if( ( nodo.hash == hash ) && nodo.key.equals( key ) )
+					{
+						return nodo.value;
+					}
+					nodo = nodo.next;
+				}
+			}
+			return null;
+		}
+		
+		/**
+		 * Crea un arreglo vacio de la capacidad dada y actualiza el umbral
+		 *
+		 * @param capacidad Capacidad del arreglo, potencia de dos
+		 */
+		private void inicializar( int capacidad )
+		{
+			umbral = ( int ) ( capacidad * loadFactor );
+			tabla = new AtomicReferenceArray<>( capacidad );
+		}
+		
+		/**
+		 * Agrega un nodo al inicio de la cadena dada. Se debe llamar con el candado tomado<br>
+		 * Si el segmento supera su umbral, primero crece y la cadena se toma del nuevo arreglo
+		 *
+		 * @param tab Arreglo del segmento
+		 * @param index Indice de la cadena
+		 * @param first Primer nodo de la cadena
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @param value Valor de la entrada
+		 */
+		private void insertar( AtomicReferenceArray<Nodo<K, V>> tab, int index, Nodo<K, V> first, K key, int hash, V value )
+		{
+			if( ( count + 1 ) > umbral )
+			{
+				tab = rehash( );
+				index = hash & ( tab.length( ) - 1 );
+				first = tab.get( index );
+			}
+			tab.set( index, new Nodo<>( key, hash, first, value ) );
+			count = count + 1;
+		}
+		
+		/**
+		 * Si la llave no se encuentra, le asocia el valor dado. De lo contrario lo combina con su valor actual, con el candado tomado
+		 *
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @param value Valor a asociar o combinar
+		 * @param funcion Funcion que recibe el valor actual y el valor dado y retorna el nuevo valor
+		 * @return Nuevo valor de la llave, null si no quedo asociada a ningun valor
+		 */
+		private V merge( K key, int hash, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+		{
+			lock( );
+			try
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				int index = hash & ( tab.length( ) - 1 );
+				Nodo<K, V> first = tab.get( index );
+				Nodo<K, V> nodo = buscar( first, key, hash );
+				V old = nodo != null ? nodo.value : null;
+				V nuevo = old != null ? funcion.apply( old, value ) : value;
+				if( nuevo == null )
+				{
+					eliminar( tab, index, first, nodo );
+				}
+				else if( nodo != null )
+				{
+					nodo.value = nuevo;
+				}
+				else
+				{
+					insertar( tab, index, first, key, hash, nuevo );
+				}
+				return nuevo;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Agrega o reemplaza la entrada de la llave dada
+		 *
+		 * @param key Llave de la entrada
+		 * @param hash Hash disperso de la llave
+		 * @param value Valor de la entrada
+		 * @param soloSiAusente True si solo se agrega el valor cuando la llave no tiene valor
+		 * @return Valor anterior de la llave, null si no existia
+		 */
+		private V put( K key, int hash, V value, boolean soloSiAusente )
+		{
+			lock( );
+			try
+			{
+				AtomicReferenceArray<Nodo<K, V>> tab = tabla;
+				int index = hash & ( tab.length( ) - 1 );
+				Nodo<K, V> first = tab.get( index );
+				Nodo<K, V> nodo = buscar( first, key, hash );
+				if( nodo != null )
+				{
+					V old = nodo.value;
+					if( !soloSiAusente || ( old == null ) )
+					{
+						nodo.value = value;
+					}
+					return old;
+				}
+				insertar( tab, index, first, key, hash, value );
+				return null;
+			}
+			finally
+			{
+				unlock( );
+			}
+		}
+		
+		/**
+		 * Duplica la capacidad del segmento. Se debe llamar con el candado tomado<br>
+		 * Como la capacidad es una potencia de dos, cada cadena se reparte en dos posiciones del nuevo arreglo.
+		 * El tramo final de cada cadena que va a una misma posicion se reutiliza, el resto de nodos se copia,
+		 * por lo que los lectores del arreglo anterior no se ven afectados
+		 *
+		 * @return Nuevo arreglo del segmento
+		 */
+		private AtomicReferenceArray<Nodo<K, V>> rehash( )
+		{
+			AtomicReferenceArray<Nodo<K, V>> anterior = tabla;
+			int capacidad = anterior.length( );
+			if( capacidad >= ICapacityPolicy.Geometric.MAXIMO )
+			{
+				return anterior;
+			}
+			AtomicReferenceArray<Nodo<K, V>> nueva = new AtomicReferenceArray<>( capacidad << 1 );
+			int mascara = nueva.length( ) - 1;
+			for( int i = 0; i < capacidad; i++ )
+			{
+				Nodo<K, V> first = anterior.get( i );
+				if( first != null )
+				{
+					Nodo<K, V> tramo = first;
+					int indexTramo = first.hash & mascara;
+					for( Nodo<K, V> nodo = first.next; nodo != null; nodo = nodo.next )
+					{
+						int index = nodo.hash & mascara;
+						if( index != indexTramo )
+						{
+							indexTramo = index;
+							tramo = nodo;
+						}
+					}
+					nueva.set( indexTramo, tramo );
+					for( Nodo<K, V> nodo = first; nodo != tramo; nodo = nodo.next )
+					{
+						int index = nodo.hash & mascara;
+						nueva.set( index, new Nodo<>( nodo.key, nodo.hash, nueva.get( index ), nodo.value ) );
+					}
+				}
+			}
+			umbral = ( int ) ( nueva.length( ) * loadFactor );
+			tabla = nueva;
+			return nueva;
+		}
+	}
+	
+	/**
+	 * Cursor debilmente consistente que recorre los segmentos sin tomar sus candados
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Indice del segmento actual
+		 */
+		private int segmento;
+		
+		/**
+		 * Arreglo del segmento actual, leido al entrar al segmento
+		 */
+		private AtomicReferenceArray<Nodo<K, V>> tab;
+		
+		/**
+		 * Indice de la cadena actual en el arreglo del segmento
+		 */
+		private int index;
+		
+		/**
+		 * Nodo actual del recorrido, null si el cursor no esta posicionado en una entrada
+		 */
+		private Nodo<K, V> actual;
+		
+		/**
+		 * Construye un cursor posicionado antes de la primera entrada
+		 */
+		private Cursor( )
+		{
+			reset( );
+		}
+		
+		@Override
+		public boolean advance( )
+		{
+			if( actual != null )
+			{
+				actual = actual.next;
+			}
+			while( actual == null )
+			{
+				if( ( tab == null ) || ( ++index >= tab.length( ) ) )
+				{
+					if( ++segmento >= segmentos.length )
+					{
+						segmento = segmentos.length;
+						tab = null;
+						return false;
+					}
+					tab = segmentos[ segmento ].tabla;
+					index = 0;
+				}
+				actual = tab.get( index );
+			}
+			return true;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return posicionado( ).key;
+		}
+		
+		/**
+		 * Retorna el nodo actual del recorrido
+		 *
+		 * @return Nodo actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private Nodo<K, V> posicionado( )
+		{
+			if( actual == null )
+			{
+				throw new NoSuchElementException( );
+			}
+			return actual;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			segmento = -1;
+			tab = null;
+			index = -1;
+			actual = null;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return posicionado( ).value;
+		}
+	}
+	
+	/**
+	 * Numero de segmentos por defecto
+	 */
+	public static final int SEGMENTOS = 16;
+	
+	/**
+	 * Tamaño inicial por defecto de la HashTable, repartido entre los segmentos
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Segmentos de la HashTable
+	 */
+	private final Segmento<K, V>[ ] segmentos;
+	
+	/**
+	 * Corrimiento para obtener el segmento a partir de los bits altos del hash
+	 */
+	private final int corrimiento;
+	
+	/**
+	 * Mascara para obtener el segmento a partir del hash corrido
+	 */
+	private final int mascaraSegmento;
+	
+	/**
+	 * Funcion de dispersion de los HashCodes. Los bits altos eligen el segmento y los bajos la posicion,
+	 * por lo que se usa una funcion que mezcla todos los bits
+	 */
+	private final IHashSpreader spreader = new IHashSpreader.Murmur3( );
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO},
+	 * un factor de carga de 0.75 y {@link #SEGMENTOS} segmentos
+	 */
+	public ConcurrentHashTable( )
+	{
+		this( TAMANO, 0.75f, SEGMENTOS );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño, factor de carga y numero de segmentos definidos
+	 *
+	 * @param capacidad Tamaño total inicial, repartido entre los segmentos
+	 * @param loadFactor Factor de carga de cada segmento
+	 * @param segmentos Numero de segmentos, se redondea a la siguiente potencia de dos.
+	 *            Es el numero de hilos que pueden escribir al tiempo sin bloquearse
+	 */
+	@SuppressWarnings( "unchecked" )
+	public ConcurrentHashTable( int capacidad, float loadFactor, int segmentos )
+	{
+		if( ( loadFactor <= 0 ) || ( segmentos <= 0 ) )
+		{
+			throw new IllegalArgumentException( "The load factor and the number of segments must be positive" );
+		}
+		int numero = ICapacityPolicy.Geometric.potencia( Math.min( segmentos, 1 << 16 ) );
+		this.corrimiento = 32 - Integer.numberOfTrailingZeros( numero );
+		this.mascaraSegmento = numero - 1;
+		this.segmentos = ( Segmento<K, V>[ ] ) new Segmento<?, ?>[ numero ];
+		int capacidadSegmento = ICapacityPolicy.Geometric.potencia( Math.max( 2, ( capacidad + numero - 1 ) / numero ) );
+		for( int i = 0; i < numero; i++ )
+		{
+			this.segmentos[ i ] = new Segmento<>( capacidadSegmento, loadFactor );
+		}
+	}
+	
+	/**
+	 * Para poder usar este metodo los parametros deben ser del tipo de la llave y el valor
+	 *
+	 * @param values Tupla Llave-valor
+	 * @throws IllegalArgumentException Si el numero de parametros no es el correcto
+	 */
+	@SuppressWarnings( "unchecked" )
+	@Override
+	public void addElements( Object ... values )
+	{
+		if( values.length != 2 )
+		{
+			throw new IllegalArgumentException( "There must be 2 elements" );
+		}
+		put( ( K ) values[ 0 ], ( V ) values[ 1 ] );
+	}
+	
+	/**
+	 * Elimina todos los elementos de la HashTable. Los segmentos se vacian uno a uno,
+	 * por lo que las escrituras concurrentes sobre segmentos ya vaciados se conservan
+	 */
+	@Override
+	public void clear( )
+	{
+		for( Segmento<K, V> segmento : segmentos )
+		{
+			segmento.clear( );
+		}
+	}
+	
+	/**
+	 * Calcula el nuevo valor de la llave de forma atomica, con el candado de su segmento tomado
+	 */
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = dispersar( key );
+		return segmento( hash ).compute( key, hash, funcion );
+	}
+	
+	/**
+	 * Calcula y agrega el valor de la llave de forma atomica, con el candado de su segmento tomado.
+	 * Si la llave ya tiene valor no se toma ningun candado
+	 */
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = dispersar( key );
+		Segmento<K, V> segmento = segmento( hash );
+		V value = segmento.get( key, hash );
+		return value != null ? value : segmento.computeIfAbsent( key, hash, funcion );
+	}
+	
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		int hash = dispersar( key );
+		return segmento( hash ).delete( key, hash );
+	}
+	
+	/**
+	 * Retorna el indice del segmento correspondiente al hash dado. Usa los bits altos del hash,
+	 * ya que los bits bajos se usan para ubicar la llave dentro del segmento
+	 *
+	 * @param hash Hash disperso de la llave
+	 * @return Indice del segmento de la llave
+	 */
+	private int indiceSegmento( int hash )
+	{
+		return ( hash >>> corrimiento ) & mascaraSegmento;
+	}
+	
+	/**
+	 * Retorna el hash disperso de la llave dada por parametro
+	 *
+	 * @param key Llave
+	 * @return Hash disperso de la llave
+	 * @throws NullPointerException Si la llave es null
+	 */
+	private int dispersar( Object key )
+	{
+		if( key == null )
+		{
+			throw new NullPointerException( "La llave no puede ser null" );
+		}
+		return spreader.spread( key.hashCode( ) );
+	}
+	
+	@Override
+	public Iterable<Entry<K, V>> elements( )
+	{
+		return entries( );
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la HashTable<br>
+	 * La lista es una copia debilmente consistente: cada segmento se recorre sin candado,
+	 * por lo que puede reflejar o no las escrituras concurrentes al recorrido
+	 *
+	 * @return Lista con las entradas de la HashTable
+	 */
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( Segmento<K, V> segmento : segmentos )
+		{
+			AtomicReferenceArray<Nodo<K, V>> tab = segmento.tabla;
+			for( int i = 0; i < tab.length( ); i++ )
+			{
+				for( Nodo<K, V> nodo = tab.get( i ); nodo != null; nodo = nodo.next )
+				{
+					list.add( new Entry<>( nodo.key, nodo.value ) );
+				}
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Retorna el elemento asociado a la llave dada por parametro. No toma ningun candado
+	 *
+	 * @param key Llave del elemento en interés
+	 * @return Valor asociado a la llave, null si la llave no corresponde a ningun valor
+	 */
+	@Override
+	public V get( K key )
+	{
+		int hash = dispersar( key );
+		return segmento( hash ).get( key, hash );
+	}
+	
+	/**
+	 * Busca un lote de llaves sin tomar ningun candado
+	 */
+	@Override
+	public void getAll( K[ ] keys, V[ ] out )
+	{
+		AbstractHashTable.verificarLote( keys, out );
+		for( int i = 0; i < keys.length; i++ )
+		{
+			int hash = dispersar( keys[ i ] );
+			out[ i ] = segmento( hash ).get( keys[ i ], hash );
+		}
+	}
+	
+	/**
+	 * Retorna el elemento asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra.
+	 * No toma ningun candado
+	 */
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		V value = get( key );
+		return value != null ? value : defaultValue;
+	}
+	
+	@Override
+	public boolean isEmpty( )
+	{
+		for( Segmento<K, V> segmento : segmentos )
+		{
+			if( segmento.count != 0 )
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Retorna un iterador debilmente consistente sobre las entradas de la HashTable, que no toma candados<br>
+	 * Se crea una {@link Entry} por cada entrada recorrida
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator( )
+	{
+		return new ICursor.Iterador<>( cursor( ) );
+	}
+	
+	/**
+	 * Combina el valor de la llave de forma atomica, con el candado de su segmento tomado
+	 */
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		if( value == null )
+		{
+			throw new NullPointerException( "El valor no puede ser null" );
+		}
+		int hash = dispersar( key );
+		return segmento( hash ).merge( key, hash, value, funcion );
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		int hash = dispersar( key );
+		return segmento( hash ).put( key, hash, value, false );
+	}
+	
+	/**
+	 * Calcula primero el hash de todo el lote y agrupa las entradas por segmento, de modo que el candado de cada segmento
+	 * se toma una sola vez para todas sus entradas<br>
+	 * El lote no es atomico: otros hilos pueden ver una parte de sus entradas antes de que se terminen de agregar
+	 */
+	@Override
+	public void putAll( K[ ] keys, V[ ] values )
+	{
+		AbstractHashTable.verificarLote( keys, values );
+		int[ ] hashes = new int[ keys.length ];
+		int[ ] inicio = new int[ segmentos.length + 1 ];
+		for( int i = 0; i < keys.length; i++ )
+		{
+			hashes[ i ] = dispersar( keys[ i ] );
+			inicio[ indiceSegmento( hashes[ i ] ) + 1 ]++;
+		}
+		for( int i = 1; i < segmentos.length; i++ )
+		{
+			inicio[ i + 1 ] += inicio[ i ];
+		}
+		int[ ] orden = new int[ keys.length ];
+		for( int i = 0; i < keys.length; i++ )
+		{
+			orden[ inicio[ indiceSegmento( hashes[ i ] ) ]++ ] = i;
+		}
+		
+		Segmento<K, V> segmento = null;
+		try
+		{
+			for( int i : orden )
+			{
+				Segmento<K, V> siguiente = segmento( hashes[ i ] );
+				if( siguiente != segmento )
+				{
+					if( segmento != null )
+					{
+						segmento.unlock( );
+					}
+					segmento = siguiente;
+					segmento.lock( );
+				}
+				segmento.put( keys[ i ], hashes[ i ], values[ i ], false );
+			}
+		}
+		finally
+		{
+			if( segmento != null )
+			{
+				segmento.unlock( );
+			}
+		}
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		int hash = dispersar( key );
+		return segmento( hash ).put( key, hash, value, true );
+	}
+	
+	/**
+	 * Retorna el segmento correspondiente al hash dado
+	 *
+	 * @param hash Hash disperso de la llave
+	 * @return Segmento de la llave
+	 */
+	private Segmento<K, V> segmento( int hash )
+	{
+		return segmentos[ indiceSegmento( hash ) ];
+	}
+	
+	/**
+	 * Retorna el número de elementos de la HashTable<br>
+	 * Suma la cantidad de cada segmento sin tomar candados, por lo que con escrituras concurrentes
+	 * el resultado es una aproximacion
+	 *
+	 * @return Numero de elementos de la HashTable
+	 */
+	@Override
+	public int size( )
+	{
+		long size = 0;
+		for( Segmento<K, V> segmento : segmentos )
+		{
+			size += segmento.count;
+		}
+		return ( int ) Math.min( size, Integer.MAX_VALUE );
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Cada segmento se representa entre corchetes
+	 * <li>Se representa con <i>llave:valor</i> cada entrada
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "{" );
+		for( int s = 0; s < segmentos.length; s++ )
+		{
+			sBuilder.append( "[" );
+			AtomicReferenceArray<Nodo<K, V>> tab = segmentos[ s ].tabla;
+			boolean primero = true;
+			for( int i = 0; i < tab.length( ); i++ )
+			{
+				for( Nodo<K, V> nodo = tab.get( i ); nodo != null; nodo = nodo.next )
+				{
+					sBuilder.append( primero ? "" : ", " ).append( nodo.key + ":" + nodo.value );
+					primero = false;
+				}
+			}
+			sBuilder.append( "]" );
+			if( ( s + 1 ) < segmentos.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "}" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,464 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+
+/**
+ * Estructura de HashTable con LinearProbing cuyas entradas vencen un tiempo despues de escritas<br>
+ * El vencimiento de cada entrada se programa en una rueda temporal jerarquica: cada nivel es un arreglo circular de cubetas
+ * que cubre un intervalo de tiempo mayor que el anterior (~1 segundo, ~1 minuto, ~1 hora, ~1 dia y ~6 dias por cubeta).
+ * Programar una entrada es O(1), y al avanzar el tiempo solo se recorren las cubetas cuyo intervalo ya paso; las entradas
+ * que aun no vencen bajan a un nivel mas fino, por lo que cada entrada se mueve a lo sumo una vez por nivel<br>
+ * Las entradas vencidas se reclaman de forma perezosa en las operaciones de la HashTable y con {@link #cleanUp()}, sin ningun hilo
+ * adicional. Una consulta nunca retorna una entrada vencida, pero {@link #size()}, {@link #iterator()}, {@link #cursor()} y
+ * {@link #entries()} pueden incluir entradas vencidas que aun no se han reclamado; para excluirlas se debe llamar antes a {@link #cleanUp()}.
+ * Reemplazar el valor de una entrada reinicia su tiempo de vida<br>
+ * No se permiten llaves null
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings(
+{
+		"unchecked",
+		"rawtypes",
+} )
+public class ExpiringHashTable<K, V> extends HashTableLP<K, V>
+{
+	/**
+	 * Nodo de la HashTable que ademas pertenece a una cubeta de la rueda temporal
+	 *
+	 * @author dnarvaez27
+	 */
+	private class NodoExpirable extends NodoHash
+	{
+		/**
+		 * Instante en nanosegundos en el que vence la entrada
+		 */
+		private long vencimiento;
+		
+		/**
+		 * Nodo anterior en la cubeta de la rueda temporal, null si el nodo no esta programado
+		 */
+		private NodoExpirable anterior;
+		
+		/**
+		 * Nodo siguiente en la cubeta de la rueda temporal, null si el nodo no esta programado
+		 */
+		private NodoExpirable siguiente;
+		
+		/**
+		 * Construye un nodo sin programar
+		 *
+		 * @param key Llave del nodo
+		 * @param value Valor del nodo
+		 * @param hash Hash de la llave
+		 */
+		private NodoExpirable( K key, V value, int hash )
+		{
+			super( key, value, hash );
+		}
+		
+		/**
+		 * Reemplaza el valor del nodo y reinicia su tiempo de vida
+		 */
+		@Override
+		public void setValue( V value )
+		{
+			super.setValue( value );
+			programar( this, tiempo( ) + vigencia );
+		}
+	}
+	
+	/**
+	 * Numero de cubetas de cada nivel de la rueda temporal
+	 */
+	private static final int[ ] CUBETAS = new int[ ]
+	{
+		64, 64, 32, 4, 1
+	};
+	
+	/**
+	 * Intervalo en nanosegundos que cubre cada cubeta de cada nivel. El ultimo valor es el limite del ultimo nivel
+	 */
+	private static final long[ ] INTERVALOS = new long[ ]
+	{
+		1L << 30, // ~1.07 segundos
+		1L << 36, // ~1.14 minutos
+		1L << 42, // ~1.22 horas
+		1L << 47, // ~1.63 dias
+		1L << 49, // ~6.5 dias
+		1L << 49
+	};
+	
+	/**
+	 * Cubetas de la rueda temporal. Cada cubeta es una lista circular con un nodo centinela
+	 */
+	private final NodoExpirable[ ][ ] rueda;
+	
+	/**
+	 * Tiempo de vida por defecto de las entradas, en nanosegundos
+	 */
+	private final long ttl;
+	
+	/**
+	 * Tiempo de vida de las entradas que se escriben en la operacion en curso, en nanosegundos
+	 */
+	private long vigencia;
+	
+	/**
+	 * Instante hasta el cual se ha avanzado la rueda temporal
+	 */
+	private long actual;
+	
+	/**
+	 * Construye una HashTable cuyas entradas vencen el tiempo dado despues de escritas
+	 *
+	 * @param ttl Tiempo de vida de las entradas
+	 * @param unit Unidad del tiempo de vida
+	 * @throws IllegalArgumentException Si el tiempo de vida no es positivo
+	 */
+	public ExpiringHashTable( long ttl, TimeUnit unit )
+	{
+		this.ttl = verificarVigencia( ttl, unit );
+		this.vigencia = this.ttl;
+		this.rueda = new ExpiringHashTable.NodoExpirable[ CUBETAS.length ][ ];
+		for( int i = 0; i < CUBETAS.length; i++ )
+		{
+			rueda[ i ] = new ExpiringHashTable.NodoExpirable[ CUBETAS[ i ] ];
+			for( int j = 0; j < CUBETAS[ i ]; j++ )
+			{
+				NodoExpirable centinela = new NodoExpirable( null, null, 0 );
+				centinela.anterior = centinela;
+				centinela.siguiente = centinela;
+				rueda[ i ][ j ] = centinela;
+			}
+		}
+		this.actual = tiempo( );
+	}
+	
+	/**
+	 * Avanza la rueda temporal hasta el instante dado, reclamando las entradas vencidas de las cubetas cuyo intervalo ya paso
+	 * y bajando de nivel las que aun no vencen
+	 *
+	 * @param ahora Instante actual en nanosegundos
+	 */
+	private void avanzar( long ahora )
+	{
+		long anterior = actual;
+		actual = ahora;
+		for( int i = 0; i < CUBETAS.length; i++ )
+		{
+			int corrimiento = Long.numberOfTrailingZeros( INTERVALOS[ i ] );
+			long ticksAnteriores = anterior >>> corrimiento;
+			long delta = ( ahora >>> corrimiento ) - ticksAnteriores;
+			if( delta <= 0 )
+			{
+				break;
+			}
+			vaciar( i, ticksAnteriores, delta );
+		}
+	}
+	
+	/**
+	 * Reclama las entradas vencidas. Las entradas que vencen en el intervalo de tiempo actual de la rueda
+	 * (menos de ~1 segundo) se reclaman en una llamada posterior o al consultarlas
+	 */
+	public void cleanUp( )
+	{
+		avanzar( tiempo( ) );
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		for( NodoExpirable[ ] nivel : rueda )
+		{
+			for( NodoExpirable centinela : nivel )
+			{
+				centinela.anterior = centinela;
+				centinela.siguiente = centinela;
+			}
+		}
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		reclamar( key );
+		return super.compute( key, funcion );
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		reclamar( key );
+		return super.computeIfAbsent( key, funcion );
+	}
+	
+	/**
+	 * Crea un nodo y programa su vencimiento en la rueda temporal
+	 */
+	@Override
+	protected NodoHash crearNodo( K key, V value, int hash )
+	{
+		NodoExpirable nodo = new NodoExpirable( key, value, hash );
+		programar( nodo, tiempo( ) + vigencia );
+		return nodo;
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		return reclamar( key ) != null ? super.delete( key ) : null;
+	}
+	
+	/**
+	 * Retira el nodo dado de su cubeta, si esta programado
+	 *
+	 * @param nodo Nodo a retirar
+	 */
+	private void desprogramar( NodoExpirable nodo )
+	{
+		if( nodo.anterior != null )
+		{
+			nodo.anterior.siguiente = nodo.siguiente;
+			nodo.siguiente.anterior = nodo.anterior;
+			nodo.anterior = null;
+			nodo.siguiente = null;
+		}
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		Entry<K, V> entry = reclamar( key );
+		return entry != null ? entry.getValue( ) : null;
+	}
+	
+	@Override
+	public void getAll( K[ ] keys, V[ ] out )
+	{
+		verificarLote( keys, out );
+		for( int i = 0; i < keys.length; i++ )
+		{
+			out[ i ] = get( keys[ i ] );
+		}
+	}
+	
+	@Override
+	public Entry<K, V> getEntry( K key )
+	{
+		return reclamar( key );
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		V value = get( key );
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Retorna el tiempo de vida por defecto de las entradas
+	 *
+	 * @param unit Unidad en la que se retorna el tiempo de vida
+	 * @return Tiempo de vida por defecto
+	 */
+	public long getTimeToLive( TimeUnit unit )
+	{
+		return unit.convert( ttl, TimeUnit.NANOSECONDS );
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		reclamar( key );
+		return super.merge( key, value, funcion );
+	}
+	
+	/**
+	 * Retira el nodo de la rueda temporal antes de que se retire de la HashTable
+	 */
+	@Override
+	protected void nodoEliminado( NodoHash nodoHash )
+	{
+		desprogramar( ( NodoExpirable ) nodoHash );
+	}
+	
+	/**
+	 * Programa el vencimiento del nodo dado en la cubeta que corresponde al instante dado<br>
+	 * El nivel se elige por la distancia entre el vencimiento y el instante hasta el cual se ha avanzado la rueda,
+	 * y la cubeta dentro del nivel por los bits del vencimiento
+	 *
+	 * @param nodo Nodo a programar
+	 * @param vencimiento Instante en nanosegundos en el que vence el nodo
+	 */
+	private void programar( NodoExpirable nodo, long vencimiento )
+	{
+		desprogramar( nodo );
+		nodo.vencimiento = vencimiento;
+		long distancia = vencimiento - actual;
+		NodoExpirable centinela = rueda[ CUBETAS.length - 1 ][ 0 ];
+		for( int i = 0; i < ( CUBETAS.length - 1 ); i++ )
+		{
+			if( distancia < INTERVALOS[ i + 1 ] )
+			{
+				long ticks = vencimiento >>> Long.numberOfTrailingZeros( INTERVALOS[ i ] );
+				centinela = rueda[ i ][ ( int ) ticks & ( CUBETAS[ i ] - 1 ) ];
+				break;
+			}
+		}
+		nodo.siguiente = centinela;
+		nodo.anterior = centinela.anterior;
+		centinela.anterior.siguiente = nodo;
+		centinela.anterior = nodo;
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		reclamar( key );
+		return super.put( key, value );
+	}
+	
+	/**
+	 * Agrega una entrada con un tiempo de vida propio<br>
+	 * Si ya existia una llave igual se sobreescribe el valor y se reinicia su tiempo de vida con el tiempo dado
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param ttl Tiempo de vida de la entrada
+	 * @param unit Unidad del tiempo de vida
+	 * @return El valor anterior de la llave, null si no existia o ya habia vencido
+	 * @throws IllegalArgumentException Si el tiempo de vida no es positivo
+	 */
+	public V put( K key, V value, long ttl, TimeUnit unit )
+	{
+		long nanos = verificarVigencia( ttl, unit );
+		reclamar( key );
+		vigencia = nanos;
+		try
+		{
+			return super.put( key, value );
+		}
+		finally
+		{
+			vigencia = this.ttl;
+		}
+	}
+	
+	@Override
+	public void putAll( K[ ] keys, V[ ] values )
+	{
+		avanzar( tiempo( ) );
+		super.putAll( keys, values );
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		reclamar( key );
+		return super.putIfAbsent( key, value );
+	}
+	
+	/**
+	 * Reemplaza el valor de cada entrada, reiniciando su tiempo de vida<br>
+	 * Siempre se ejecuta de forma secuencial, porque reprogramar una entrada modifica la rueda temporal
+	 */
+	@Override
+	public void replaceAll( long parallelismThreshold, BiFunction<? super K, ? super V, ? extends V> function )
+	{
+		avanzar( tiempo( ) );
+		super.replaceAll( Long.MAX_VALUE, function );
+	}
+	
+	/**
+	 * Avanza la rueda temporal y retorna el nodo vigente de la llave dada<br>
+	 * Si el nodo de la llave ya vencio, se elimina de la HashTable
+	 *
+	 * @param key Llave a buscar
+	 * @return Nodo de la llave, null si la llave no se encuentra o ya vencio
+	 */
+	private NodoExpirable reclamar( K key )
+	{
+		long ahora = tiempo( );
+		avanzar( ahora );
+		NodoExpirable nodo = ( NodoExpirable ) super.getEntry( verificarLlave( key ) );
+		if( ( nodo != null ) && ( ( nodo.vencimiento - ahora ) <= 0 ) )
+		{
+			super.delete( key );
+			return null;
+		}
+		return nodo;
+	}
+	
+	/**
+	 * Retorna el instante actual en nanosegundos. Las subclases lo pueden sobreescribir para controlar el paso del tiempo
+	 *
+	 * @return Instante actual en nanosegundos
+	 */
+	protected long tiempo( )
+	{
+		return System.nanoTime( );
+	}
+	
+	/**
+	 * Recorre las cubetas del nivel dado cuyo intervalo paso entre los ticks dados. Los nodos vencidos se eliminan de la
+	 * HashTable y los demas se vuelven a programar, quedando en un nivel mas fino
+	 *
+	 * @param nivel Nivel de la rueda temporal
+	 * @param ticksAnteriores Tick del nivel hasta el cual se habia avanzado
+	 * @param delta Numero de ticks que avanzo el nivel
+	 */
+	private void vaciar( int nivel, long ticksAnteriores, long delta )
+	{
+		NodoExpirable[ ] cubetas = rueda[ nivel ];
+		int pasos = ( int ) Math.min( delta + 1, cubetas.length );
+		int inicio = ( int ) ticksAnteriores & ( cubetas.length - 1 );
+		for( int i = inicio; i < ( inicio + pasos ); i++ )
+		{
+			NodoExpirable centinela = cubetas[ i & ( cubetas.length - 1 ) ];
+			NodoExpirable nodo = centinela.siguiente;
+			centinela.anterior = centinela;
+			centinela.siguiente = centinela;
+			while( nodo != centinela )
+			{
+				NodoExpirable siguiente = nodo.siguiente;
+				nodo.anterior = null;
+				nodo.siguiente = null;
+				if( ( nodo.vencimiento - actual ) <= 0 )
+				{
+					super.delete( nodo.getKey( ) );
+				}
+				else
+				{
+					programar( nodo, nodo.vencimiento );
+				}
+				nodo = siguiente;
+			}
+		}
+	}
+	
+	/**
+	 * Verifica y convierte a nanosegundos el tiempo de vida dado
+	 *
+	 * @param ttl Tiempo de vida
+	 * @param unit Unidad del tiempo de vida
+	 * @return Tiempo de vida en nanosegundos
+	 * @throws IllegalArgumentException Si el tiempo de vida no es positivo
+	 */
+	private static long verificarVigencia( long ttl, TimeUnit unit )
+	{
+		if( ttl <= 0 )
+		{
+			throw new IllegalArgumentException( "The time to live must be positive" );
+		}
+		return unit.toNanos( ttl );
+	}
+}
\ No newline at end of file
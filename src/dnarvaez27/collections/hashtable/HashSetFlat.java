@@ -0,0 +1,507 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dnarvaez27.collections.ICollection;
+import dnarvaez27.collections.exceptions.IllegalOperationException;
+
+/**
+ * Estructura de HashSet implementada con LinearProbing sobre arreglos planos<br>
+ * Los elementos y su hash se almacenan en arreglos paralelos, sin nodos ni valores asociados. Como en
+ * {@link HashTableFlat}, las remociones desplazan hacia atras el cluster, por lo que no existen marcas, y el hash almacenado
+ * se reutiliza al comparar y en el rehash. La capacidad sigue una {@link ICapacityPolicy} y el hash una {@link IHashSpreader}
+ *
+ * @author dnarvaez27
+ * @param <T> Tipo de los elementos
+ */
+@SuppressWarnings( "unchecked" )
+public class HashSetFlat<T> implements IHashSet<T>
+{
+	/**
+	 * Iterador que recorre directamente el arreglo de elementos, omitiendo las posiciones vacias<br>
+	 * No crea ningun objeto por elemento recorrido
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Recorrido implements Iterator<T>
+	{
+		/**
+		 * Indice del siguiente elemento en el arreglo
+		 */
+		private int index = siguiente( 0 );
+		
+		@Override
+		public boolean hasNext( )
+		{
+			return index < elementos.length;
+		}
+		
+		@Override
+		public T next( )
+		{
+			if( index >= elementos.length )
+			{
+				throw new NoSuchElementException( );
+			}
+			T element = ( T ) elementos[ index ];
+			index = siguiente( index + 1 );
+			return element;
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Arreglo de elementos
+	 */
+	private Object[ ] elementos;
+	
+	/**
+	 * Arreglo del hash de cada elemento, paralelo al arreglo de elementos
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Cantidad de elementos del conjunto
+	 */
+	private int size;
+	
+	/**
+	 * Factor de carga del conjunto
+	 */
+	private float loadFactor;
+	
+	/**
+	 * Capacidad inicial del arreglo, que se restaura al limpiar el conjunto
+	 */
+	private int capacidad;
+	
+	/**
+	 * Politica de capacidad que define el tamaño del arreglo al crecer o ajustarse
+	 */
+	private ICapacityPolicy capacityPolicy;
+	
+	/**
+	 * Funcion que dispersa los bits del HashCode de los elementos
+	 */
+	private IHashSpreader spreader;
+	
+	/**
+	 * Construye un HashSet con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 */
+	public HashSetFlat( )
+	{
+		this( TAMANO, 0.75f );
+	}
+	
+	/**
+	 * Construye un HashSet con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public HashSetFlat( int capacidad, float loadFactor )
+	{
+		this.capacidad = ICapacityPolicy.Geometric.potencia( capacidad );
+		this.loadFactor = loadFactor;
+		this.capacityPolicy = new ICapacityPolicy.Geometric( );
+		this.spreader = new IHashSpreader.Xor( );
+		elementos = new Object[ this.capacidad ];
+		hashes = new int[ this.capacidad ];
+	}
+	
+	@Override
+	public boolean add( T element )
+	{
+		int hash = dispersar( element );
+		int index = buscar( element, hash );
+		if( index >= 0 )
+		{
+			return false;
+		}
+		index = -index - 1;
+		elementos[ index ] = element;
+		hashes[ index ] = hash;
+		size++;
+		if( ( ( float ) size / ( float ) elementos.length ) > loadFactor )
+		{
+			rehash( ICapacityPolicy.Geometric.potencia( capacityPolicy.grow( elementos.length, capacidadPara( size + 1 ) ) ) );
+		}
+		return true;
+	}
+	
+	/**
+	 * Agrega cada uno de los elementos dados
+	 *
+	 * @param values Elementos a agregar
+	 */
+	@Override
+	public void addElements( Object ... values )
+	{
+		for( Object value : values )
+		{
+			add( ( T ) value );
+		}
+	}
+	
+	/**
+	 * Agrega al conjunto todos los elementos dados<br>
+	 * Si los elementos son una {@link ICollection}, la capacidad se asegura una sola vez antes de agregarlos
+	 */
+	@Override
+	public boolean addAll( Iterable<? extends T> elements )
+	{
+		if( elements instanceof ICollection )
+		{
+			ensureCapacity( size + ( ( ICollection ) elements ).size( ) );
+		}
+		boolean modificado = false;
+		for( T element : elements )
+		{
+			modificado |= add( element );
+		}
+		return modificado;
+	}
+	
+	/**
+	 * Retorna el indice del elemento en el arreglo
+	 *
+	 * @param element Elemento a buscar
+	 * @param hash Hash del elemento
+	 * @return Indice del elemento, o -(indice libre + 1) si el elemento no se encuentra
+	 */
+	private int buscar( T element, int hash )
+	{
+		int index = hash & ( elementos.length - 1 );
+		while( elementos[ index ] != null )
+		{
+			if( ( hashes[ index ] == hash ) && elementos[ index ].equals( element ) )
+			{
+				return index;
+			}
+			index++;
+			if( index >= elementos.length )
+			{
+				index = 0;
+			}
+		}
+		return -( index + 1 );
+	}
+	
+	/**
+	 * Retorna la capacidad minima del arreglo para contener el numero de elementos dado sin superar el factor de carga
+	 *
+	 * @param cantidad Numero de elementos a contener
+	 * @return Capacidad minima del arreglo
+	 */
+	private int capacidadPara( int cantidad )
+	{
+		return Math.max( 1, ( int ) Math.ceil( cantidad / ( double ) loadFactor ) );
+	}
+	
+	/**
+	 * Retorna la capacidad actual del arreglo que implementa el conjunto
+	 *
+	 * @return Capacidad actual del arreglo
+	 */
+	public int capacity( )
+	{
+		return elementos.length;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		size = 0;
+		elementos = new Object[ capacidad ];
+		hashes = new int[ capacidad ];
+	}
+	
+	@Override
+	public boolean contains( T element )
+	{
+		return buscar( element, dispersar( element ) ) >= 0;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras los elementos siguientes del cluster que pueden ocuparla<br>
+	 * Los elementos desplazados solo se mueven a posiciones entre la posicion liberada y su posicion original
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int mascara = elementos.length - 1;
+		int index = ( vacio + 1 ) & mascara;
+		while( elementos[ index ] != null )
+		{
+			int distanciaInicio = ( index - hashes[ index ] ) & mascara;
+			int distanciaVacio = ( index - vacio ) & mascara;
+			if( distanciaInicio >= distanciaVacio )
+			{
+				elementos[ vacio ] = elementos[ index ];
+				hashes[ vacio ] = hashes[ index ];
+				vacio = index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		elementos[ vacio ] = null;
+		size--;
+	}
+	
+	/**
+	 * Retorna el hash disperso del elemento dado
+	 *
+	 * @param element Elemento del cual se calcula el hash
+	 * @return Hash del elemento, dispersado con la funcion de dispersion del conjunto
+	 * @throws NullPointerException Si el elemento es null
+	 */
+	private int dispersar( T element )
+	{
+		if( element == null )
+		{
+			throw new NullPointerException( "El elemento no puede ser null" );
+		}
+		return spreader.spread( element.hashCode( ) );
+	}
+	
+	@Override
+	public Iterable<T> elements( )
+	{
+		return this;
+	}
+	
+	/**
+	 * Asegura que el conjunto pueda contener el numero de elementos dado sin realizar rehash
+	 *
+	 * @param cantidad Numero de elementos que se espera contener
+	 */
+	public void ensureCapacity( int cantidad )
+	{
+		int requerida = capacidadPara( cantidad );
+		if( requerida > elementos.length )
+		{
+			rehash( ICapacityPolicy.Geometric.potencia( capacityPolicy.fit( requerida ) ) );
+		}
+	}
+	
+	/**
+	 * Retorna la politica de capacidad del conjunto
+	 *
+	 * @return Politica de capacidad
+	 */
+	public ICapacityPolicy getCapacityPolicy( )
+	{
+		return capacityPolicy;
+	}
+	
+	@Override
+	public boolean isEmpty( )
+	{
+		return size == 0;
+	}
+	
+	/**
+	 * Retorna un iterador que recorre directamente el arreglo del conjunto, sin crear ningun objeto por elemento<br>
+	 * El conjunto no debe modificarse durante el recorrido
+	 */
+	@Override
+	public Iterator<T> iterator( )
+	{
+		return new Recorrido( );
+	}
+	
+	/**
+	 * Reduce la capacidad del arreglo si la politica de capacidad lo indica
+	 */
+	private void reducir( )
+	{
+		int nuevaCapacidad = ICapacityPolicy.Geometric.potencia( capacityPolicy.shrink( elementos.length, capacidadPara( size ) ) );
+		if( nuevaCapacidad < elementos.length )
+		{
+			rehash( nuevaCapacidad );
+		}
+	}
+	
+	/**
+	 * Realiza un rehash del conjunto, reubicando los elementos en arreglos de la capacidad dada<br>
+	 * Se reutiliza el hash almacenado de cada elemento
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos. Debe poder contener todos los elementos
+	 */
+	private void rehash( int nuevaCapacidad )
+	{
+		Object[ ] elementosAnteriores = elementos;
+		int[ ] hashesAnteriores = hashes;
+		elementos = new Object[ nuevaCapacidad ];
+		hashes = new int[ nuevaCapacidad ];
+		int mascara = nuevaCapacidad - 1;
+		for( int i = 0; i < elementosAnteriores.length; i++ )
+		{
+			if( elementosAnteriores[ i ] != null )
+			{
+				int index = hashesAnteriores[ i ] & mascara;
+				while( elementos[ index ] != null )
+				{
+					index = ( index + 1 ) & mascara;
+				}
+				elementos[ index ] = elementosAnteriores[ i ];
+				hashes[ index ] = hashesAnteriores[ i ];
+			}
+		}
+	}
+	
+	@Override
+	public boolean remove( T element )
+	{
+		int index = buscar( element, dispersar( element ) );
+		if( index < 0 )
+		{
+			return false;
+		}
+		desplazar( index );
+		reducir( );
+		return true;
+	}
+	
+	/**
+	 * Elimina del conjunto todos los elementos dados<br>
+	 * La capacidad se reduce una sola vez, al final
+	 */
+	@Override
+	public boolean removeAll( Iterable<? extends T> elements )
+	{
+		int anterior = size;
+		for( T element : elements )
+		{
+			int index = buscar( element, dispersar( element ) );
+			if( index >= 0 )
+			{
+				desplazar( index );
+			}
+		}
+		reducir( );
+		return size != anterior;
+	}
+	
+	/**
+	 * Elimina del conjunto los elementos que no se encuentran en el conjunto dado<br>
+	 * Se recorre el arreglo una sola vez. Al eliminar un elemento, los que el desplazamiento mueve a su posicion se
+	 * verifican de nuevo, y ninguno se mueve a una posicion ya recorrida, salvo los del inicio de un cluster que da la vuelta
+	 * al arreglo, que ya fueron conservados. La capacidad se reduce una sola vez, al final
+	 */
+	@Override
+	public boolean retainAll( IHashSet<? super T> elements )
+	{
+		int anterior = size;
+		int index = 0;
+		while( index < elementos.length )
+		{
+			if( ( elementos[ index ] != null ) && !elements.contains( ( T ) elementos[ index ] ) )
+			{
+				desplazar( index );
+			}
+			else
+			{
+				index++;
+			}
+		}
+		reducir( );
+		return size != anterior;
+	}
+	
+	/**
+	 * Establece la politica de capacidad del conjunto
+	 *
+	 * @param capacityPolicy Nueva politica de capacidad
+	 */
+	public void setCapacityPolicy( ICapacityPolicy capacityPolicy )
+	{
+		if( capacityPolicy == null )
+		{
+			throw new NullPointerException( "The policy cannot be null" );
+		}
+		this.capacityPolicy = capacityPolicy;
+	}
+	
+	/**
+	 * Establece la funcion que dispersa los bits del HashCode de los elementos
+	 *
+	 * @param spreader Nueva funcion de dispersion
+	 * @throws IllegalOperationException Si el conjunto no esta vacio, ya que los hash almacenados dejarian de ser validos
+	 */
+	public void setHashSpreader( IHashSpreader spreader )
+	{
+		if( spreader == null )
+		{
+			throw new NullPointerException( "The spreader cannot be null" );
+		}
+		if( !isEmpty( ) )
+		{
+			throw new IllegalOperationException( "The spreader can only be changed on an empty HashSet" );
+		}
+		this.spreader = spreader;
+	}
+	
+	/**
+	 * Retorna el indice de la primera posicion ocupada a partir del indice dado
+	 *
+	 * @param index Indice desde el que se busca
+	 * @return Indice de la posicion ocupada, o la capacidad del arreglo si no hay mas elementos
+	 */
+	private int siguiente( int index )
+	{
+		while( ( index < elementos.length ) && ( elementos[ index ] == null ) )
+		{
+			index++;
+		}
+		return index;
+	}
+	
+	@Override
+	public int size( )
+	{
+		return size;
+	}
+	
+	/**
+	 * Reduce la capacidad del arreglo a la minima que permite contener los elementos actuales segun el factor de carga
+	 */
+	public void trimToSize( )
+	{
+		int nuevaCapacidad = ICapacityPolicy.Geometric.potencia( capacityPolicy.fit( capacidadPara( size + 1 ) ) );
+		if( nuevaCapacidad < elementos.length )
+		{
+			rehash( nuevaCapacidad );
+		}
+	}
+	
+	/**
+	 * Retorna una representacion del conjunto<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en el conjunto<br>
+	 * <ul>
+	 * <li>Se representa con |X| las posiciones vacias
+	 * <li>Se representa con el elemento las posiciones ocupadas
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < elementos.length; i++ )
+		{
+			sBuilder.append( elementos[ i ] != null ? elementos[ i ] : "|X|" );
+			if( ( i + 1 ) < elementos.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
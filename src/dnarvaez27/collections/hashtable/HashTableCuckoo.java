@@ -0,0 +1,730 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable implementada con Cuckoo Hashing sobre arreglos planos<br>
+ * El arreglo se divide en cubetas de {@link #CUBETA} posiciones consecutivas, y cada llave solo puede estar en una de dos
+ * cubetas, calculadas con dos funciones sobre su hash. Por lo tanto una busqueda revisa a lo sumo 8 posiciones, comparando
+ * primero el hash almacenado de cada una, sin importar el factor de carga<br>
+ * Si las dos cubetas de una llave nueva estan llenas, se expulsa una entrada a su cubeta alterna, y asi sucesivamente hasta
+ * {@link #DESPLAZAMIENTOS} veces. Si no se encuentra lugar, la entrada sobrante se guarda en un escondite pequeño que
+ * tambien se revisa en las busquedas; cuando el escondite supera su limite se realiza un rehash con nuevas funciones
+ * de hash. Las remociones no requieren marcas ni desplazamientos
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class HashTableCuckoo<K, V> extends AbstractHashTable<Object, K, V>
+{
+	/**
+	 * Cursor que recorre directamente los arreglos de la HashTable y luego el escondite, omitiendo las posiciones vacias
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Indice de la entrada actual, con la numeracion de {@link HashTableCuckoo#buscar(Object, int)}
+		 */
+		private int index = -1;
+		
+		@Override
+		public boolean advance( )
+		{
+			int fin = arreglo.length + tamanoEscondite;
+			if( index >= fin )
+			{
+				return false;
+			}
+			do
+			{
+				index++;
+			}
+			while( ( index < arreglo.length ) && ( arreglo[ index ] == null ) );
+			return index < fin;
+		}
+		
+		@Override
+		public K key( )
+		{
+			int index = posicionado( );
+			return ( K ) ( index < arreglo.length ? arreglo[ index ] : escondite[ index - arreglo.length ] );
+		}
+		
+		/**
+		 * Retorna el indice de la entrada actual
+		 *
+		 * @return Indice de la entrada actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private int posicionado( )
+		{
+			if( ( index < 0 ) || ( index >= ( arreglo.length + tamanoEscondite ) ) || ( ( index < arreglo.length ) && ( arreglo[ index ] == null ) ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return index;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return valor( posicionado( ) );
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Numero de posiciones de cada cubeta
+	 */
+	private static final int CUBETA = 4;
+	
+	/**
+	 * Tamaño minimo del arreglo: dos cubetas, de modo que cada llave tenga dos cubetas distintas
+	 */
+	private static final int MINIMO = 2 * CUBETA;
+	
+	/**
+	 * Numero maximo de expulsiones al agregar una entrada antes de guardarla en el escondite
+	 */
+	private static final int DESPLAZAMIENTOS = 128;
+	
+	/**
+	 * Numero de entradas del escondite a partir del cual se realiza un rehash con nuevas funciones de hash
+	 */
+	private static final int ESCONDITE = 4;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private Object[ ] valores;
+	
+	/**
+	 * Arreglo del hash de cada llave, paralelo al arreglo de llaves
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Llaves del escondite, las entradas que no encontraron lugar en sus cubetas
+	 */
+	private Object[ ] escondite;
+	
+	/**
+	 * Valores del escondite, paralelo a las llaves del escondite
+	 */
+	private Object[ ] valoresEscondite;
+	
+	/**
+	 * Hash de cada llave del escondite, paralelo a las llaves del escondite
+	 */
+	private int[ ] hashesEscondite;
+	
+	/**
+	 * Numero de entradas en el escondite
+	 */
+	private int tamanoEscondite;
+	
+	/**
+	 * Numero de entradas del escondite a partir del cual se realiza un rehash. Se duplica si el rehash no logra vaciar el
+	 * escondite, como ocurre cuando muchas llaves tienen el mismo hash
+	 */
+	private int limiteEscondite;
+	
+	/**
+	 * Corrimiento que lleva un hash de 32 bits al numero de bits de las cubetas
+	 */
+	private int corrimiento;
+	
+	/**
+	 * Semilla de las funciones de hash. Cambia en cada rehash causado por el escondite
+	 */
+	private int semilla;
+	
+	/**
+	 * Estado del generador aleatorio que elige la entrada a expulsar
+	 */
+	private int aleatorio = 0x9E3779B9;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.9<br>
+	 * Las cubetas de 4 posiciones permiten factores de carga altos sin alargar las busquedas
+	 */
+	public HashTableCuckoo( )
+	{
+		this( TAMANO, 0.9f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos. Es al menos {@link #MINIMO}
+	 * @param loadFactor Factor de carga
+	 */
+	public HashTableCuckoo( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		inicializar( tamanoArreglo( capacidad ) );
+	}
+	
+	/**
+	 * Agrega una entrada que no se encuentra en la HashTable<br>
+	 * Si el escondite supera su limite se realiza un rehash con nuevas funciones de hash
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( K key, V value, int hash )
+	{
+		colocar( key, value, hash );
+		size++;
+		if( ( ( float ) size / ( float ) arreglo.length ) > loadFactor )
+		{
+			crecer( );
+		}
+		else if( tamanoEscondite > limiteEscondite )
+		{
+			semilla = siguienteAleatorio( );
+			reconstruir( arreglo.length, LIMPIAR );
+		}
+	}
+	
+	/**
+	 * Retorna el indice de la primera posicion de la cubeta alterna a la dada, para una llave con el hash dado<br>
+	 * La funcion es simetrica: la alterna de la alterna es la cubeta original
+	 *
+	 * @param cubeta Indice de la primera posicion de una de las cubetas de la llave
+	 * @param hash Hash de la llave
+	 * @return Indice de la primera posicion de la otra cubeta de la llave
+	 */
+	private int alterna( int cubeta, int hash )
+	{
+		return cubeta ^ ( ( ( ( ( hash + semilla ) * 0x85EBCA6B ) >>> corrimiento ) | 1 ) << 2 );
+	}
+	
+	/**
+	 * Asigna el valor de la entrada del indice dado
+	 *
+	 * @param index Indice de la entrada, con la numeracion de {@link #buscar(Object, int)}
+	 * @param value Nuevo valor de la entrada
+	 */
+	private void asignar( int index, V value )
+	{
+		if( index < arreglo.length )
+		{
+			valores[ index ] = value;
+		}
+		else
+		{
+			valoresEscondite[ index - arreglo.length ] = value;
+		}
+	}
+	
+	/**
+	 * Retorna el indice de la llave en la HashTable<br>
+	 * Los indices menores al tamaño del arreglo son posiciones del arreglo; los siguientes son posiciones del escondite
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice de la llave, o -1 si la llave no se encuentra
+	 */
+	private int buscar( K key, int hash )
+	{
+		int cubeta = primera( hash );
+		for( int i = cubeta; i < ( cubeta + CUBETA ); i++ )
+		{
+			if( ( hashes[ i ] == hash ) && ( arreglo[ i ] != null ) && arreglo[ i ].equals( key ) )
+			{
+				return i;
+			}
+		}
+		cubeta = alterna( cubeta, hash );
+		for( int i = cubeta; i < ( cubeta + CUBETA ); i++ )
+		{
+			if( ( hashes[ i ] == hash ) && ( arreglo[ i ] != null ) && arreglo[ i ].equals( key ) )
+			{
+				return i;
+			}
+		}
+		for( int i = 0; i < tamanoEscondite; i++ )
+		{
+			if( ( hashesEscondite[ i ] == hash ) && escondite[ i ].equals( key ) )
+			{
+				return arreglo.length + i;
+			}
+		}
+		return -1;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		inicializar( arreglo.length );
+	}
+	
+	/**
+	 * Ubica una entrada en alguna de sus cubetas, expulsando entradas a sus cubetas alternas si es necesario<br>
+	 * Si despues de {@link #DESPLAZAMIENTOS} expulsiones queda una entrada sin lugar, esta se guarda en el escondite
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void colocar( Object key, Object value, int hash )
+	{
+		int cubeta = primera( hash );
+		if( ubicar( cubeta, key, value, hash ) || ubicar( cubeta = alterna( cubeta, hash ), key, value, hash ) )
+		{
+			return;
+		}
+		for( int i = 0; i < DESPLAZAMIENTOS; i++ )
+		{
+			int index = cubeta + ( siguienteAleatorio( ) >>> 30 );
+			Object llave = arreglo[ index ];
+			Object valor = valores[ index ];
+			int hashExpulsado = hashes[ index ];
+			arreglo[ index ] = key;
+			valores[ index ] = value;
+			hashes[ index ] = hash;
+			key = llave;
+			value = valor;
+			hash = hashExpulsado;
+			cubeta = alterna( cubeta, hash );
+			if( ubicar( cubeta, key, value, hash ) )
+			{
+				return;
+			}
+		}
+		if( tamanoEscondite == escondite.length )
+		{
+			escondite = Arrays.copyOf( escondite, escondite.length * 2 );
+			valoresEscondite = Arrays.copyOf( valoresEscondite, escondite.length );
+			hashesEscondite = Arrays.copyOf( hashesEscondite, escondite.length );
+		}
+		escondite[ tamanoEscondite ] = key;
+		valoresEscondite[ tamanoEscondite ] = value;
+		hashesEscondite[ tamanoEscondite ] = hash;
+		tamanoEscondite++;
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V value = funcion.apply( key, index >= 0 ? valor( index ) : null );
+		if( value == null )
+		{
+			if( index >= 0 )
+			{
+				eliminar( index );
+			}
+		}
+		else if( index >= 0 )
+		{
+			asignar( index, value );
+		}
+		else
+		{
+			agregarEntrada( key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( ( index >= 0 ) && ( valor( index ) != null ) )
+		{
+			return valor( index );
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( index >= 0 )
+			{
+				asignar( index, value );
+			}
+			else
+			{
+				agregarEntrada( key, value, hash );
+			}
+		}
+		return value;
+	}
+	
+	/**
+	 * Retorna un arreglo de al menos {@link #MINIMO} posiciones
+	 */
+	@Override
+	protected Object[ ] crearArreglo( int capacidad )
+	{
+		return new Object[ Math.max( MINIMO, capacidad ) ];
+	}
+	
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? eliminar( index ) : null;
+	}
+	
+	/**
+	 * Elimina la entrada del indice dado<br>
+	 * Si la entrada estaba en el arreglo, la posicion liberada se ofrece a las entradas del escondite que pertenecen a esa
+	 * cubeta
+	 *
+	 * @param index Indice de la entrada a eliminar, con la numeracion de {@link #buscar(Object, int)}
+	 * @return Valor eliminado
+	 */
+	private V eliminar( int index )
+	{
+		V value = valor( index );
+		if( index < arreglo.length )
+		{
+			arreglo[ index ] = null;
+			valores[ index ] = null;
+			int cubeta = index & -CUBETA;
+			for( int i = 0; i < tamanoEscondite; i++ )
+			{
+				int primera = primera( hashesEscondite[ i ] );
+				if( ( primera == cubeta ) || ( alterna( primera, hashesEscondite[ i ] ) == cubeta ) )
+				{
+					arreglo[ index ] = escondite[ i ];
+					valores[ index ] = valoresEscondite[ i ];
+					hashes[ index ] = hashesEscondite[ i ];
+					sacarEscondite( i );
+					break;
+				}
+			}
+		}
+		else
+		{
+			sacarEscondite( index - arreglo.length );
+		}
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( new Entry<>( ( K ) arreglo[ i ], ( V ) valores[ i ] ) );
+			}
+		}
+		for( int i = 0; i < tamanoEscondite; i++ )
+		{
+			list.add( new Entry<>( ( K ) escondite[ i ], ( V ) valoresEscondite[ i ] ) );
+		}
+		return list;
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? valor( index ) : null;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return ( index >= 0 ) && ( valor( index ) != null ) ? valor( index ) : defaultValue;
+	}
+	
+	/**
+	 * Crea los arreglos vacios con la capacidad dada, vacia el escondite y actualiza el corrimiento de las funciones de hash
+	 *
+	 * @param capacidad Capacidad del arreglo, potencia de dos
+	 */
+	private void inicializar( int capacidad )
+	{
+		arreglo = crearArreglo( capacidad );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+		escondite = new Object[ ESCONDITE ];
+		valoresEscondite = new Object[ ESCONDITE ];
+		hashesEscondite = new int[ ESCONDITE ];
+		tamanoEscondite = 0;
+		limiteEscondite = ESCONDITE;
+		corrimiento = Integer.numberOfLeadingZeros( arreglo.length / CUBETA ) + 1;
+	}
+	
+	/**
+	 * Cuenta 1 para las entradas en su cubeta principal, 2 para las entradas en su cubeta alterna y 3 para las entradas
+	 * del escondite
+	 */
+	@Override
+	protected long[ ] longitudesSondeo( )
+	{
+		long[ ] histograma = new long[ 4 ];
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				histograma[ primera( hashes[ i ] ) == ( i & -CUBETA ) ? 1 : 2 ]++;
+			}
+		}
+		histograma[ 3 ] = tamanoEscondite;
+		return histograma;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V old = index >= 0 ? valor( index ) : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( index );
+		}
+		else if( index >= 0 )
+		{
+			asignar( index, nuevo );
+		}
+		else
+		{
+			agregarEntrada( key, nuevo, hash );
+		}
+		return nuevo;
+	}
+	
+	/**
+	 * Retorna el indice de la primera posicion de la cubeta principal de una llave con el hash dado
+	 *
+	 * @param hash Hash de la llave
+	 * @return Indice de la primera posicion de la cubeta
+	 */
+	private int primera( int hash )
+	{
+		return ( ( ( hash ^ semilla ) * 0x9E3779B9 ) >>> corrimiento ) << 2;
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index >= 0 )
+		{
+			V old = valor( index );
+			asignar( index, value );
+			return old;
+		}
+		agregarEntrada( key, value, hash );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index < 0 )
+		{
+			agregarEntrada( key, value, hash );
+			return null;
+		}
+		V old = valor( index );
+		if( old == null )
+		{
+			asignar( index, value );
+		}
+		return old;
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas del arreglo y del escondite en arreglos de la capacidad
+	 * dada<br>
+	 * Se reutiliza el hash almacenado de cada llave. Al terminar, el limite del escondite se ajusta al doble de las
+	 * entradas que no encontraron lugar
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] llavesAnteriores = arreglo;
+		Object[ ] valoresAnteriores = valores;
+		int[ ] hashesAnteriores = hashes;
+		Object[ ] esconditeAnterior = escondite;
+		Object[ ] valoresEsconditeAnterior = valoresEscondite;
+		int[ ] hashesEsconditeAnterior = hashesEscondite;
+		int tamanoEsconditeAnterior = tamanoEscondite;
+		inicializar( nuevaCapacidad );
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != null )
+			{
+				colocar( llavesAnteriores[ i ], valoresAnteriores[ i ], hashesAnteriores[ i ] );
+			}
+		}
+		for( int i = 0; i < tamanoEsconditeAnterior; i++ )
+		{
+			colocar( esconditeAnterior[ i ], valoresEsconditeAnterior[ i ], hashesEsconditeAnterior[ i ] );
+		}
+		limiteEscondite = Math.max( ESCONDITE, 2 * tamanoEscondite );
+	}
+	
+	/**
+	 * Retira la entrada dada del escondite, reemplazandola por la ultima
+	 *
+	 * @param index Indice de la entrada en el escondite
+	 */
+	private void sacarEscondite( int index )
+	{
+		tamanoEscondite--;
+		escondite[ index ] = escondite[ tamanoEscondite ];
+		valoresEscondite[ index ] = valoresEscondite[ tamanoEscondite ];
+		hashesEscondite[ index ] = hashesEscondite[ tamanoEscondite ];
+		escondite[ tamanoEscondite ] = null;
+		valoresEscondite[ tamanoEscondite ] = null;
+	}
+	
+	/**
+	 * Retorna el siguiente numero del generador aleatorio (XorShift)
+	 *
+	 * @return Numero aleatorio
+	 */
+	private int siguienteAleatorio( )
+	{
+		aleatorio ^= aleatorio << 13;
+		aleatorio ^= aleatorio >>> 17;
+		aleatorio ^= aleatorio << 5;
+		return aleatorio;
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| los valores vacios o nulos
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * <li>Se separan las cubetas con ||
+	 * <li>Las entradas del escondite, si existen, se representan al final
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			sBuilder.append( arreglo[ i ] != null ? arreglo[ i ] + ":" + valores[ i ] : "|X|" );
+			if( ( i + 1 ) < arreglo.length )
+			{
+				sBuilder.append( ( ( i + 1 ) % CUBETA ) == 0 ? " || " : ", " );
+			}
+		}
+		if( tamanoEscondite > 0 )
+		{
+			sBuilder.append( " | " );
+			for( int i = 0; i < tamanoEscondite; i++ )
+			{
+				sBuilder.append( escondite[ i ] + ":" + valoresEscondite[ i ] );
+				if( ( i + 1 ) < tamanoEscondite )
+				{
+					sBuilder.append( ", " );
+				}
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Ubica una entrada en una posicion libre de la cubeta dada
+	 *
+	 * @param cubeta Indice de la primera posicion de la cubeta
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 * @return True si la cubeta tenia una posicion libre, False de lo contrario
+	 */
+	private boolean ubicar( int cubeta, Object key, Object value, int hash )
+	{
+		for( int i = cubeta; i < ( cubeta + CUBETA ); i++ )
+		{
+			if( arreglo[ i ] == null )
+			{
+				arreglo[ i ] = key;
+				valores[ i ] = value;
+				hashes[ i ] = hash;
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Retorna el valor de la entrada del indice dado
+	 *
+	 * @param index Indice de la entrada, con la numeracion de {@link #buscar(Object, int)}
+	 * @return Valor de la entrada
+	 */
+	private V valor( int index )
+	{
+		return ( V ) ( index < arreglo.length ? valores[ index ] : valoresEscondite[ index - arreglo.length ] );
+	}
+	
+	/**
+	 * Retorna una lista con los valores de la HashTable
+	 *
+	 * @return Lista con los valores de la HashTable
+	 */
+	public DoubleLinkedList<V> values( )
+	{
+		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( ( V ) valores[ i ] );
+			}
+		}
+		for( int i = 0; i < tamanoEscondite; i++ )
+		{
+			list.add( ( V ) valoresEscondite[ i ] );
+		}
+		return list;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,460 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable implementada con LinearProbing sobre arreglos planos<br>
+ * Las llaves, los valores y el hash de cada llave se almacenan en arreglos paralelos,
+ * sin crear un nodo por cada entrada. Las remociones desplazan hacia atras el cluster, por lo que no existen marcas
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class HashTableFlat<K, V> extends AbstractHashTable<Object, K, V>
+{
+	/**
+	 * Cursor que recorre directamente los arreglos de la HashTable, omitiendo las posiciones vacias
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Indice de la entrada actual en los arreglos
+		 */
+		private int index = -1;
+		
+		@Override
+		public boolean advance( )
+		{
+			if( index >= arreglo.length )
+			{
+				return false;
+			}
+			do
+			{
+				index++;
+			}
+			while( ( index < arreglo.length ) && ( arreglo[ index ] == null ) );
+			return index < arreglo.length;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return ( K ) arreglo[ posicionado( ) ];
+		}
+		
+		/**
+		 * Retorna el indice de la entrada actual
+		 *
+		 * @return Indice de la entrada actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private int posicionado( )
+		{
+			if( ( index < 0 ) || ( index >= arreglo.length ) || ( arreglo[ index ] == null ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return index;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return ( V ) valores[ posicionado( ) ];
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private Object[ ] valores;
+	
+	/**
+	 * Arreglo del hash de cada llave, paralelo al arreglo de llaves
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 */
+	public HashTableFlat( )
+	{
+		this( TAMANO, 0.75f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public HashTableFlat( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		arreglo = crearArreglo( tamanoArreglo( capacidad ) );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+	}
+	
+	/**
+	 * Agrega una entrada en la posicion libre dada<br>
+	 * <b>pre:</b> La llave no se encuentra en la HashTable y la posicion es la retornada por {@link #buscar(Object, int)}
+	 *
+	 * @param index Posicion libre donde debe ir la entrada
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( int index, K key, V value, int hash )
+	{
+		arreglo[ index ] = key;
+		valores[ index ] = value;
+		hashes[ index ] = hash;
+		size++;
+		if( ( ( float ) size / ( float ) arreglo.length ) > loadFactor )
+		{
+			crecer( );
+		}
+	}
+	
+	/**
+	 * Retorna el indice de la llave en el arreglo
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice de la llave, o -(indice libre + 1) si la llave no se encuentra
+	 */
+	private int buscar( K key, int hash )
+	{
+		int index = indice( hash );
+		while( arreglo[ index ] != null )
+		{
+			if( ( hashes[ index ] == hash ) && arreglo[ index ].equals( key ) )
+			{
+				return index;
+			}
+			index++;
+			if( index >= arreglo.length )
+			{
+				index = 0;
+			}
+		}
+		return -( index + 1 );
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+	}
+	
+	@Override
+	protected Object[ ] crearArreglo( int capacidad )
+	{
+		return new Object[ capacidad ];
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V value = funcion.apply( key, index >= 0 ? ( V ) valores[ index ] : null );
+		if( value == null )
+		{
+			if( index >= 0 )
+			{
+				eliminar( index );
+			}
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = value;
+		}
+		else
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( ( index >= 0 ) && ( valores[ index ] != null ) )
+		{
+			return ( V ) valores[ index ];
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( index >= 0 )
+			{
+				valores[ index ] = value;
+			}
+			else
+			{
+				agregarEntrada( -index - 1, key, value, hash );
+			}
+		}
+		return value;
+	}
+	
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? eliminar( index ) : null;
+	}
+	
+	/**
+	 * Elimina la entrada de la posicion dada y desplaza hacia atras el cluster
+	 *
+	 * @param index Indice de la entrada a eliminar
+	 * @return Valor eliminado
+	 */
+	private V eliminar( int index )
+	{
+		V value = ( V ) valores[ index ];
+		desplazar( index );
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras las entradas siguientes del cluster que pueden ocuparla
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int index = vacio + 1 < arreglo.length ? vacio + 1 : 0;
+		while( arreglo[ index ] != null )
+		{
+			int distanciaInicio = ( index - indice( hashes[ index ] ) ) & ( arreglo.length - 1 );
+			int distanciaVacio = ( index - vacio ) & ( arreglo.length - 1 );
+			if( distanciaInicio >= distanciaVacio )
+			{
+				arreglo[ vacio ] = arreglo[ index ];
+				valores[ vacio ] = valores[ index ];
+				hashes[ vacio ] = hashes[ index ];
+				vacio = index;
+			}
+			index++;
+			if( index >= arreglo.length )
+			{
+				index = 0;
+			}
+		}
+		arreglo[ vacio ] = null;
+		valores[ vacio ] = null;
+	}
+	
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( new Entry<>( ( K ) arreglo[ i ], ( V ) valores[ i ] ) );
+			}
+		}
+		return list;
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? ( V ) valores[ index ] : null;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return ( index >= 0 ) && ( valores[ index ] != null ) ? ( V ) valores[ index ] : defaultValue;
+	}
+	
+	@Override
+	protected long[ ] longitudesSondeo( )
+	{
+		long[ ] histograma = new long[ 8 ];
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				histograma = contar( histograma, ( ( i - hashes[ i ] ) & ( arreglo.length - 1 ) ) + 1 );
+			}
+		}
+		return histograma;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V old = index >= 0 ? ( V ) valores[ index ] : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( index );
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = nuevo;
+		}
+		else
+		{
+			agregarEntrada( -index - 1, key, nuevo, hash );
+		}
+		return nuevo;
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index >= 0 )
+		{
+			V old = ( V ) valores[ index ];
+			valores[ index ] = value;
+			return old;
+		}
+		agregarEntrada( -index - 1, key, value, hash );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index < 0 )
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+			return null;
+		}
+		V old = ( V ) valores[ index ];
+		if( old == null )
+		{
+			valores[ index ] = value;
+		}
+		return old;
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas en arreglos de la capacidad dada<br>
+	 * Se reutiliza el hash almacenado de cada llave
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] llavesAnteriores = arreglo;
+		Object[ ] valoresAnteriores = valores;
+		int[ ] hashesAnteriores = hashes;
+		arreglo = crearArreglo( nuevaCapacidad );
+		valores = new Object[ nuevaCapacidad ];
+		hashes = new int[ nuevaCapacidad ];
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != null )
+			{
+				int index = indice( hashesAnteriores[ i ] );
+				while( arreglo[ index ] != null )
+				{
+					index++;
+					if( index >= arreglo.length )
+					{
+						index = 0;
+					}
+				}
+				arreglo[ index ] = llavesAnteriores[ i ];
+				valores[ index ] = valoresAnteriores[ i ];
+				hashes[ index ] = hashesAnteriores[ i ];
+			}
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| los valores vacios o nulos
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			sBuilder.append( arreglo[ i ] != null ? arreglo[ i ] + ":" + valores[ i ] : "|X|" );
+			if( ( i + 1 ) < arreglo.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Retorna una lista con los valores de la HashTable
+	 *
+	 * @return Lista con los valores de la HashTable
+	 */
+	public DoubleLinkedList<V> values( )
+	{
+		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( ( V ) valores[ i ] );
+			}
+		}
+		return list;
+	}
+}
\ No newline at end of file
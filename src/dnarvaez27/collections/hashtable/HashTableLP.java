@@ -1,11 +1,34 @@
 package dnarvaez27.collections.hashtable;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import dnarvaez27.collections.elements.Entry;
 import dnarvaez27.collections.hashtable.HashTableLP.NodoHash;
 import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
 
 /**
- * Estructura de HashTable implementado con LinearProbing
+ * Estructura de HashTable implementado con LinearProbing<br>
+ * Opcionalmente el rehash se puede realizar de forma incremental (ver {@link #setIncrementalRehash(boolean)}) o en paralelo
+ * (ver {@link #setParallelRehash(boolean)}). Las operaciones sobre todas las entradas {@link #forEach(long, BiConsumer)},
+ * {@link #reduce(long, BiFunction, BiFunction)} y {@link #replaceAll(long, BiFunction)} se pueden ejecutar en paralelo.
+ * El arreglo se puede guardar y restaurar sin rehash con {@link #writeTo(WritableByteChannel, ICodec, ICodec)} y
+ * {@link #readFrom(ReadableByteChannel, ICodec, ICodec)}
  *
  * @author dnarvaez27
  * @param <K> Tipo de las llaves
@@ -20,7 +43,7 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 {
 	/**
 	 * Clase que modela un Nodo de la HashTable<br>
-	 * Este nodo se constituye por una tupla Llave-Valor y una marca asociada
+	 * Este nodo se constituye por una tupla Llave-Valor, el hash de la llave y una marca asociada
 	 *
 	 * @author dnarvaez27
 	 */
@@ -32,18 +55,35 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 		 */
 		private boolean marked;
 		
+		/**
+		 * Hash de la llave del nodo, calculado con {@link AbstractHashTable#dispersar(Object)}
+		 */
+		private int hash;
+		
 		/**
 		 * Construye un nodo a partir de la informacion dada por parametro
 		 *
 		 * @param key Llave del nodo
 		 * @param value Valor del nodo
+		 * @param hash Hash de la llave
 		 */
-		public NodoHash( K key, V value )
+		public NodoHash( K key, V value, int hash )
 		{
 			super( key, value );
+			this.hash = hash;
 			marked = false;
 		}
 		
+		/**
+		 * Retorna el hash de la llave del nodo
+		 *
+		 * @return Hash de la llave del nodo
+		 */
+		public int getHash( )
+		{
+			return hash;
+		}
+		
 		/**
 		 * Verifica si el nodo esta marcado o no
 		 *
@@ -59,138 +99,1350 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 		 */
 		public void reset( )
 		{
-			key = null;
-			value = null;
+			key = null;
+			value = null;
+		}
+		
+		/**
+		 * Establece la marca del nodo
+		 *
+		 * @param marked Nuevo valor de la marca del nodo
+		 */
+		public void setMarked( boolean marked )
+		{
+			this.marked = marked;
+		}
+		
+		/**
+		 * Retorna una representacion del nodo
+		 */
+		@Override
+		public String toString( )
+		{
+			return key != null ? key + ":" + value : null;
+		}
+	}
+	
+	/**
+	 * Recorrido de los nodos de la HashTable directamente sobre el arreglo, omitiendo las posiciones vacias y los Flags<br>
+	 * Sirve como iterador de la HashTable, en cuyo caso retorna los propios nodos, y como cursor
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Recorrido implements Iterator<Entry<K, V>>, ICursor<K, V>
+	{
+		/**
+		 * Indice del nodo actual en el arreglo
+		 */
+		private int index = -1;
+		
+		/**
+		 * Nodo actual del cursor, null si el cursor no esta posicionado en una entrada
+		 */
+		private NodoHash actual;
+		
+		@Override
+		public boolean advance( )
+		{
+			index = siguiente( index + 1 );
+			actual = index < arreglo.length ? arreglo[ index ] : null;
+			return actual != null;
+		}
+		
+		@Override
+		public boolean hasNext( )
+		{
+			return siguiente( index + 1 ) < arreglo.length;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return posicionado( ).getKey( );
+		}
+		
+		@Override
+		public Entry<K, V> next( )
+		{
+			if( !advance( ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return actual;
+		}
+		
+		/**
+		 * Retorna el nodo actual del cursor
+		 *
+		 * @return Nodo actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private NodoHash posicionado( )
+		{
+			if( actual == null )
+			{
+				throw new NoSuchElementException( );
+			}
+			return actual;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+			actual = null;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return posicionado( ).getValue( );
+		}
+	}
+	
+	/**
+	 * Operacion sobre las entradas de un rango del arreglo, que se divide en rangos menores para ejecutarse en paralelo
+	 *
+	 * @author dnarvaez27
+	 * @param <U> Tipo del resultado de la operacion
+	 */
+	private abstract class Operacion<U>
+	{
+		/**
+		 * Combina los resultados de dos rangos contiguos
+		 *
+		 * @param primero Resultado del primer rango
+		 * @param segundo Resultado del segundo rango
+		 * @return Resultado de ambos rangos
+		 */
+		protected U combinar( U primero, U segundo )
+		{
+			return null;
+		}
+		
+		/**
+		 * Aplica la operacion de forma secuencial a las entradas del rango dado
+		 *
+		 * @param inicio Primera posicion del rango
+		 * @param fin Posicion siguiente a la ultima del rango
+		 * @return Resultado del rango
+		 */
+		protected abstract U procesar( int inicio, int fin );
+	}
+	
+	/**
+	 * Tarea de ForkJoin que divide un rango del arreglo hasta el grano dado y aplica una operacion a cada parte
+	 *
+	 * @author dnarvaez27
+	 * @param <U> Tipo del resultado de la operacion
+	 */
+	private class TareaRango<U> extends RecursiveTask<U>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Operacion a aplicar
+		 */
+		private Operacion<U> operacion;
+		
+		/**
+		 * Primera posicion del rango
+		 */
+		private int inicio;
+		
+		/**
+		 * Posicion siguiente a la ultima del rango
+		 */
+		private int fin;
+		
+		/**
+		 * Longitud maxima de un rango que se procesa sin dividirse
+		 */
+		private int grano;
+		
+		/**
+		 * Construye la tarea de un rango
+		 *
+		 * @param operacion Operacion a aplicar
+		 * @param inicio Primera posicion del rango
+		 * @param fin Posicion siguiente a la ultima del rango
+		 * @param grano Longitud maxima de un rango que se procesa sin dividirse
+		 */
+		public TareaRango( Operacion<U> operacion, int inicio, int fin, int grano )
+		{
+			this.operacion = operacion;
+			this.inicio = inicio;
+			this.fin = fin;
+			this.grano = grano;
+		}
+		
+		@Override
+		protected U compute( )
+		{
+			if( ( fin - inicio ) <= grano )
+			{
+				return operacion.procesar( inicio, fin );
+			}
+			int medio = ( inicio + fin ) >>> 1;
+			TareaRango<U> primera = new TareaRango<>( operacion, inicio, medio, grano );
+			primera.fork( );
+			U segundo = new TareaRango<>( operacion, medio, fin, grano ).compute( );
+			return operacion.combinar( primera.join( ), segundo );
+		}
+	}
+	
+	/**
+	 * Rehash en paralelo de los nodos de un arreglo al arreglo actual, que debe estar vacio<br>
+	 * El arreglo actual se divide en regiones contiguas de igual tamaño y el arreglo dado en el mismo numero de trozos.
+	 * Primero cada trozo cuenta sus nodos por region de destino; con estas cuentas cada trozo copia sus nodos, agrupados por region,
+	 * a posiciones propias de un arreglo auxiliar. Despues cada region ubica sus nodos sin salir de sus limites, por lo que
+	 * ninguna tarea escribe en las posiciones de otra. Los nodos cuya secuencia de prueba pasa el final de su region se
+	 * ubican al final de forma secuencial, continuando la secuencia en las regiones siguientes
+	 *
+	 * @author dnarvaez27
+	 */
+	private class RehashParalelo extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Fase en la que cada trozo cuenta sus nodos por region
+		 */
+		private static final int CONTAR = 0;
+		
+		/**
+		 * Fase en la que cada trozo copia sus nodos al arreglo auxiliar
+		 */
+		private static final int COPIAR = 1;
+		
+		/**
+		 * Fase en la que cada region ubica sus nodos en el arreglo actual
+		 */
+		private static final int UBICAR = 2;
+		
+		/**
+		 * Arreglo cuyos nodos se reubican
+		 */
+		private NodoHash[ ] tabla;
+		
+		/**
+		 * Nodos agrupados por region. Al final de la fase de ubicacion, el inicio del grupo de cada region contiene sus nodos desbordados
+		 */
+		private NodoHash[ ] agrupados;
+		
+		/**
+		 * Por cada trozo, la cuenta de sus nodos por region y luego la siguiente posicion de cada region en {@link #agrupados}
+		 */
+		private int[ ][ ] posiciones;
+		
+		/**
+		 * Posicion en {@link #agrupados} del grupo de cada region. La ultima posicion es el total de nodos
+		 */
+		private int[ ] grupos;
+		
+		/**
+		 * Numero de nodos de cada region que no caben antes del final de esta
+		 */
+		private int[ ] desbordados;
+		
+		/**
+		 * Numero de bits del indice dentro de una region
+		 */
+		private int corrimiento;
+		
+		/**
+		 * Fase de la tarea
+		 */
+		private int fase;
+		
+		/**
+		 * Trozo o region de la tarea, -1 si la tarea lanza una subtarea por cada uno
+		 */
+		private int parte;
+		
+		/**
+		 * Construye el rehash paralelo de los nodos del arreglo dado en el numero de regiones dado
+		 *
+		 * @param tabla Arreglo cuyos nodos se reubican
+		 * @param regiones Numero de regiones, potencia de dos menor o igual a la capacidad del arreglo actual
+		 */
+		public RehashParalelo( NodoHash[ ] tabla, int regiones )
+		{
+			this.tabla = tabla;
+			this.posiciones = new int[ regiones ][ regiones ];
+			this.grupos = new int[ regiones + 1 ];
+			this.desbordados = new int[ regiones ];
+			this.corrimiento = Integer.numberOfTrailingZeros( arreglo.length ) - Integer.numberOfTrailingZeros( regiones );
+			this.parte = -1;
+		}
+		
+		/**
+		 * Construye la tarea de una parte en una fase del rehash dado
+		 *
+		 * @param rehash Rehash al que pertenece la tarea
+		 * @param fase Fase de la tarea
+		 * @param parte Trozo o region de la tarea
+		 */
+		private RehashParalelo( RehashParalelo rehash, int fase, int parte )
+		{
+			this.tabla = rehash.tabla;
+			this.agrupados = rehash.agrupados;
+			this.posiciones = rehash.posiciones;
+			this.grupos = rehash.grupos;
+			this.desbordados = rehash.desbordados;
+			this.corrimiento = rehash.corrimiento;
+			this.fase = fase;
+			this.parte = parte;
+		}
+		
+		@Override
+		protected void compute( )
+		{
+			if( parte < 0 )
+			{
+				ejecutarFase( CONTAR );
+				int total = 0;
+				for( int region = 0; region < grupos.length - 1; region++ )
+				{
+					grupos[ region ] = total;
+					for( int[ ] cuentas : posiciones )
+					{
+						int cuenta = cuentas[ region ];
+						cuentas[ region ] = total;
+						total += cuenta;
+					}
+				}
+				grupos[ grupos.length - 1 ] = total;
+				agrupados = new HashTableLP.NodoHash[ total ];
+				ejecutarFase( COPIAR );
+				ejecutarFase( UBICAR );
+				for( int region = 0; region < desbordados.length; region++ )
+				{
+					for( int i = 0; i < desbordados[ region ]; i++ )
+					{
+						reubicar( agrupados[ grupos[ region ] + i ] );
+					}
+				}
+			}
+			else if( fase == UBICAR )
+			{
+				ubicar( );
+			}
+			else
+			{
+				int largo = ( ( tabla.length + posiciones.length ) - 1 ) / posiciones.length;
+				int fin = Math.min( tabla.length, ( parte + 1 ) * largo );
+				int[ ] cuentas = posiciones[ parte ];
+				for( int i = parte * largo; i < fin; i++ )
+				{
+					NodoHash nodoHash = tabla[ i ];
+					if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+					{
+						int region = indice( nodoHash.hash ) >>> corrimiento;
+						if( fase == CONTAR )
+						{
+							cuentas[ region ]++;
+						}
+						else
+						{
+							agrupados[ cuentas[ region ]++ ] = nodoHash;
+						}
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Ejecuta en paralelo la fase dada sobre todas las partes y espera a que terminen
+		 *
+		 * @param fase Fase a ejecutar
+		 */
+		private void ejecutarFase( int fase )
+		{
+			RehashParalelo[ ] tareas = new HashTableLP.RehashParalelo[ posiciones.length ];
+			for( int i = 0; i < tareas.length; i++ )
+			{
+				tareas[ i ] = new RehashParalelo( this, fase, i );
+			}
+			invokeAll( tareas );
+		}
+		
+		/**
+		 * Ubica los nodos de la region de la tarea en la primera posicion vacia de su secuencia de prueba dentro de la region.
+		 * Los nodos que llegan al final de la region se mueven al inicio de su grupo
+		 */
+		private void ubicar( )
+		{
+			int fin = ( parte + 1 ) << corrimiento;
+			int desbordado = grupos[ parte ];
+			for( int i = grupos[ parte ]; i < grupos[ parte + 1 ]; i++ )
+			{
+				NodoHash nodoHash = agrupados[ i ];
+				int index = indice( nodoHash.hash );
+				while( ( index < fin ) && ( arreglo[ index ] != null ) )
+				{
+					index++;
+				}
+				if( index < fin )
+				{
+					arreglo[ index ] = nodoHash;
+				}
+				else
+				{
+					agrupados[ desbordado++ ] = nodoHash;
+				}
+			}
+			desbordados[ parte ] = desbordado - grupos[ parte ];
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 32;
+	
+	/**
+	 * Numero de posiciones del arreglo anterior que se migran en cada operacion durante un rehash incremental
+	 */
+	public static final int MIGRACION = 16;
+	
+	/**
+	 * Fraccion por defecto del arreglo ocupada por Flags que provoca su limpieza
+	 */
+	public static final float UMBRAL_FLAGS = 0.3f;
+	
+	/**
+	 * Numero minimo de entradas para que el rehash se realice en paralelo, si esta activado
+	 */
+	public static final int REHASH_PARALELO = 1 << 16;
+	
+	/**
+	 * Numero minimo de posiciones del arreglo por region en el rehash paralelo
+	 */
+	private static final int REGION = 1 << 12;
+	
+	/**
+	 * Numero que identifica una fotografia de la HashTable
+	 */
+	private static final int MAGIA = 0x44484C50;
+	
+	/**
+	 * Version del formato de las fotografias
+	 */
+	private static final int VERSION = 1;
+	
+	/**
+	 * Tamaño en bytes del encabezado de las fotografias
+	 */
+	private static final int ENCABEZADO = 24;
+	
+	/**
+	 * Tamaño en bytes del encabezado de cada posicion en las fotografias: indice, hash y longitud de la entrada
+	 */
+	private static final int POSICION = 12;
+	
+	/**
+	 * Longitud de las entradas con valor null en las fotografias, menos la longitud de su llave codificada
+	 */
+	private static final int NULO = -2;
+	
+	/**
+	 * Tamaño en bytes del buffer de lectura y escritura de las fotografias
+	 */
+	private static final int BUFFER = 1 << 16;
+	
+	/**
+	 * HashCode cuyo hash disperso se guarda en las fotografias, para verificar que el hash de sus nodos se puede reutilizar
+	 */
+	private static final int PRUEBA = 0x9E3779B9;
+	
+	/**
+	 * Numero de "Flags" o marcas en el arreglo
+	 */
+	private int flags;
+	
+	/**
+	 * Fraccion del arreglo ocupada por Flags a partir de la cual se realiza un rehash para eliminarlos
+	 */
+	private float umbralFlags = UMBRAL_FLAGS;
+	
+	/**
+	 * Establece si las remociones desplazan hacia atras las entradas siguientes del cluster en lugar de dejar Flags
+	 */
+	private boolean backwardShift;
+	
+	/**
+	 * Establece si el rehash se realiza de forma incremental
+	 */
+	private boolean incremental;
+	
+	/**
+	 * Establece si el rehash de las HashTables grandes se realiza en paralelo
+	 */
+	private boolean paralelo;
+	
+	/**
+	 * Arreglo anterior durante un rehash incremental, null si no hay un rehash en curso<br>
+	 * Sus entradas se migran al arreglo actual en orden, desde la posicion {@link #migracion}
+	 */
+	private NodoHash[ ] anterior;
+	
+	/**
+	 * Siguiente posicion del arreglo anterior a migrar
+	 */
+	private int migracion;
+	
+	/**
+	 * Marca que reemplaza en el arreglo anterior a los nodos ya migrados, para no interrumpir las secuencias de prueba
+	 */
+	private NodoHash migrado;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 */
+	public HashTableLP( )
+	{
+		this( TAMANO, 0.75f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param size Tamaño del arreglo, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public HashTableLP( int size, float loadFactor )
+	{
+		super( size, loadFactor );
+		arreglo = crearArreglo( tamanoArreglo( size ) );
+	}
+	
+	/**
+	 * Agrega una entrada a la tabla de Hash. Esta entrada debe ser única<br>
+	 * <b>pre:</b> La llave no se encuentra en la HashTable
+	 *
+	 * @param index Indice del arreglo donde debe ir la entrada
+	 * @param key Llave asociada a la entrada
+	 * @param value Valor asociado a la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( int index, K key, V value, int hash )
+	{
+		if( ( arreglo[ index ] != null ) && arreglo[ index ].isMarked( ) )
+		{
+			flags--;
+		}
+		arreglo[ index ] = crearNodo( key, value, hash );
+		size++;
+		verificarLoadFactor( true );
+		verificarFlags( );
+	}
+	
+	/**
+	 * Retorna el indice del nodo con la llave dada por parametro en el arreglo dado
+	 *
+	 * @param tabla Arreglo en el cual buscar
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice del nodo con la llave, -1 si la llave no se encuentra
+	 */
+	private int buscar( NodoHash[ ] tabla, K key, int hash )
+	{
+		int index = hash & ( tabla.length - 1 );
+		while( tabla[ index ] != null )
+		{
+			NodoHash nodoHash = tabla[ index ];
+			if( !nodoHash.isMarked( ) && ( nodoHash.hash == hash ) && nodoHash.getKey( ).equals( key ) )
+			{
+				return index;
+			}
+			index++;
+			if( index >= tabla.length )
+			{
+				index = 0;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Retorna el nodo con la llave dada por parametro, buscando en el arreglo actual y,
+	 * durante un rehash incremental, en el arreglo anterior
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Nodo con la llave, null si la llave no se encuentra
+	 */
+	private NodoHash buscarNodo( K key, int hash )
+	{
+		int index = buscar( arreglo, key, hash );
+		if( index != -1 )
+		{
+			return arreglo[ index ];
+		}
+		if( anterior != null )
+		{
+			index = buscar( anterior, key, hash );
+			if( index != -1 )
+			{
+				return anterior[ index ];
+			}
+		}
+		return null;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		anterior = null;
+		flags = 0;
+	}
+	
+	/**
+	 * Completa el rehash incremental en curso, migrando todas las entradas pendientes del arreglo anterior
+	 */
+	private void completarMigracion( )
+	{
+		while( anterior != null )
+		{
+			migrar( anterior.length );
+		}
+	}
+	
+	@Override
+	protected NodoHash[ ] crearArreglo( int capacidad )
+	{
+		return new HashTableLP.NodoHash[ capacidad ];
+	}
+	
+	/**
+	 * Crea el nodo de una entrada nueva. Las subclases lo sobreescriben para usar nodos con informacion adicional
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 * @return Nodo de la entrada
+	 */
+	protected NodoHash crearNodo( K key, V value, int hash )
+	{
+		return new NodoHash( key, value, hash );
+	}
+	
+	/**
+	 * Retorna un cursor que recorre directamente el arreglo de la HashTable<br>
+	 * Si hay un rehash incremental en curso, este se completa antes de crear el cursor
+	 */
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		completarMigracion( );
+		return new Recorrido( );
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		int index = sondear( key, hash );
+		V value = funcion.apply( key, index >= 0 ? ( V ) arreglo[ index ].getValue( ) : null );
+		if( value == null )
+		{
+			if( index >= 0 )
+			{
+				eliminar( index );
+			}
+		}
+		else if( index >= 0 )
+		{
+			arreglo[ index ].setValue( value );
+		}
+		else
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		int index = sondear( key, hash );
+		if( ( index >= 0 ) && ( arreglo[ index ].getValue( ) != null ) )
+		{
+			return ( V ) arreglo[ index ].getValue( );
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( index >= 0 )
+			{
+				arreglo[ index ].setValue( value );
+			}
+			else
+			{
+				agregarEntrada( -index - 1, key, value, hash );
+			}
+		}
+		return value;
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		migrar( MIGRACION );
+		int index = sondear( key, dispersar( key ) );
+		return index >= 0 ? eliminar( index ) : null;
+	}
+	
+	/**
+	 * Elimina la entrada de la posicion dada del arreglo actual, desplazando el cluster o dejando un Flag
+	 *
+	 * @param index Indice de la entrada a eliminar
+	 * @return Valor eliminado
+	 */
+	private V eliminar( int index )
+	{
+		V value = ( V ) arreglo[ index ].getValue( );
+		nodoEliminado( arreglo[ index ] );
+		if( backwardShift )
+		{
+			desplazar( index );
+		}
+		else
+		{
+			arreglo[ index ].setMarked( true );
+			arreglo[ index ].reset( );
+			flags++;
+		}
+		size--;
+		verificarLoadFactor( false );
+		verificarFlags( );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras las entradas siguientes del cluster que pueden ocuparla,
+	 * de manera que ninguna secuencia de prueba quede interrumpida y no se requieran Flags
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		arreglo[ vacio ] = null;
+		int index = vacio + 1 < arreglo.length ? vacio + 1 : 0;
+		while( arreglo[ index ] != null )
+		{
+			int inicio = indice( arreglo[ index ].hash );
+			int distanciaInicio = ( index - inicio ) & ( arreglo.length - 1 );
+			int distanciaVacio = ( index - vacio ) & ( arreglo.length - 1 );
+			if( distanciaInicio >= distanciaVacio )
+			{
+				arreglo[ vacio ] = arreglo[ index ];
+				arreglo[ index ] = null;
+				vacio = index;
+			}
+			index++;
+			if( index >= arreglo.length )
+			{
+				index = 0;
+			}
+		}
+	}
+	
+	/**
+	 * Aplica la operacion dada a la HashTable, en paralelo si su tamaño alcanza el umbral dado<br>
+	 * Si hay un rehash incremental en curso, este se completa antes
+	 *
+	 * @param parallelismThreshold Numero minimo de entradas para ejecutar la operacion en paralelo
+	 * @param operacion Operacion a aplicar
+	 * @return Resultado de la operacion
+	 */
+	private <U> U ejecutar( long parallelismThreshold, Operacion<U> operacion )
+	{
+		completarMigracion( );
+		int paralelismo = ForkJoinPool.getCommonPoolParallelism( );
+		if( ( size < parallelismThreshold ) || ( paralelismo <= 1 ) )
+		{
+			return operacion.procesar( 0, arreglo.length );
+		}
+		int grano = Math.max( TAMANO, arreglo.length / ( paralelismo << 3 ) );
+		return ForkJoinPool.commonPool( ).invoke( new TareaRango<>( operacion, 0, arreglo.length, grano ) );
+	}
+	
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		completarMigracion( );
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( NodoHash nodoHash : arreglo )
+		{
+			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+			{
+				list.add( nodoHash );
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Realiza la accion dada con cada entrada de la HashTable<br>
+	 * Si la HashTable tiene al menos el numero de entradas dado, el arreglo se divide en rangos que se recorren en paralelo
+	 * en el ForkJoinPool comun, por lo que la accion no tiene un orden definido y debe poder ejecutarse de forma concurrente.
+	 * La HashTable no debe modificarse durante el recorrido
+	 *
+	 * @param parallelismThreshold Numero minimo de entradas para recorrer en paralelo. Long.MAX_VALUE recorre de forma secuencial
+	 * @param action Accion a realizar con la llave y el valor de cada entrada
+	 */
+	public void forEach( long parallelismThreshold, final BiConsumer<? super K, ? super V> action )
+	{
+		ejecutar( parallelismThreshold, new Operacion<Void>( )
+		{
+			@Override
+			protected Void procesar( int inicio, int fin )
+			{
+				for( int i = inicio; i < fin; i++ )
+				{
+					NodoHash nodoHash = arreglo[ i ];
+					if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+					{
+						action.accept( nodoHash.getKey( ), nodoHash.getValue( ) );
+					}
+				}
+				return null;
+			}
+		} );
+	}
+	
+	public DoubleLinkedList<V> values( )
+	{
+		completarMigracion( );
+		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
+		for( NodoHash nodoHash : arreglo )
+		{
+			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+			{
+				list.add( nodoHash.getValue( ) );
+			}
+		}
+		return list;
+	}
+	
+	public Entry<K, V> getEntry( K key )
+	{
+		return buscarNodo( key, dispersar( key ) );
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		NodoHash nodoHash = buscarNodo( key, dispersar( key ) );
+		return nodoHash != null ? nodoHash.getValue( ) : null;
+	}
+	
+	/**
+	 * Calcula primero el hash de todo el lote y luego busca las llaves agrupadas por region del arreglo
+	 * con {@link #agrupar(int[])}
+	 */
+	@Override
+	public void getAll( K[ ] keys, V[ ] out )
+	{
+		verificarLote( keys, out );
+		int[ ] hashes = dispersar( keys );
+		for( int i : agrupar( hashes ) )
+		{
+			NodoHash nodoHash = buscarNodo( keys[ i ], hashes[ i ] );
+			out[ i ] = nodoHash != null ? nodoHash.getValue( ) : null;
+		}
+	}
+	
+	/**
+	 * Retorna un iterador que recorre directamente el arreglo de la HashTable<br>
+	 * Las entradas retornadas son los nodos de la HashTable, por lo que no se crea ningun objeto por entrada.
+	 * Si hay un rehash incremental en curso, este se completa antes de crear el iterador
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator( )
+	{
+		completarMigracion( );
+		return new Recorrido( );
+	}
+	
+	/**
+	 * Verifica si el rehash se realiza de forma incremental
+	 *
+	 * @return True si el rehash es incremental, False si reubica todas las entradas de una vez
+	 */
+	public boolean isIncrementalRehash( )
+	{
+		return incremental;
+	}
+	
+	/**
+	 * Verifica si el rehash de las HashTables grandes se realiza en paralelo
+	 *
+	 * @return True si el rehash es paralelo, False si es secuencial
+	 */
+	public boolean isParallelRehash( )
+	{
+		return paralelo;
+	}
+	
+	/**
+	 * Verifica si hay un rehash incremental en curso
+	 *
+	 * @return True si aun hay entradas en el arreglo anterior, False de lo contrario
+	 */
+	public boolean isRehashing( )
+	{
+		return anterior != null;
+	}
+	
+	/**
+	 * Migra al arreglo actual las entradas de las siguientes posiciones del arreglo anterior<br>
+	 * Los nodos migrados se reemplazan por una marca, por lo que las secuencias de prueba del arreglo anterior no se interrumpen
+	 *
+	 * @param posiciones Numero maximo de posiciones del arreglo anterior a migrar
+	 */
+	private void migrar( int posiciones )
+	{
+		for( int i = 0; ( i < posiciones ) && ( anterior != null ); i++ )
+		{
+			NodoHash nodoHash = anterior[ migracion ];
+			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+			{
+				reubicar( nodoHash );
+				anterior[ migracion ] = migrado;
+			}
+			migracion++;
+			if( migracion >= anterior.length )
+			{
+				anterior = null;
+			}
+		}
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		NodoHash nodoHash = buscarNodo( key, dispersar( key ) );
+		return ( nodoHash != null ) && ( nodoHash.getValue( ) != null ) ? nodoHash.getValue( ) : defaultValue;
+	}
+	
+	/**
+	 * Cuenta la distancia de cada entrada a su posicion inicial en el arreglo actual y, durante un rehash incremental,
+	 * en el arreglo anterior. Los Flags intermedios cuentan como posiciones recorridas
+	 */
+	@Override
+	protected long[ ] longitudesSondeo( )
+	{
+		long[ ] histograma = longitudesSondeo( new long[ 8 ], arreglo );
+		return anterior != null ? longitudesSondeo( histograma, anterior ) : histograma;
+	}
+	
+	/**
+	 * Suma al histograma la longitud de sondeo de cada entrada del arreglo dado
+	 *
+	 * @param histograma Histograma a modificar
+	 * @param tabla Arreglo a recorrer
+	 * @return El histograma, posiblemente extendido
+	 */
+	private long[ ] longitudesSondeo( long[ ] histograma, NodoHash[ ] tabla )
+	{
+		for( int i = 0; i < tabla.length; i++ )
+		{
+			if( ( tabla[ i ] != null ) && !tabla[ i ].isMarked( ) )
+			{
+				histograma = contar( histograma, ( ( i - tabla[ i ].hash ) & ( tabla.length - 1 ) ) + 1 );
+			}
+		}
+		return histograma;
+	}
+	
+	@Override
+	protected int marcas( )
+	{
+		return flags;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		int index = sondear( key, hash );
+		V old = index >= 0 ? ( V ) arreglo[ index ].getValue( ) : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( index );
 		}
-		
-		/**
-		 * Establece la marca del nodo
-		 *
-		 * @param marked Nuevo valor de la marca del nodo
-		 */
-		public void setMarked( boolean marked )
+		else if( index >= 0 )
 		{
-			this.marked = marked;
+			arreglo[ index ].setValue( nuevo );
 		}
-		
-		/**
-		 * Retorna una representacion del nodo
-		 */
-		@Override
-		public String toString( )
+		else
 		{
-			return key != null ? key + ":" + value : null;
+			agregarEntrada( -index - 1, key, nuevo, hash );
 		}
+		return nuevo;
 	}
 	
-	/**
-	 * Tamaño inicial del arreglo
-	 */
-	private static final int TAMANO = 20;
+	@Override
+	public V put( K key, V value )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		int index = sondear( key, hash );
+		if( index >= 0 )
+		{
+			V old = ( V ) arreglo[ index ].getValue( );
+			arreglo[ index ].setValue( value );
+			return old;
+		}
+		agregarEntrada( -index - 1, key, value, hash );
+		return null;
+	}
 	
 	/**
-	 * Numero de "Flags" o marcas en el arreglo
+	 * Calcula primero el hash de todo el lote y reserva la capacidad para este, por lo que se realiza a lo sumo un rehash
+	 * y el factor de carga no se verifica por cada entrada. Las entradas se agregan agrupadas por region del arreglo
+	 * con {@link #agrupar(int[])}. Si hay un rehash incremental en curso, este se completa antes de agregar el lote
 	 */
-	private int flags;
+	@Override
+	public void putAll( K[ ] keys, V[ ] values )
+	{
+		verificarLote( keys, values );
+		int[ ] hashes = dispersar( keys );
+		ensureCapacity( size + keys.length );
+		if( ( flags > 0 ) && ( ( size + flags + keys.length ) >= ( arreglo.length - 1 ) ) )
+		{
+			reconstruir( arreglo.length, LIMPIAR );
+		}
+		completarMigracion( );
+		for( int i : agrupar( hashes ) )
+		{
+			int index = sondear( keys[ i ], hashes[ i ] );
+			if( index >= 0 )
+			{
+				arreglo[ index ].setValue( values[ i ] );
+			}
+			else
+			{
+				index = -index - 1;
+				if( arreglo[ index ] != null )
+				{
+					flags--;
+				}
+				arreglo[ index ] = crearNodo( keys[ i ], values[ i ], hashes[ i ] );
+				size++;
+			}
+		}
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		int index = sondear( key, hash );
+		if( index < 0 )
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+			return null;
+		}
+		V old = ( V ) arreglo[ index ].getValue( );
+		if( old == null )
+		{
+			arreglo[ index ].setValue( value );
+		}
+		return old;
+	}
 	
 	/**
-	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 * Asegura que el buffer dado tenga al menos el numero de bytes dado por leer, leyendo del canal lo que falte<br>
+	 * El buffer debe estar en modo de lectura y se retorna en modo de lectura. Si es menor al numero de bytes, se reemplaza
+	 *
+	 * @param channel Canal del que se lee
+	 * @param buffer Buffer de lectura
+	 * @param bytes Numero de bytes requeridos
+	 * @return Buffer con al menos el numero de bytes dado por leer
+	 * @throws IOException Si el canal termina antes de tener los bytes requeridos
 	 */
-	public HashTableLP( )
+	private static ByteBuffer llenar( ReadableByteChannel channel, ByteBuffer buffer, int bytes ) throws IOException
 	{
-		this( TAMANO, 0.75f );
+		if( buffer.remaining( ) >= bytes )
+		{
+			return buffer;
+		}
+		if( buffer.capacity( ) < bytes )
+		{
+			buffer = ByteBuffer.allocate( bytes ).put( buffer );
+		}
+		else
+		{
+			buffer.compact( );
+		}
+		while( buffer.position( ) < bytes )
+		{
+			if( channel.read( buffer ) < 0 )
+			{
+				throw new EOFException( "The snapshot is truncated" );
+			}
+		}
+		buffer.flip( );
+		return buffer;
 	}
 	
 	/**
-	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 * Reemplaza el contenido de la HashTable por el de una fotografia escrita con {@link #writeTo(OutputStream, ICodec, ICodec)}
 	 *
-	 * @param size Tamaño del arreglo
-	 * @param loadFactor Factor de carga
+	 * @param in Flujo del que se lee la fotografia. No se cierra
+	 * @param keyCodec Codificacion de las llaves
+	 * @param valueCodec Codificacion de los valores
+	 * @throws IOException Si la fotografia no es valida o hay un error de lectura
+	 * @see #readFrom(ReadableByteChannel, ICodec, ICodec)
 	 */
-	public HashTableLP( int size, float loadFactor )
+	public void readFrom( InputStream in, ICodec<? extends K> keyCodec, ICodec<? extends V> valueCodec ) throws IOException
 	{
-		super( size, loadFactor );
-		arreglo = new HashTableLP.NodoHash[ size ];
+		readFrom( Channels.newChannel( in ), keyCodec, valueCodec );
 	}
 	
 	/**
-	 * Agrega una entrada a la tabla de Hash. Esta entrada debe ser única<br>
-	 * <b>pre:</b> La llave no se encuentra en la HashTable
+	 * Reemplaza el contenido de la HashTable por el de una fotografia escrita con
+	 * {@link #writeTo(WritableByteChannel, ICodec, ICodec)}<br>
+	 * El arreglo se restaura con la capacidad y el orden de la fotografia, incluyendo los Flags, y los nodos conservan el hash
+	 * guardado, por lo que no se calcula ningun HashCode ni se recorre ninguna secuencia de prueba. Si la funcion de dispersion
+	 * de esta HashTable no es la de la HashTable que escribio la fotografia, las entradas se reubican con su nuevo hash.
+	 * Si esta HashTable remueve con desplazamiento hacia atras (ver {@link #setBackwardShift(boolean)}), los Flags de la
+	 * fotografia se eliminan con un rehash al final de la lectura.
+	 * El canal se lee por bloques en un unico buffer; si el canal permite cambiar su posicion, esta queda al final de la
+	 * fotografia, de lo contrario se pueden haber leido bytes posteriores a esta<br>
+	 * El factor de carga y las demas opciones de esta HashTable se conservan. Si se lanza una excepcion la HashTable queda vacia
 	 *
-	 * @param index Indice del arreglo donde debe ir la entrada
-	 * @param key Llave asociada a la entrada
-	 * @param value Valor asociado a la entrada
+	 * @param channel Canal del que se lee la fotografia. No se cierra
+	 * @param keyCodec Codificacion de las llaves
+	 * @param valueCodec Codificacion de los valores
+	 * @throws IOException Si la fotografia no es valida o hay un error de lectura
 	 */
-	private void agregarEntrada( int index, K key, V value )
+	public void readFrom( ReadableByteChannel channel, ICodec<? extends K> keyCodec, ICodec<? extends V> valueCodec ) throws IOException
 	{
-		if( ( arreglo[ index ] != null ) && arreglo[ index ].isMarked( ) )
+		clear( );
+		try
 		{
-			flags--;
+			ByteBuffer buffer = ByteBuffer.allocate( BUFFER );
+			buffer.flip( );
+			buffer = llenar( channel, buffer, ENCABEZADO );
+			if( buffer.getInt( ) != MAGIA )
+			{
+				throw new IOException( "The data is not a hash table snapshot" );
+			}
+			if( buffer.getInt( ) != VERSION )
+			{
+				throw new IOException( "Unsupported snapshot version" );
+			}
+			int capacidad = buffer.getInt( );
+			int entradas = buffer.getInt( );
+			int marcas = buffer.getInt( );
+			boolean mismoHash = buffer.getInt( ) == spreader.spread( PRUEBA );
+			if( ( capacidad <= 0 ) || ( Integer.bitCount( capacidad ) != 1 ) || ( entradas < 0 ) || ( marcas < 0 ) || ( ( entradas + marcas ) >= capacidad ) )
+			{
+				throw new IOException( "The snapshot header is corrupted" );
+			}
+			arreglo = crearArreglo( capacidad );
+			for( int i = entradas + marcas; i > 0; i-- )
+			{
+				buffer = llenar( channel, buffer, POSICION );
+				int index = buffer.getInt( );
+				int hash = buffer.getInt( );
+				int longitud = buffer.getInt( );
+				if( ( index < 0 ) || ( index >= capacidad ) || ( mismoHash && ( arreglo[ index ] != null ) ) )
+				{
+					throw new IOException( "The snapshot slot " + index + " is corrupted" );
+				}
+				boolean nulo = longitud <= NULO;
+				if( nulo )
+				{
+					longitud = NULO - longitud;
+				}
+				else if( longitud < 0 )
+				{
+					if( mismoHash )
+					{
+						arreglo[ index ] = new NodoHash( null, null, 0 );
+						arreglo[ index ].setMarked( true );
+						flags++;
+					}
+					continue;
+				}
+				buffer = llenar( channel, buffer, longitud );
+				int fin = buffer.position( ) + longitud;
+				K key = verificarLlave( keyCodec.read( buffer ) );
+				V value = nulo ? null : verificarValor( valueCodec.read( buffer ) );
+				if( buffer.position( ) != fin )
+				{
+					throw new IOException( "The codecs do not match the snapshot slot " + index );
+				}
+				if( mismoHash )
+				{
+					arreglo[ index ] = crearNodo( key, value, hash );
+				}
+				else
+				{
+					reubicar( crearNodo( key, value, dispersar( key ) ) );
+				}
+				size++;
+			}
+			if( ( size != entradas ) || ( flags != ( mismoHash ? marcas : 0 ) ) )
+			{
+				throw new IOException( "The snapshot header is corrupted" );
+			}
+			if( backwardShift && ( flags > 0 ) )
+			{
+				reconstruir( arreglo.length, LIMPIAR );
+			}
+			if( ( channel instanceof SeekableByteChannel ) && buffer.hasRemaining( ) )
+			{
+				SeekableByteChannel seekable = ( SeekableByteChannel ) channel;
+				seekable.position( seekable.position( ) - buffer.remaining( ) );
+			}
+		}
+		catch( IOException | RuntimeException e )
+		{
+			clear( );
+			throw e;
 		}
-		arreglo[ index ] = new NodoHash( key, value );
-		size++;
-		verificarLoadFactor( true );
 	}
 	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas en un arreglo de la capacidad dada<br>
+	 * Los nodos existentes y su hash almacenado se reutilizan y los Flags se eliminan.
+	 * Si el rehash es incremental, el arreglo actual pasa a ser el arreglo anterior y sus entradas se migran
+	 * en las siguientes operaciones. Si ya habia un rehash incremental en curso, se reubican de una vez
+	 * las entradas de ambos arreglos
+	 *
+	 * @param nuevaCapacidad Capacidad del nuevo arreglo
+	 */
 	@Override
-	public V delete( K key )
+	protected void rehash( int nuevaCapacidad )
 	{
-		int index = hash( key );
-		
-		while( ( arreglo[ index ] != null ) && ( arreglo[ index ].isMarked( ) || !arreglo[ index ].getKey( ).equals( key ) ) )
+		NodoHash[ ] actual = arreglo;
+		NodoHash[ ] pendiente = anterior;
+		arreglo = crearArreglo( nuevaCapacidad );
+		anterior = null;
+		flags = 0;
+		if( incremental && ( pendiente == null ) )
 		{
-			index++;
-			if( index >= arreglo.length )
+			if( migrado == null )
 			{
-				index = 0;
+				migrado = new NodoHash( null, null, 0 );
+				migrado.setMarked( true );
 			}
+			anterior = actual;
+			migracion = 0;
+			return;
 		}
-		if( ( arreglo[ index ] != null ) && arreglo[ index ].getKey( ).equals( key ) )
+		if( paralelo && ( pendiente == null ) && ( size >= REHASH_PARALELO ) && ( ForkJoinPool.getCommonPoolParallelism( ) > 1 ) )
 		{
-			V value = ( V ) arreglo[ index ].getValue( );
-			arreglo[ index ].setMarked( true );
-			arreglo[ index ].reset( );
-			flags++;
-			size--;
-			verificarLoadFactor( false );
-			verificarFlags( );
-			return value;
+			int regiones = Math.min( tamanoArreglo( ForkJoinPool.getCommonPoolParallelism( ) << 2 ), nuevaCapacidad / REGION );
+			ForkJoinPool.commonPool( ).invoke( new RehashParalelo( actual, Math.max( regiones, 1 ) ) );
+			return;
+		}
+		reubicar( actual );
+		if( pendiente != null )
+		{
+			reubicar( pendiente );
 		}
-		return null;
 	}
 	
-	@Override
-	public DoubleLinkedList<Entry<K, V>> entries( )
+	/**
+	 * Combina el resultado de aplicar la transformacion dada a cada entrada de la HashTable con la reduccion dada<br>
+	 * Los resultados null de la transformacion se omiten. Si la HashTable tiene al menos el numero de entradas dado, el
+	 * arreglo se divide en rangos que se reducen en paralelo en el ForkJoinPool comun, por lo que la reduccion debe ser
+	 * asociativa y sin efectos secundarios. La HashTable no debe modificarse durante la reduccion
+	 *
+	 * @param parallelismThreshold Numero minimo de entradas para reducir en paralelo. Long.MAX_VALUE reduce de forma secuencial
+	 * @param transformer Transformacion de la llave y el valor de cada entrada, null para omitir la entrada
+	 * @param reducer Reduccion de dos resultados
+	 * @return Resultado de la reduccion, null si no hay resultados
+	 */
+	public <U> U reduce( long parallelismThreshold, final BiFunction<? super K, ? super V, ? extends U> transformer, final BiFunction<? super U, ? super U, ? extends U> reducer )
 	{
-		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
-		for( NodoHash nodoHash : arreglo )
+		return ejecutar( parallelismThreshold, new Operacion<U>( )
 		{
-			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+			@Override
+			protected U combinar( U primero, U segundo )
 			{
-				list.add( nodoHash );
+				if( primero == null )
+				{
+					return segundo;
+				}
+				return segundo == null ? primero : reducer.apply( primero, segundo );
 			}
-		}
-		return list;
+			
+			@Override
+			protected U procesar( int inicio, int fin )
+			{
+				U resultado = null;
+				for( int i = inicio; i < fin; i++ )
+				{
+					NodoHash nodoHash = arreglo[ i ];
+					if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+					{
+						resultado = combinar( resultado, transformer.apply( nodoHash.getKey( ), nodoHash.getValue( ) ) );
+					}
+				}
+				return resultado;
+			}
+		} );
 	}
 	
-	public DoubleLinkedList<V> values( )
+	/**
+	 * Reemplaza el valor de cada entrada de la HashTable por el resultado de la funcion dada<br>
+	 * Si la HashTable tiene al menos el numero de entradas dado, el arreglo se divide en rangos que se recorren en paralelo
+	 * en el ForkJoinPool comun; cada tarea solo modifica los nodos de su rango. La HashTable no debe modificarse de otra forma
+	 * durante el reemplazo
+	 *
+	 * @param parallelismThreshold Numero minimo de entradas para reemplazar en paralelo. Long.MAX_VALUE reemplaza de forma secuencial
+	 * @param function Funcion que calcula el nuevo valor a partir de la llave y el valor actual
+	 * @throws NullPointerException Si la funcion retorna null
+	 */
+	public void replaceAll( long parallelismThreshold, final BiFunction<? super K, ? super V, ? extends V> function )
 	{
-		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
-		for( NodoHash nodoHash : arreglo )
+		ejecutar( parallelismThreshold, new Operacion<Void>( )
 		{
-			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+			@Override
+			protected Void procesar( int inicio, int fin )
 			{
-				list.add( nodoHash.getValue( ) );
+				for( int i = inicio; i < fin; i++ )
+				{
+					NodoHash nodoHash = arreglo[ i ];
+					if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
+					{
+						V value = function.apply( nodoHash.getKey( ), nodoHash.getValue( ) );
+						verificarValor( value );
+						nodoHash.setValue( value );
+					}
+				}
+				return null;
 			}
-		}
-		return list;
+		} );
 	}
 	
-	public Entry<K, V> getEntry( K key )
+	/**
+	 * Ubica el nodo dado en la primera posicion vacia o marcada de su secuencia de prueba en el arreglo actual<br>
+	 * <b>pre:</b> La llave del nodo no se encuentra en el arreglo actual
+	 *
+	 * @param nodoHash Nodo a ubicar
+	 */
+	private void reubicar( NodoHash nodoHash )
 	{
-		int index = hash( key );
-		
-		while( ( arreglo[ index ] != null ) && ( arreglo[ index ].isMarked( ) || !arreglo[ index ].getKey( ).equals( key ) ) )
+		int index = indice( nodoHash.hash );
+		while( ( arreglo[ index ] != null ) && !arreglo[ index ].isMarked( ) )
 		{
 			index++;
 			if( index >= arreglo.length )
@@ -198,43 +1450,54 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 				index = 0;
 			}
 		}
-		if( ( arreglo[ index ] != null ) && arreglo[ index ].getKey( ).equals( key ) )
+		if( arreglo[ index ] != null )
 		{
-			return arreglo[ index ];
+			flags--;
 		}
-		return null;
+		arreglo[ index ] = nodoHash;
 	}
 	
-	@Override
-	public V get( K key )
+	/**
+	 * Ubica en el arreglo actual todos los nodos con entradas del arreglo dado
+	 *
+	 * @param tabla Arreglo cuyos nodos se reubican
+	 */
+	private void reubicar( NodoHash[ ] tabla )
 	{
-		int index = hash( key );
-		
-		while( ( arreglo[ index ] != null ) && ( arreglo[ index ].isMarked( ) || !arreglo[ index ].getKey( ).equals( key ) ) )
+		for( NodoHash nodoHash : tabla )
 		{
-			index++;
-			if( index >= arreglo.length )
+			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
 			{
-				index = 0;
+				reubicar( nodoHash );
 			}
 		}
-		if( ( arreglo[ index ] != null ) && arreglo[ index ].getKey( ).equals( key ) )
-		{
-			return ( V ) arreglo[ index ].getValue( );
-		}
-		return null;
 	}
 	
-	@Override
-	public V put( K key, V value )
+	/**
+	 * Recorre una sola vez la secuencia de prueba de la llave en el arreglo actual, recordando la primera posicion marcada<br>
+	 * Si hay un rehash incremental en curso y la llave se encuentra en el arreglo anterior, su nodo se migra
+	 * a la posicion libre encontrada en el arreglo actual
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice del nodo con la llave en el arreglo actual, o -(indice libre + 1) si la llave no se encuentra
+	 */
+	private int sondear( K key, int hash )
 	{
-		int index = hash( key );
-		while( ( arreglo[ index ] != null ) && !arreglo[ index ].isMarked( ) )
+		int index = indice( hash );
+		int marcado = -1;
+		while( arreglo[ index ] != null )
 		{
-			if( arreglo[ index ].getKey( ).equals( key ) )
+			if( arreglo[ index ].isMarked( ) )
 			{
-				arreglo[ index ].setValue( value );
-				return null;
+				if( marcado == -1 )
+				{
+					marcado = index;
+				}
+			}
+			else if( ( arreglo[ index ].hash == hash ) && arreglo[ index ].getKey( ).equals( key ) )
+			{
+				return index;
 			}
 			index++;
 			if( index >= arreglo.length )
@@ -242,46 +1505,47 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 				index = 0;
 			}
 		}
-		agregarEntrada( index, key, value );
-		return null;
+		int libre = marcado != -1 ? marcado : index;
+		if( anterior != null )
+		{
+			int indexAnterior = buscar( anterior, key, hash );
+			if( indexAnterior != -1 )
+			{
+				if( arreglo[ libre ] != null )
+				{
+					flags--;
+				}
+				arreglo[ libre ] = anterior[ indexAnterior ];
+				anterior[ indexAnterior ] = migrado;
+				return libre;
+			}
+		}
+		return -( libre + 1 );
 	}
 	
 	/**
-	 * Realiza un rehash de la HashTable. Reubicando las entradas<br>
+	 * Notifica que el nodo dado se va a retirar de la HashTable, antes de que se reinicie o se convierta en Flag.
+	 * Las subclases lo sobreescriben para liberar la informacion adicional del nodo
 	 *
-	 * @param op Opcion de rehash:
-	 *        <ol>
-	 *        <li>Incrementa el tamaño
-	 *        <li>Reduce el tamaño
-	 *        <li>Mantiene el tamaño, <i>Remueve los Flags</i>
-	 *        </ol>
+	 * @param nodoHash Nodo que se retira
 	 */
-	private void rehash( int op )
+	protected void nodoEliminado( NodoHash nodoHash )
 	{
-		DoubleLinkedList<NodoHash> lista = new DoubleLinkedList<>( );
-		for( NodoHash nodoHash : arreglo )
-		{
-			if( ( nodoHash != null ) && !nodoHash.isMarked( ) )
-			{
-				lista.add( nodoHash );
-			}
-		}
-		size = 0;
-		flags = 0;
-		int newSize = arreglo.length;
-		if( op == 1 )
-		{
-			newSize = arreglo.length + TAMANO;
-		}
-		else if( op == 2 )
-		{
-			newSize = arreglo.length - TAMANO;
-		}
-		arreglo = new HashTableLP.NodoHash[ newSize ];
-		for( NodoHash nodoHash : lista )
+	}
+	
+	/**
+	 * Retorna el indice del primer nodo con una entrada a partir del indice dado
+	 *
+	 * @param index Indice de inicio de la busqueda
+	 * @return Indice del primer nodo con una entrada, el tamaño del arreglo si no hay mas entradas
+	 */
+	private int siguiente( int index )
+	{
+		while( ( index < arreglo.length ) && ( ( arreglo[ index ] == null ) || arreglo[ index ].isMarked( ) ) )
 		{
-			put( nodoHash.getKey( ), nodoHash.getValue( ) );
+			index++;
 		}
+		return index;
 	}
 	
 	/**
@@ -297,6 +1561,7 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 	@Override
 	public String toString( )
 	{
+		completarMigracion( );
 		StringBuilder sBuilder = new StringBuilder( "[" );
 		
 		int i = 0;
@@ -319,17 +1584,107 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 		return sBuilder.toString( );
 	}
 	
+	/**
+	 * Verifica si las remociones se realizan con desplazamiento hacia atras
+	 *
+	 * @return True si las remociones desplazan las entradas del cluster, False si dejan Flags
+	 */
+	public boolean isBackwardShift( )
+	{
+		return backwardShift;
+	}
+	
+	/**
+	 * Establece si las remociones desplazan hacia atras las entradas siguientes del cluster en lugar de dejar Flags<br>
+	 * Al activarlo se eliminan los Flags existentes
+	 *
+	 * @param backwardShift True para remover con desplazamiento hacia atras, False para remover dejando Flags
+	 */
+	public void setBackwardShift( boolean backwardShift )
+	{
+		this.backwardShift = backwardShift;
+		if( backwardShift && ( flags > 0 ) )
+		{
+			reconstruir( arreglo.length, LIMPIAR );
+		}
+	}
+	
+	/**
+	 * Establece si el rehash se realiza de forma incremental<br>
+	 * En modo incremental, al crecer o reducirse la HashTable se conservan ambos arreglos y en cada {@link #put(Object, Object)}
+	 * y {@link #delete(Object)} se migran {@link #MIGRACION} posiciones del arreglo anterior, por lo que ninguna operacion
+	 * reubica todas las entradas. Las busquedas consultan ambos arreglos mientras el rehash esta en curso.
+	 * Al desactivarlo se completa el rehash en curso
+	 *
+	 * @param incremental True para realizar el rehash de forma incremental, False para reubicar todas las entradas de una vez
+	 */
+	public void setIncrementalRehash( boolean incremental )
+	{
+		this.incremental = incremental;
+		if( !incremental )
+		{
+			completarMigracion( );
+		}
+	}
+	
+	/**
+	 * Establece si el rehash de las HashTables con al menos {@link #REHASH_PARALELO} entradas se realiza en paralelo<br>
+	 * El arreglo nuevo se divide en regiones que se llenan en paralelo en el ForkJoinPool comun, y las entradas cuya secuencia
+	 * de prueba cruza el limite de su region se ubican al final de forma secuencial. El resultado es una HashTable valida
+	 * equivalente a la del rehash secuencial, aunque el orden de las entradas de un cluster puede variar. No aplica al inicio
+	 * de un rehash incremental, que no reubica entradas
+	 *
+	 * @param paralelo True para realizar el rehash en paralelo, False para realizarlo en el hilo que lo provoca
+	 */
+	public void setParallelRehash( boolean paralelo )
+	{
+		this.paralelo = paralelo;
+	}
+	
+	/**
+	 * Establece la fraccion del arreglo ocupada por Flags a partir de la cual se realiza un rehash para eliminarlos
+	 *
+	 * @param umbralFlags Fraccion del arreglo, entre 0 y 1
+	 * @throws IllegalArgumentException Si la fraccion no esta en (0, 1]
+	 */
+	public void setTombstoneThreshold( float umbralFlags )
+	{
+		if( ( umbralFlags <= 0 ) || ( umbralFlags > 1 ) )
+		{
+			throw new IllegalArgumentException( "The threshold must be between 0 and 1" );
+		}
+		this.umbralFlags = umbralFlags;
+		verificarFlags( );
+	}
+	
 	/**
 	 * Realiza una verificacion de flags.<br>
-	 * Si estos han superado una cota se realiza un rehash manteniendo el tamaño
+	 * Si estos han superado el umbral, o si el arreglo se quedaria sin posiciones vacias,
+	 * se realiza un rehash manteniendo el tamaño
 	 */
 	private void verificarFlags( )
 	{
-		float porcFlags = ( float ) flags / ( float ) arreglo.length;
-		if( ( flags >= size ) || ( porcFlags >= 0.3f ) )
+		if( ( flags > 0 ) && ( ( flags >= ( umbralFlags * arreglo.length ) ) || ( ( size + flags ) >= ( arreglo.length - 1 ) ) ) )
+		{
+			reconstruir( arreglo.length, LIMPIAR );
+		}
+	}
+	
+	/**
+	 * Escribe en el canal dado los bytes del buffer dado y lo deja vacio en modo de escritura
+	 *
+	 * @param channel Canal en el que se escribe
+	 * @param buffer Buffer a escribir, en modo de escritura
+	 * @throws IOException Si hay un error de escritura
+	 */
+	private static void vaciar( WritableByteChannel channel, ByteBuffer buffer ) throws IOException
+	{
+		buffer.flip( );
+		while( buffer.hasRemaining( ) )
 		{
-			rehash( 3 );
+			channel.write( buffer );
 		}
+		buffer.clear( );
 	}
 	
 	/**
@@ -344,16 +1699,85 @@ public class HashTableLP<K, V> extends AbstractHashTable<NodoHash, K, V>
 			float conUp = ( float ) size / ( float ) arreglo.length;
 			if( conUp > loadFactor )
 			{
-				rehash( 1 );
+				crecer( );
 			}
 		}
 		else
 		{
-			float conDown = ( ( float ) size ) / ( ( float ) ( arreglo.length - TAMANO ) );
-			if( ( conDown > 0 ) && ( conDown < loadFactor ) )
+			reducir( );
+		}
+	}
+	
+	/**
+	 * Escribe una fotografia binaria de la HashTable en el flujo dado
+	 *
+	 * @param out Flujo en el que se escribe la fotografia. No se cierra
+	 * @param keyCodec Codificacion de las llaves
+	 * @param valueCodec Codificacion de los valores
+	 * @throws IOException Si hay un error de escritura
+	 * @see #writeTo(WritableByteChannel, ICodec, ICodec)
+	 */
+	public void writeTo( OutputStream out, ICodec<? super K> keyCodec, ICodec<? super V> valueCodec ) throws IOException
+	{
+		writeTo( Channels.newChannel( out ), keyCodec, valueCodec );
+	}
+	
+	/**
+	 * Escribe una fotografia binaria de la HashTable en el canal dado, que se puede restaurar con
+	 * {@link #readFrom(ReadableByteChannel, ICodec, ICodec)}<br>
+	 * La fotografia tiene un encabezado con la capacidad, el tamaño, el numero de Flags y una verificacion de la funcion de
+	 * dispersion, seguido de las posiciones ocupadas en el orden del arreglo: cada una con su indice, el hash de su nodo, la
+	 * longitud de la entrada y la llave y el valor codificados, o una longitud de -1 si es un Flag. Si el valor es null solo
+	 * se codifica la llave, y en lugar de su longitud n se escribe {@link #NULO} - n. Las posiciones se escriben
+	 * por bloques en un unico buffer, sin crear objetos por entrada ademas de los que creen las codificaciones.
+	 * Si hay un rehash incremental en curso, este se completa antes
+	 *
+	 * @param channel Canal en el que se escribe la fotografia. No se cierra
+	 * @param keyCodec Codificacion de las llaves
+	 * @param valueCodec Codificacion de los valores
+	 * @throws IOException Si hay un error de escritura
+	 */
+	public void writeTo( WritableByteChannel channel, ICodec<? super K> keyCodec, ICodec<? super V> valueCodec ) throws IOException
+	{
+		completarMigracion( );
+		ByteBuffer buffer = ByteBuffer.allocate( BUFFER );
+		buffer.putInt( MAGIA ).putInt( VERSION ).putInt( arreglo.length ).putInt( size ).putInt( flags ).putInt( spreader.spread( PRUEBA ) );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			NodoHash nodoHash = arreglo[ i ];
+			if( nodoHash == null )
+			{
+				continue;
+			}
+			K key = nodoHash.getKey( );
+			V value = nodoHash.getValue( );
+			int maximo = POSICION + ( nodoHash.isMarked( ) ? 0 : keyCodec.maxSize( key ) + ( value != null ? valueCodec.maxSize( value ) : 0 ) );
+			if( buffer.remaining( ) < maximo )
+			{
+				vaciar( channel, buffer );
+				if( buffer.capacity( ) < maximo )
+				{
+					buffer = ByteBuffer.allocate( maximo );
+				}
+			}
+			buffer.putInt( i ).putInt( nodoHash.hash );
+			if( nodoHash.isMarked( ) )
+			{
+				buffer.putInt( -1 );
+			}
+			else
 			{
-				rehash( 2 );
+				int inicio = buffer.position( ) + 4;
+				buffer.position( inicio );
+				keyCodec.write( key, buffer );
+				if( value != null )
+				{
+					valueCodec.write( value, buffer );
+				}
+				int longitud = buffer.position( ) - inicio;
+				buffer.putInt( inicio - 4, value != null ? longitud : NULO - longitud );
 			}
 		}
+		vaciar( channel, buffer );
 	}
 }
\ No newline at end of file
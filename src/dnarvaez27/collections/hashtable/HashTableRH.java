@@ -0,0 +1,510 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable implementada con Robin Hood Hashing<br>
+ * Es un LinearProbing en el que cada posicion almacena su distancia de prueba (la distancia a su posicion inicial).
+ * Al insertar, una entrada que ha recorrido más que la residente toma su lugar, por lo que la varianza
+ * de las distancias se mantiene baja aun con factores de carga altos.
+ * Una busqueda termina en cuanto encuentra una posicion con menor distancia que la recorrida,
+ * y las remociones desplazan hacia atras el cluster, sin dejar marcas
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class HashTableRH<K, V> extends AbstractHashTable<Object, K, V>
+{
+	/**
+	 * Cursor que recorre directamente los arreglos de la HashTable, omitiendo las posiciones vacias
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Indice de la entrada actual en los arreglos
+		 */
+		private int index = -1;
+		
+		@Override
+		public boolean advance( )
+		{
+			if( index >= arreglo.length )
+			{
+				return false;
+			}
+			do
+			{
+				index++;
+			}
+			while( ( index < arreglo.length ) && ( arreglo[ index ] == null ) );
+			return index < arreglo.length;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return ( K ) arreglo[ posicionado( ) ];
+		}
+		
+		/**
+		 * Retorna el indice de la entrada actual
+		 *
+		 * @return Indice de la entrada actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private int posicionado( )
+		{
+			if( ( index < 0 ) || ( index >= arreglo.length ) || ( arreglo[ index ] == null ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return index;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return ( V ) valores[ posicionado( ) ];
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private Object[ ] valores;
+	
+	/**
+	 * Arreglo del hash de cada llave, paralelo al arreglo de llaves
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Arreglo de la distancia de cada entrada a su posicion inicial, paralelo al arreglo de llaves
+	 */
+	private int[ ] distancias;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.9
+	 */
+	public HashTableRH( )
+	{
+		this( TAMANO, 0.9f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public HashTableRH( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		arreglo = crearArreglo( tamanoArreglo( capacidad ) );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+		distancias = new int[ arreglo.length ];
+	}
+	
+	/**
+	 * Agrega una entrada a partir de la posicion dada<br>
+	 * <b>pre:</b> La llave no se encuentra en la HashTable y la posicion es la retornada por {@link #buscar(Object, int)}.
+	 * Si la HashTable debe crecer, la insercion empieza de nuevo desde la posicion inicial de la llave
+	 *
+	 * @param index Posicion donde termino la busqueda de la llave
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( int index, K key, V value, int hash )
+	{
+		if( ( ( float ) ( size + 1 ) / ( float ) arreglo.length ) > loadFactor )
+		{
+			crecer( );
+			index = indice( hash );
+		}
+		insertar( index, key, value, hash );
+		size++;
+	}
+	
+	/**
+	 * Retorna el indice de la llave en el arreglo<br>
+	 * La busqueda termina al encontrar una posicion vacia o una entrada más cercana a su posicion inicial que la distancia recorrida
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice de la llave, o -(indice donde termino la busqueda + 1) si la llave no se encuentra.
+	 *         En ese indice es donde se debe insertar la llave
+	 */
+	private int buscar( K key, int hash )
+	{
+		int index = indice( hash );
+		int distancia = 0;
+		while( ( arreglo[ index ] != null ) && ( distancias[ index ] >= distancia ) )
+		{
+			if( ( hashes[ index ] == hash ) && arreglo[ index ].equals( key ) )
+			{
+				return index;
+			}
+			index = ( index + 1 ) & ( arreglo.length - 1 );
+			distancia++;
+		}
+		return -( index + 1 );
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+		distancias = new int[ arreglo.length ];
+	}
+	
+	@Override
+	protected Object[ ] crearArreglo( int capacidad )
+	{
+		return new Object[ capacidad ];
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V value = funcion.apply( key, index >= 0 ? ( V ) valores[ index ] : null );
+		if( value == null )
+		{
+			if( index >= 0 )
+			{
+				eliminar( index );
+			}
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = value;
+		}
+		else
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( ( index >= 0 ) && ( valores[ index ] != null ) )
+		{
+			return ( V ) valores[ index ];
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( index >= 0 )
+			{
+				valores[ index ] = value;
+			}
+			else
+			{
+				agregarEntrada( -index - 1, key, value, hash );
+			}
+		}
+		return value;
+	}
+	
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? eliminar( index ) : null;
+	}
+	
+	/**
+	 * Elimina la entrada de la posicion dada y desplaza hacia atras el cluster
+	 *
+	 * @param index Indice de la entrada a eliminar
+	 * @return Valor eliminado
+	 */
+	private V eliminar( int index )
+	{
+		V value = ( V ) valores[ index ];
+		desplazar( index );
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza una posicion hacia atras las entradas siguientes del cluster
+	 * que no estan en su posicion inicial
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int index = ( vacio + 1 ) & ( arreglo.length - 1 );
+		while( ( arreglo[ index ] != null ) && ( distancias[ index ] > 0 ) )
+		{
+			arreglo[ vacio ] = arreglo[ index ];
+			valores[ vacio ] = valores[ index ];
+			hashes[ vacio ] = hashes[ index ];
+			distancias[ vacio ] = distancias[ index ] - 1;
+			vacio = index;
+			index = ( index + 1 ) & ( arreglo.length - 1 );
+		}
+		arreglo[ vacio ] = null;
+		valores[ vacio ] = null;
+		distancias[ vacio ] = 0;
+	}
+	
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( new Entry<>( ( K ) arreglo[ i ], ( V ) valores[ i ] ) );
+			}
+		}
+		return list;
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? ( V ) valores[ index ] : null;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return ( index >= 0 ) && ( valores[ index ] != null ) ? ( V ) valores[ index ] : defaultValue;
+	}
+	
+	@Override
+	protected long[ ] longitudesSondeo( )
+	{
+		long[ ] histograma = new long[ 8 ];
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				histograma = contar( histograma, distancias[ i ] + 1 );
+			}
+		}
+		return histograma;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V old = index >= 0 ? ( V ) valores[ index ] : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( index );
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = nuevo;
+		}
+		else
+		{
+			agregarEntrada( -index - 1, key, nuevo, hash );
+		}
+		return nuevo;
+	}
+	
+	/**
+	 * Retorna la mayor distancia de prueba de las entradas de la HashTable
+	 *
+	 * @return Mayor distancia de prueba, 0 si la HashTable esta vacia
+	 */
+	public int getMaxProbeDistance( )
+	{
+		int max = 0;
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				max = Math.max( max, distancias[ i ] );
+			}
+		}
+		return max;
+	}
+	
+	/**
+	 * Inserta una entrada cuya llave no se encuentra en la HashTable, a partir de una posicion de su secuencia de prueba<br>
+	 * Cuando la entrada en mano ha recorrido más que la residente, intercambian lugares y se continua con la residente
+	 *
+	 * @param index Posicion de la secuencia de prueba desde la cual insertar
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void insertar( int index, Object key, Object value, int hash )
+	{
+		int distancia = ( index - indice( hash ) ) & ( arreglo.length - 1 );
+		while( arreglo[ index ] != null )
+		{
+			if( distancias[ index ] < distancia )
+			{
+				Object llaveResidente = arreglo[ index ];
+				Object valorResidente = valores[ index ];
+				int hashResidente = hashes[ index ];
+				int distanciaResidente = distancias[ index ];
+				arreglo[ index ] = key;
+				valores[ index ] = value;
+				hashes[ index ] = hash;
+				distancias[ index ] = distancia;
+				key = llaveResidente;
+				value = valorResidente;
+				hash = hashResidente;
+				distancia = distanciaResidente;
+			}
+			index = ( index + 1 ) & ( arreglo.length - 1 );
+			distancia++;
+		}
+		arreglo[ index ] = key;
+		valores[ index ] = value;
+		hashes[ index ] = hash;
+		distancias[ index ] = distancia;
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index >= 0 )
+		{
+			V old = ( V ) valores[ index ];
+			valores[ index ] = value;
+			return old;
+		}
+		agregarEntrada( -index - 1, key, value, hash );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index < 0 )
+		{
+			agregarEntrada( -index - 1, key, value, hash );
+			return null;
+		}
+		V old = ( V ) valores[ index ];
+		if( old == null )
+		{
+			valores[ index ] = value;
+		}
+		return old;
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas en arreglos de la capacidad dada<br>
+	 * Se reutiliza el hash almacenado de cada llave
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] llavesAnteriores = arreglo;
+		Object[ ] valoresAnteriores = valores;
+		int[ ] hashesAnteriores = hashes;
+		arreglo = crearArreglo( nuevaCapacidad );
+		valores = new Object[ nuevaCapacidad ];
+		hashes = new int[ nuevaCapacidad ];
+		distancias = new int[ nuevaCapacidad ];
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != null )
+			{
+				insertar( indice( hashesAnteriores[ i ] ), llavesAnteriores[ i ], valoresAnteriores[ i ], hashesAnteriores[ i ] );
+			}
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| los valores vacios o nulos
+	 * <li>Se representa con <i>llave:valor(distancia)</i> las posiciones que contengan entradas
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			sBuilder.append( arreglo[ i ] != null ? arreglo[ i ] + ":" + valores[ i ] + "(" + distancias[ i ] + ")" : "|X|" );
+			if( ( i + 1 ) < arreglo.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Retorna una lista con los valores de la HashTable
+	 *
+	 * @return Lista con los valores de la HashTable
+	 */
+	public DoubleLinkedList<V> values( )
+	{
+		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( ( V ) valores[ i ] );
+			}
+		}
+		return list;
+	}
+}
\ No newline at end of file
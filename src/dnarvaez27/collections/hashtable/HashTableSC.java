@@ -1,108 +1,1108 @@
 package dnarvaez27.collections.hashtable;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import dnarvaez27.collections.elements.Entry;
 import dnarvaez27.collections.list.Queue;
-import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+import dnarvaez27.collections.list.Stack;
 
 /**
- * Estructura de HashTable implementada con Separate-Chaining
+ * Estructura de HashTable implementada con Separate-Chaining<br>
+ * Cada posicion del arreglo apunta directamente al primer nodo de su cadena, y cada nodo apunta al siguiente, por lo que
+ * cada entrada es un unico objeto. Si la cadena supera el umbral de {@link #UMBRAL_ARBOL} entradas, la posicion pasa a ser
+ * un arbol Rojo-Negro, de forma que las operaciones sobre una posicion son O(log n) aun cuando muchas llaves colisionan<br>
+ * Opcionalmente el rehash se puede realizar de forma incremental (ver {@link #setIncrementalRehash(boolean)})
  *
  * @author dnarvaez27
  * @param <K> Tipo de las llaves
  * @param <V> Tipo de los valores
  */
 @SuppressWarnings( "unchecked" )
-public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<K, V>>, K, V>
+public class HashTableSC<K, V> extends AbstractHashTable<Object, K, V>
 {
+	/**
+	 * Clase que modela una entrada de la HashTable<br>
+	 * Se constituye por una tupla Llave-Valor, el hash de la llave y el siguiente nodo de la cadena
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de la llave
+	 * @param <V> Tipo del valor
+	 */
+	public static class NodoHash<K, V> extends Entry<K, V>
+	{
+		/**
+		 * Hash de la llave del nodo, calculado con {@link AbstractHashTable#dispersar(Object)}
+		 */
+		private int hash;
+		
+		/**
+		 * Siguiente nodo de la cadena, null si es el ultimo
+		 */
+		private NodoHash<K, V> siguiente;
+		
+		/**
+		 * Construye un nodo a partir de la informacion dada por parametro
+		 *
+		 * @param key Llave del nodo
+		 * @param value Valor del nodo
+		 * @param hash Hash de la llave
+		 */
+		public NodoHash( K key, V value, int hash )
+		{
+			super( key, value );
+			this.hash = hash;
+		}
+		
+		/**
+		 * Retorna el hash de la llave del nodo
+		 *
+		 * @return Hash de la llave del nodo
+		 */
+		public int getHash( )
+		{
+			return hash;
+		}
+	}
+	
+	/**
+	 * Nodo de un {@link ArbolHash}
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de la llave
+	 * @param <V> Tipo del valor
+	 */
+	private static class NodoArbol<K, V> extends NodoHash<K, V>
+	{
+		/**
+		 * Hijo izquierdo del nodo
+		 */
+		private NodoArbol<K, V> izquierdo;
+		
+		/**
+		 * Hijo derecho del nodo
+		 */
+		private NodoArbol<K, V> derecho;
+		
+		/**
+		 * Color del enlace que llega al nodo. True si es rojo, False si es negro
+		 */
+		private boolean rojo;
+		
+		/**
+		 * Orden de insercion del nodo en el arbol. Desempata las llaves que no se pueden comparar
+		 */
+		private long secuencia;
+		
+		/**
+		 * Construye un nodo rojo con la entrada del nodo dado por parametro
+		 *
+		 * @param nodo Nodo cuya llave, valor y hash se copian
+		 * @param secuencia Orden de insercion del nodo
+		 */
+		private NodoArbol( NodoHash<K, V> nodo, long secuencia )
+		{
+			super( nodo.getKey( ), nodo.getValue( ), nodo.hash );
+			this.rojo = true;
+			this.secuencia = secuencia;
+		}
+	}
+	
+	/**
+	 * Posicion del arreglo organizada como un arbol Rojo-Negro inclinado a la izquierda<br>
+	 * Los nodos se ordenan por hash, luego por {@link Comparable#compareTo(Object)} si ambas llaves son de la misma clase y comparables,
+	 * luego por el nombre de la clase de la llave y finalmente por orden de insercion. Por esto las llaves no necesitan
+	 * ser {@link Comparable}, a diferencia de {@link dnarvaez27.collections.tree.RedBlackTree}; si la busqueda no puede
+	 * distinguir dos llaves por hash ni por {@link Comparable#compareTo(Object)}, recorre ambos subarboles
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de las llaves
+	 * @param <V> Tipo de los valores
+	 */
+	private static class ArbolHash<K, V> implements Iterable<NodoHash<K, V>>
+	{
+		/**
+		 * Raiz del arbol
+		 */
+		private NodoArbol<K, V> raiz;
+		
+		/**
+		 * Numero de nodos del arbol
+		 */
+		private int size;
+		
+		/**
+		 * Orden de insercion del siguiente nodo
+		 */
+		private long secuencia;
+		
+		/**
+		 * Agrega al arbol un nuevo nodo con la entrada del nodo dado por parametro<br>
+		 * <b>pre:</b> La llave no se encuentra en el arbol
+		 *
+		 * @param nodo Nodo cuya entrada se agrega
+		 */
+		private void agregar( NodoHash<K, V> nodo )
+		{
+			raiz = insertar( raiz, new NodoArbol<>( nodo, secuencia++ ) );
+			raiz.rojo = false;
+			size++;
+		}
+		
+		/**
+		 * Apila el nodo dado y sus descendientes por la izquierda
+		 *
+		 * @param pila Pila del recorrido
+		 * @param nodo Nodo desde el cual apilar
+		 */
+		private void apilar( Stack<NodoArbol<K, V>> pila, NodoArbol<K, V> nodo )
+		{
+			while( nodo != null )
+			{
+				pila.push( nodo );
+				nodo = nodo.izquierdo;
+			}
+		}
+		
+		/**
+		 * Rebalancea el subarbol dado despues de una insercion o eliminacion
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> balancear( NodoArbol<K, V> h )
+		{
+			if( esRojo( h.derecho ) && !esRojo( h.izquierdo ) )
+			{
+				h = rotarIzquierda( h );
+			}
+			if( esRojo( h.izquierdo ) && esRojo( h.izquierdo.izquierdo ) )
+			{
+				h = rotarDerecha( h );
+			}
+			if( esRojo( h.izquierdo ) && esRojo( h.derecho ) )
+			{
+				invertirColores( h );
+			}
+			return h;
+		}
+		
+		/**
+		 * Retorna el nodo con la llave dada por parametro
+		 *
+		 * @param key Llave a buscar
+		 * @param hash Hash de la llave
+		 * @return Nodo con la llave, null si la llave no se encuentra
+		 */
+		private NodoArbol<K, V> buscar( Object key, int hash )
+		{
+			return buscar( raiz, key, hash );
+		}
+		
+		/**
+		 * Retorna el nodo con la llave dada por parametro en el subarbol dado
+		 *
+		 * @param h Raiz del subarbol
+		 * @param key Llave a buscar
+		 * @param hash Hash de la llave
+		 * @return Nodo con la llave, null si la llave no se encuentra
+		 */
+		private NodoArbol<K, V> buscar( NodoArbol<K, V> h, Object key, int hash )
+		{
+			while( h != null )
+			{
+				int cmp = comparar( hash, key, h.getHash( ), h.getKey( ) );
+				if( cmp < 0 )
+				{
+					h = h.izquierdo;
+				}
+				else if( cmp > 0 )
+				{
+					h = h.derecho;
+				}
+				else
+				{
+					if( h.getKey( ).equals( key ) )
+					{
+						return h;
+					}
+					NodoArbol<K, V> nodo = buscar( h.derecho, key, hash );
+					if( nodo != null )
+					{
+						return nodo;
+					}
+					h = h.izquierdo;
+				}
+			}
+			return null;
+		}
+		
+		/**
+		 * Elimina el nodo con la llave dada por parametro
+		 *
+		 * @param key Llave del nodo a eliminar
+		 * @param hash Hash de la llave
+		 * @return Nodo eliminado, null si la llave no se encontraba
+		 */
+		private NodoHash<K, V> eliminar( Object key, int hash )
+		{
+			NodoArbol<K, V> nodo = buscar( key, hash );
+			if( nodo != null )
+			{
+				eliminar( nodo );
+			}
+			return nodo;
+		}
+		
+		/**
+		 * Elimina del arbol el nodo dado<br>
+		 * <b>pre:</b> El nodo se encuentra en el arbol
+		 *
+		 * @param nodo Nodo a eliminar
+		 */
+		private void eliminar( NodoArbol<K, V> nodo )
+		{
+			if( !esRojo( raiz.izquierdo ) && !esRojo( raiz.derecho ) )
+			{
+				raiz.rojo = true;
+			}
+			raiz = eliminar( raiz, nodo );
+			if( raiz != null )
+			{
+				raiz.rojo = false;
+			}
+			size--;
+		}
+		
+		/**
+		 * Elimina el nodo dado del subarbol dado. El sucesor toma el lugar del nodo eliminado, en lugar de copiar su entrada,
+		 * para que los nodos retornados por la HashTable sigan siendo validos<br>
+		 * <b>pre:</b> El nodo se encuentra en el subarbol
+		 *
+		 * @param h Raiz del subarbol
+		 * @param nodo Nodo a eliminar
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> eliminar( NodoArbol<K, V> h, NodoArbol<K, V> nodo )
+		{
+			if( ordenar( nodo, h ) < 0 )
+			{
+				if( !esRojo( h.izquierdo ) && !esRojo( h.izquierdo.izquierdo ) )
+				{
+					h = moverRojoIzquierda( h );
+				}
+				h.izquierdo = eliminar( h.izquierdo, nodo );
+			}
+			else
+			{
+				if( esRojo( h.izquierdo ) )
+				{
+					h = rotarDerecha( h );
+				}
+				if( ( h == nodo ) && ( h.derecho == null ) )
+				{
+					return null;
+				}
+				if( !esRojo( h.derecho ) && !esRojo( h.derecho.izquierdo ) )
+				{
+					h = moverRojoDerecha( h );
+				}
+				if( h == nodo )
+				{
+					NodoArbol<K, V> sucesor = h.derecho;
+					while( sucesor.izquierdo != null )
+					{
+						sucesor = sucesor.izquierdo;
+					}
+					sucesor.derecho = eliminarMinimo( h.derecho );
+					sucesor.izquierdo = h.izquierdo;
+					sucesor.rojo = h.rojo;
+					h = sucesor;
+				}
+				else
+				{
+					h.derecho = eliminar( h.derecho, nodo );
+				}
+			}
+			return balancear( h );
+		}
+		
+		/**
+		 * Elimina el nodo minimo del subarbol dado
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> eliminarMinimo( NodoArbol<K, V> h )
+		{
+			if( h.izquierdo == null )
+			{
+				return null;
+			}
+			if( !esRojo( h.izquierdo ) && !esRojo( h.izquierdo.izquierdo ) )
+			{
+				h = moverRojoIzquierda( h );
+			}
+			h.izquierdo = eliminarMinimo( h.izquierdo );
+			return balancear( h );
+		}
+		
+		/**
+		 * Verifica si el enlace que llega al nodo dado es rojo
+		 *
+		 * @param nodo Nodo a verificar
+		 * @return True si el nodo no es null y es rojo, False de lo contrario
+		 */
+		private boolean esRojo( NodoArbol<K, V> nodo )
+		{
+			return ( nodo != null ) && nodo.rojo;
+		}
+		
+		/**
+		 * Inserta el nodo dado en el subarbol dado
+		 *
+		 * @param h Raiz del subarbol
+		 * @param nodo Nodo a insertar
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> insertar( NodoArbol<K, V> h, NodoArbol<K, V> nodo )
+		{
+			if( h == null )
+			{
+				return nodo;
+			}
+			if( ordenar( nodo, h ) < 0 )
+			{
+				h.izquierdo = insertar( h.izquierdo, nodo );
+			}
+			else
+			{
+				h.derecho = insertar( h.derecho, nodo );
+			}
+			return balancear( h );
+		}
+		
+		/**
+		 * Invierte el color del nodo dado y de sus hijos
+		 *
+		 * @param h Nodo cuyos colores se invierten
+		 */
+		private void invertirColores( NodoArbol<K, V> h )
+		{
+			h.rojo = !h.rojo;
+			h.izquierdo.rojo = !h.izquierdo.rojo;
+			h.derecho.rojo = !h.derecho.rojo;
+		}
+		
+		/**
+		 * Retorna un iterador que recorre los nodos del arbol en orden
+		 */
+		@Override
+		public Iterator<NodoHash<K, V>> iterator( )
+		{
+			final Stack<NodoArbol<K, V>> pila = new Stack<>( );
+			apilar( pila, raiz );
+			return new Iterator<NodoHash<K, V>>( )
+			{
+				@Override
+				public boolean hasNext( )
+				{
+					return !pila.isEmpty( );
+				}
+				
+				@Override
+				public NodoHash<K, V> next( )
+				{
+					if( pila.isEmpty( ) )
+					{
+						throw new NoSuchElementException( );
+					}
+					NodoArbol<K, V> nodo = pila.pop( );
+					apilar( pila, nodo.derecho );
+					return nodo;
+				}
+			};
+		}
+		
+		/**
+		 * Asumiendo que h es rojo y sus hijos negros, vuelve rojo al hijo derecho de h o a uno de sus hijos
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> moverRojoDerecha( NodoArbol<K, V> h )
+		{
+			invertirColores( h );
+			if( esRojo( h.izquierdo.izquierdo ) )
+			{
+				h = rotarDerecha( h );
+				invertirColores( h );
+			}
+			return h;
+		}
+		
+		/**
+		 * Asumiendo que h es rojo y sus hijos negros, vuelve rojo al hijo izquierdo de h o a uno de sus hijos
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> moverRojoIzquierda( NodoArbol<K, V> h )
+		{
+			invertirColores( h );
+			if( esRojo( h.derecho.izquierdo ) )
+			{
+				h.derecho = rotarDerecha( h.derecho );
+				h = rotarIzquierda( h );
+				invertirColores( h );
+			}
+			return h;
+		}
+		
+		/**
+		 * Compara dos nodos del arbol segun el orden total del arbol
+		 *
+		 * @param a Primer nodo
+		 * @param b Segundo nodo
+		 * @return Negativo si a va antes que b, positivo si va despues, 0 si son el mismo nodo
+		 */
+		private int ordenar( NodoArbol<K, V> a, NodoArbol<K, V> b )
+		{
+			int cmp = comparar( a.getHash( ), a.getKey( ), b.getHash( ), b.getKey( ) );
+			if( cmp == 0 )
+			{
+				cmp = a.getKey( ).getClass( ).getName( ).compareTo( b.getKey( ).getClass( ).getName( ) );
+			}
+			return cmp != 0 ? cmp : Long.compare( a.secuencia, b.secuencia );
+		}
+		
+		/**
+		 * Rota a la derecha el subarbol dado
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> rotarDerecha( NodoArbol<K, V> h )
+		{
+			NodoArbol<K, V> x = h.izquierdo;
+			h.izquierdo = x.derecho;
+			x.derecho = h;
+			x.rojo = h.rojo;
+			h.rojo = true;
+			return x;
+		}
+		
+		/**
+		 * Rota a la izquierda el subarbol dado
+		 *
+		 * @param h Raiz del subarbol
+		 * @return Nueva raiz del subarbol
+		 */
+		private NodoArbol<K, V> rotarIzquierda( NodoArbol<K, V> h )
+		{
+			NodoArbol<K, V> x = h.derecho;
+			h.derecho = x.izquierdo;
+			x.izquierdo = h;
+			x.rojo = h.rojo;
+			h.rojo = true;
+			return x;
+		}
+	}
+	
+	/**
+	 * Recorrido de los nodos de la HashTable directamente sobre el arreglo, las cadenas y los arboles, sin copiarlos<br>
+	 * Sirve como iterador de la HashTable, en cuyo caso retorna los propios nodos, y como cursor
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Recorrido implements Iterator<Entry<K, V>>, ICursor<K, V>
+	{
+		/**
+		 * Indice de la posicion actual en el arreglo
+		 */
+		private int index;
+		
+		/**
+		 * Siguiente nodo de la cadena de la posicion actual, null si la posicion no es una cadena o ya se recorrio
+		 */
+		private NodoHash<K, V> pendiente;
+		
+		/**
+		 * Pila del recorrido en orden del arbol de la posicion actual. Se reutiliza entre arboles y solo crece
+		 */
+		private NodoArbol<K, V>[ ] pila;
+		
+		/**
+		 * Numero de nodos en la pila
+		 */
+		private int cima;
+		
+		/**
+		 * Nodo actual del cursor, null si el cursor no esta posicionado en una entrada
+		 */
+		private NodoHash<K, V> actual;
+		
+		/**
+		 * Construye un recorrido posicionado antes de la primera entrada
+		 */
+		private Recorrido( )
+		{
+			reset( );
+		}
+		
+		@Override
+		public boolean advance( )
+		{
+			actual = hasNext( ) ? extraer( ) : null;
+			return actual != null;
+		}
+		
+		/**
+		 * Apila el nodo dado y sus descendientes por la izquierda
+		 *
+		 * @param nodo Nodo desde el cual apilar
+		 */
+		private void apilar( NodoArbol<K, V> nodo )
+		{
+			while( nodo != null )
+			{
+				if( pila == null )
+				{
+					pila = ( NodoArbol<K, V>[ ] ) new NodoArbol<?, ?>[ 16 ];
+				}
+				else if( cima == pila.length )
+				{
+					pila = Arrays.copyOf( pila, cima * 2 );
+				}
+				pila[ cima++ ] = nodo;
+				nodo = nodo.izquierdo;
+			}
+		}
+		
+		/**
+		 * Retorna el siguiente nodo de la posicion actual: el siguiente de la cadena o el siguiente en orden del arbol<br>
+		 * <b>pre:</b> {@link #hasNext()} retorno True
+		 *
+		 * @return Siguiente nodo
+		 */
+		private NodoHash<K, V> extraer( )
+		{
+			if( pendiente != null )
+			{
+				NodoHash<K, V> nodo = pendiente;
+				pendiente = nodo.siguiente;
+				return nodo;
+			}
+			NodoArbol<K, V> nodo = pila[ --cima ];
+			pila[ cima ] = null;
+			apilar( nodo.derecho );
+			return nodo;
+		}
+		
+		@Override
+		public boolean hasNext( )
+		{
+			while( ( pendiente == null ) && ( cima == 0 ) )
+			{
+				if( ++index >= arreglo.length )
+				{
+					index = arreglo.length;
+					return false;
+				}
+				Object cubeta = arreglo[ index ];
+				if( cubeta instanceof ArbolHash )
+				{
+					apilar( ( ( ArbolHash<K, V> ) cubeta ).raiz );
+				}
+				else
+				{
+					pendiente = ( NodoHash<K, V> ) cubeta;
+				}
+			}
+			return true;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return posicionado( ).getKey( );
+		}
+		
+		@Override
+		public Entry<K, V> next( )
+		{
+			if( !hasNext( ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return extraer( );
+		}
+		
+		/**
+		 * Retorna el nodo actual del cursor
+		 *
+		 * @return Nodo actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private NodoHash<K, V> posicionado( )
+		{
+			if( actual == null )
+			{
+				throw new NoSuchElementException( );
+			}
+			return actual;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+			pendiente = null;
+			while( cima > 0 )
+			{
+				pila[ --cima ] = null;
+			}
+			actual = null;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return posicionado( ).getValue( );
+		}
+	}
+	
 	/**
 	 * Tamaño inicial del arreglo
 	 */
-	private static int TAMANO = 11;
+	private static int TAMANO = 16;
+	
+	/**
+	 * Numero de cadenas del arreglo anterior que se migran en cada operacion durante un rehash incremental
+	 */
+	public static final int MIGRACION = 4;
+	
+	/**
+	 * Longitud minima de cadena a partir de la cual una posicion del arreglo se convierte en arbol<br>
+	 * El umbral real es el mayor entre esta constante y cuatro veces el factor de carga, para que las cadenas
+	 * de longitud esperada nunca se conviertan
+	 */
+	public static final int UMBRAL_ARBOL = 8;
+	
+	/**
+	 * Establece si el rehash se realiza de forma incremental
+	 */
+	private boolean incremental;
+	
+	/**
+	 * Arreglo anterior durante un rehash incremental, null si no hay un rehash en curso<br>
+	 * Sus cadenas se migran al arreglo actual en orden, desde la posicion {@link #migracion}
+	 */
+	private Object[ ] anterior;
+	
+	/**
+	 * Siguiente cadena del arreglo anterior a migrar
+	 */
+	private int migracion;
+	
+	/**
+	 * Arreglo en el que {@link #buscar(Object, int)} encontro el ultimo nodo
+	 */
+	private Object[ ] encontrado;
+	
+	/**
+	 * Nodo anterior en su cadena al ultimo nodo encontrado por {@link #buscar(Object, int)}, null si es el primero de la
+	 * cadena o esta en un arbol
+	 */
+	private NodoHash<K, V> previo;
+	
+	/**
+	 * Numero de entradas a partir del cual una cadena se convierte en arbol
+	 */
+	private int umbralArbol;
+	
+	/**
+	 * Numero de entradas hasta el cual un arbol se convierte de nuevo en cadena
+	 */
+	private int umbralCadena;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 8
+	 */
+	public HashTableSC( )
+	{
+		this( TAMANO, 8f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public HashTableSC( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		this.arreglo = crearArreglo( tamanoArreglo( capacidad ) );
+		this.umbralArbol = Math.max( UMBRAL_ARBOL, ( int ) Math.ceil( 4 * loadFactor ) );
+		this.umbralCadena = ( umbralArbol * 3 ) / 4;
+	}
+	
+	/**
+	 * Retorna un arreglo cuyas posiciones contienen el primer nodo de una cadena ({@link NodoHash}) o un arbol ({@link ArbolHash})
+	 */
+	@Override
+	protected Object[ ] crearArreglo( int capacidad )
+	{
+		return new Object[ capacidad ];
+	}
+	
+	/**
+	 * Agrega una entrada a la tabla de Hash. Esta entrada debe ser única<br>
+	 * <b>pre:</b> La llave no se encuentra en la HashTable
+	 *
+	 * @param key Llave asociada a la entrada
+	 * @param value Valor asociado a la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( K key, V value, int hash )
+	{
+		ubicar( new NodoHash<>( key, value, hash ) );
+		size++;
+		verificarLoadFactor( true );
+	}
+	
+	/**
+	 * Convierte la cadena dada en un arbol
+	 *
+	 * @param cadena Primer nodo de la cadena a convertir
+	 * @return Arbol con las entradas de la cadena
+	 */
+	private ArbolHash<K, V> arbol( NodoHash<K, V> cadena )
+	{
+		ArbolHash<K, V> arbol = new ArbolHash<>( );
+		for( NodoHash<K, V> nodo = cadena; nodo != null; nodo = nodo.siguiente )
+		{
+			arbol.agregar( nodo );
+		}
+		return arbol;
+	}
+	
+	/**
+	 * Retorna el nodo con la llave dada por parametro, buscando en el arreglo actual y,
+	 * durante un rehash incremental, en el arreglo anterior
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Nodo con la llave, null si la llave no se encuentra
+	 */
+	private NodoHash<K, V> buscar( K key, int hash )
+	{
+		NodoHash<K, V> nodo = buscar( arreglo, key, hash );
+		if( ( nodo == null ) && ( anterior != null ) )
+		{
+			nodo = buscar( anterior, key, hash );
+		}
+		return nodo;
+	}
+	
+	/**
+	 * Retorna el nodo con la llave dada por parametro en el arreglo dado<br>
+	 * Si lo encuentra, recuerda el arreglo y el nodo anterior de la cadena, para que {@link #eliminar(NodoHash)} lo pueda
+	 * retirar sin recorrer de nuevo la posicion
+	 *
+	 * @param tabla Arreglo en el cual buscar
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Nodo con la llave, null si la llave no se encuentra
+	 */
+	private NodoHash<K, V> buscar( Object[ ] tabla, K key, int hash )
+	{
+		Object cubeta = tabla[ hash & ( tabla.length - 1 ) ];
+		if( cubeta instanceof ArbolHash )
+		{
+			NodoHash<K, V> nodo = ( ( ArbolHash<K, V> ) cubeta ).buscar( key, hash );
+			if( nodo != null )
+			{
+				encontrado = tabla;
+				previo = null;
+			}
+			return nodo;
+		}
+		NodoHash<K, V> anteriorCadena = null;
+		for( NodoHash<K, V> nodo = ( NodoHash<K, V> ) cubeta; nodo != null; nodo = nodo.siguiente )
+		{
+			if( ( nodo.hash == hash ) && nodo.getKey( ).equals( key ) )
+			{
+				encontrado = tabla;
+				previo = anteriorCadena;
+				return nodo;
+			}
+			anteriorCadena = nodo;
+		}
+		return null;
+	}
+	
+	/**
+	 * Convierte el arbol dado en una cadena
+	 *
+	 * @param arbol Arbol a convertir
+	 * @return Primer nodo de la cadena con las entradas del arbol, null si el arbol esta vacio
+	 */
+	private NodoHash<K, V> cadena( ArbolHash<K, V> arbol )
+	{
+		NodoHash<K, V> primero = null;
+		NodoHash<K, V> ultimo = null;
+		for( NodoHash<K, V> nodo : arbol )
+		{
+			NodoHash<K, V> nuevo = new NodoHash<>( nodo.getKey( ), nodo.getValue( ), nodo.hash );
+			if( ultimo == null )
+			{
+				primero = nuevo;
+			}
+			else
+			{
+				ultimo.siguiente = nuevo;
+			}
+			ultimo = nuevo;
+		}
+		return primero;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		anterior = null;
+	}
+	
+	/**
+	 * Compara dos llaves segun el orden usado para buscar en los arboles: por hash y, si ambas llaves son de la misma clase
+	 * y comparables, por {@link Comparable#compareTo(Object)}
+	 *
+	 * @param hashA Hash de la primera llave
+	 * @param a Primera llave
+	 * @param hashB Hash de la segunda llave
+	 * @param b Segunda llave
+	 * @return Negativo si a va antes que b, positivo si va despues, 0 si no se pueden distinguir
+	 */
+	private static int comparar( int hashA, Object a, int hashB, Object b )
+	{
+		if( hashA != hashB )
+		{
+			return hashA < hashB ? -1 : 1;
+		}
+		if( ( a.getClass( ) != b.getClass( ) ) || !( a instanceof Comparable ) )
+		{
+			return 0;
+		}
+		return ( ( Comparable<Object> ) a ).compareTo( b );
+	}
 	
 	/**
-	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 8
+	 * Completa el rehash incremental en curso, migrando todas las cadenas pendientes del arreglo anterior
 	 */
-	public HashTableSC( )
+	private void completarMigracion( )
 	{
-		this( TAMANO, 8f );
+		while( anterior != null )
+		{
+			migrar( anterior.length );
+		}
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		NodoHash<K, V> nodo = buscar( key, hash );
+		V value = funcion.apply( key, nodo != null ? nodo.getValue( ) : null );
+		if( value == null )
+		{
+			if( nodo != null )
+			{
+				eliminar( nodo );
+			}
+		}
+		else if( nodo != null )
+		{
+			nodo.setValue( value );
+		}
+		else
+		{
+			agregarEntrada( key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		NodoHash<K, V> nodo = buscar( key, hash );
+		if( ( nodo != null ) && ( nodo.getValue( ) != null ) )
+		{
+			return nodo.getValue( );
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( nodo != null )
+			{
+				nodo.setValue( value );
+			}
+			else
+			{
+				agregarEntrada( key, value, hash );
+			}
+		}
+		return value;
 	}
 	
 	/**
-	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 * Retorna un cursor que recorre directamente el arreglo, las cadenas y los arboles de la HashTable<br>
+	 * Si hay un rehash incremental en curso, este se completa antes de crear el cursor
+	 */
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		completarMigracion( );
+		return new Recorrido( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		migrar( MIGRACION );
+		return eliminar( key, dispersar( key ) );
+	}
+	
+	/**
+	 * Elimina la entrada con la llave dada por parametro, buscando en el arreglo actual y,
+	 * durante un rehash incremental, en el arreglo anterior
 	 *
-	 * @param capacidad Tamaño del arreglo
-	 * @param loadFactor Factor de carga
+	 * @param key Llave de la entrada a eliminar
+	 * @param hash Hash de la llave
+	 * @return Valor eliminado, null si la llave no se encontraba
 	 */
-	public HashTableSC( int capacidad, float loadFactor )
+	private V eliminar( K key, int hash )
 	{
-		super( capacidad, loadFactor );
-		this.arreglo = new DoubleLinkedList[ capacidad ];
+		V element = eliminar( arreglo, key, hash );
+		if( ( element == null ) && ( anterior != null ) )
+		{
+			element = eliminar( anterior, key, hash );
+		}
+		verificarLoadFactor( false );
+		return element;
 	}
 	
 	/**
-	 * Agrega una entrada a la tabla de Hash. Esta entrada debe ser única<br>
-	 * <b>pre:</b> La llave no se encuentra en la HashTable
+	 * Elimina el nodo dado, que debe ser el ultimo nodo encontrado por {@link #buscar(Object, int)}, sin buscarlo de nuevo:
+	 * en una cadena se desenlaza del nodo anterior recordado, y en un arbol se elimina directamente<br>
+	 * <b>pre:</b> La HashTable no se ha modificado desde la busqueda
 	 *
-	 * @param index Indice del arreglo donde debe ir la entrada
-	 * @param key Llave asociada a la entrada
-	 * @param value Valor asociado a la entrada
+	 * @param nodo Nodo a eliminar
+	 * @return Valor eliminado
 	 */
-	private void agregarEntrada( int index, K key, V value )
+	private V eliminar( NodoHash<K, V> nodo )
 	{
-		if( arreglo[ index ] == null )
+		Object[ ] tabla = encontrado;
+		int index = nodo.hash & ( tabla.length - 1 );
+		if( tabla[ index ] instanceof ArbolHash )
 		{
-			arreglo[ index ] = new DoubleLinkedList<>( );
+			ArbolHash<K, V> arbol = ( ArbolHash<K, V> ) tabla[ index ];
+			arbol.eliminar( ( NodoArbol<K, V> ) nodo );
+			if( arbol.size <= umbralCadena )
+			{
+				tabla[ index ] = cadena( arbol );
+			}
 		}
-		Entry<K, V> nuevo = new Entry<>( key, value );
-		arreglo[ index ].add( nuevo );
-		size++;
-		verificarLoadFactor( true );
+		else
+		{
+			if( previo == null )
+			{
+				tabla[ index ] = nodo.siguiente;
+			}
+			else
+			{
+				previo.siguiente = nodo.siguiente;
+			}
+			nodo.siguiente = null;
+		}
+		encontrado = null;
+		previo = null;
+		size--;
+		verificarLoadFactor( false );
+		return nodo.getValue( );
 	}
 	
-	@Override
-	public V delete( K key )
+	/**
+	 * Elimina la entrada con la llave dada por parametro del arreglo dado, recorriendo la cadena una sola vez<br>
+	 * Si la posicion es un arbol y queda con {@link #umbralCadena} entradas o menos, se convierte de nuevo en cadena
+	 *
+	 * @param tabla Arreglo del cual eliminar
+	 * @param key Llave de la entrada a eliminar
+	 * @param hash Hash de la llave
+	 * @return Valor eliminado, null si la llave no se encontraba
+	 */
+	private V eliminar( Object[ ] tabla, K key, int hash )
 	{
 		V element = null;
-		int index = hash( key );
-		if( arreglo[ index ] != null )
+		int index = hash & ( tabla.length - 1 );
+		if( tabla[ index ] instanceof ArbolHash )
 		{
-			int indexToRemove = -1;
-			int indexActual = 0;
-			for( Entry<K, V> nodo : arreglo[ index ] )
+			ArbolHash<K, V> arbol = ( ArbolHash<K, V> ) tabla[ index ];
+			NodoHash<K, V> nodo = arbol.eliminar( key, hash );
+			if( nodo != null )
 			{
-				if( nodo.getKey( ).equals( key ) )
+				element = nodo.getValue( );
+				size--;
+				if( arbol.size <= umbralCadena )
 				{
-					element = nodo.getValue( );
-					indexToRemove = indexActual;
-					break;
+					tabla[ index ] = cadena( arbol );
 				}
-				indexActual++;
 			}
-			if( indexToRemove != -1 )
+		}
+		else
+		{
+			NodoHash<K, V> previo = null;
+			for( NodoHash<K, V> nodo = ( NodoHash<K, V> ) tabla[ index ]; nodo != null; nodo = nodo.siguiente )
 			{
-				arreglo[ index ].remove( indexToRemove );
-				size--;
+				if( ( nodo.hash == hash ) && nodo.getKey( ).equals( key ) )
+				{
+					if( previo == null )
+					{
+						tabla[ index ] = nodo.siguiente;
+					}
+					else
+					{
+						previo.siguiente = nodo.siguiente;
+					}
+					nodo.siguiente = null;
+					element = nodo.getValue( );
+					size--;
+					break;
+				}
+				previo = nodo;
 			}
 		}
-		verificarLoadFactor( false );
 		return element;
 	}
 	
 	@Override
 	public Queue<Entry<K, V>> entries( )
 	{
+		completarMigracion( );
 		Queue<Entry<K, V>> queue = new Queue<>( );
-		for( DoubleLinkedList<Entry<K, V>> doubleLinkedList : arreglo )
+		Recorrido recorrido = new Recorrido( );
+		while( recorrido.hasNext( ) )
 		{
-			if( doubleLinkedList != null )
-			{
-				for( Entry<K, V> nodoHash : doubleLinkedList )
-				{
-					queue.enqueue( nodoHash );
-				}
-			}
+			queue.enqueue( recorrido.next( ) );
 		}
 		return queue;
 	}
@@ -110,66 +1110,311 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 	@Override
 	public V get( K key )
 	{
-		int index = hash( key );
-		if( arreglo[ index ] != null )
+		NodoHash<K, V> nodo = buscar( key, dispersar( key ) );
+		return nodo != null ? nodo.getValue( ) : null;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		NodoHash<K, V> nodo = buscar( key, dispersar( key ) );
+		return ( nodo != null ) && ( nodo.getValue( ) != null ) ? nodo.getValue( ) : defaultValue;
+	}
+	
+	/**
+	 * Retorna un iterador que recorre directamente el arreglo, las cadenas y los arboles de la HashTable<br>
+	 * Las entradas retornadas son los nodos de la HashTable, por lo que no se copian.
+	 * Si hay un rehash incremental en curso, este se completa antes de crear el iterador
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator( )
+	{
+		completarMigracion( );
+		return new Recorrido( );
+	}
+	
+	/**
+	 * Verifica si el rehash se realiza de forma incremental
+	 *
+	 * @return True si el rehash es incremental, False si reubica todas las entradas de una vez
+	 */
+	public boolean isIncrementalRehash( )
+	{
+		return incremental;
+	}
+	
+	/**
+	 * Verifica si hay un rehash incremental en curso
+	 *
+	 * @return True si aun hay cadenas en el arreglo anterior, False de lo contrario
+	 */
+	public boolean isRehashing( )
+	{
+		return anterior != null;
+	}
+	
+	/**
+	 * Migra al arreglo actual las siguientes cadenas del arreglo anterior
+	 *
+	 * @param cadenas Numero maximo de cadenas del arreglo anterior a migrar
+	 */
+	private void migrar( int cadenas )
+	{
+		for( int i = 0; ( i < cadenas ) && ( anterior != null ); i++ )
+		{
+			if( anterior[ migracion ] != null )
+			{
+				reubicar( anterior[ migracion ] );
+				anterior[ migracion ] = null;
+			}
+			migracion++;
+			if( migracion >= anterior.length )
+			{
+				anterior = null;
+			}
+		}
+	}
+	
+	/**
+	 * Cuenta la longitud de cada cadena del arreglo actual y, durante un rehash incremental, del arreglo anterior
+	 */
+	@Override
+	protected long[ ] longitudesCadena( )
+	{
+		long[ ] histograma = longitudesCadena( new long[ 8 ], arreglo );
+		return anterior != null ? longitudesCadena( histograma, anterior ) : histograma;
+	}
+	
+	/**
+	 * Suma al histograma la longitud de cada cadena o arbol del arreglo dado
+	 *
+	 * @param histograma Histograma a modificar
+	 * @param tabla Arreglo a recorrer
+	 * @return El histograma, posiblemente extendido
+	 */
+	private long[ ] longitudesCadena( long[ ] histograma, Object[ ] tabla )
+	{
+		for( Object cubeta : tabla )
 		{
-			for( Entry<K, V> nodo : arreglo[ index ] )
+			int longitud = 0;
+			if( cubeta instanceof ArbolHash )
 			{
-				if( nodo.getKey( ).equals( key ) )
+				longitud = ( ( ArbolHash<K, V> ) cubeta ).size;
+			}
+			else
+			{
+				for( NodoHash<K, V> nodo = ( NodoHash<K, V> ) cubeta; nodo != null; nodo = nodo.siguiente )
 				{
-					return nodo.getValue( );
+					longitud++;
 				}
 			}
+			histograma = contar( histograma, longitud );
 		}
-		return null;
+		return histograma;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		NodoHash<K, V> nodo = buscar( key, hash );
+		V old = nodo != null ? nodo.getValue( ) : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( nodo );
+		}
+		else if( nodo != null )
+		{
+			nodo.setValue( nuevo );
+		}
+		else
+		{
+			agregarEntrada( key, nuevo, hash );
+		}
+		return nuevo;
 	}
 	
 	@Override
 	public V put( K key, V value )
 	{
-		int index = hash( key );
-		
-		if( arreglo[ index ] != null )
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		NodoHash<K, V> nodo = buscar( key, hash );
+		if( nodo != null )
+		{
+			V old = nodo.getValue( );
+			nodo.setValue( value );
+			return old;
+		}
+		agregarEntrada( key, value, hash );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		migrar( MIGRACION );
+		int hash = dispersar( key );
+		NodoHash<K, V> nodo = buscar( key, hash );
+		if( nodo == null )
+		{
+			agregarEntrada( key, value, hash );
+			return null;
+		}
+		V old = nodo.getValue( );
+		if( old == null )
+		{
+			nodo.setValue( value );
+		}
+		return old;
+	}
+	
+	/**
+	 * Retorna un iterador sobre los nodos de la cadena o arbol dado, para {@link #toString()}.
+	 * Los recorridos de la HashTable usan {@link Recorrido}, que no crea objetos por posicion
+	 *
+	 * @param cubeta Primer nodo de la cadena, o arbol
+	 * @return Iterador sobre los nodos
+	 */
+	private Iterator<NodoHash<K, V>> recorrer( Object cubeta )
+	{
+		if( cubeta instanceof ArbolHash )
+		{
+			return ( ( ArbolHash<K, V> ) cubeta ).iterator( );
+		}
+		final NodoHash<K, V> primero = ( NodoHash<K, V> ) cubeta;
+		return new Iterator<NodoHash<K, V>>( )
 		{
-			for( Entry<K, V> nodo : arreglo[ index ] )
+			private NodoHash<K, V> nodo = primero;
+			
+			@Override
+			public boolean hasNext( )
 			{
-				if( nodo.getKey( ).equals( key ) )
+				return nodo != null;
+			}
+			
+			@Override
+			public NodoHash<K, V> next( )
+			{
+				if( nodo == null )
 				{
-					V old = nodo.getValue( );
-					nodo.setValue( value );
-					return old;
+					throw new NoSuchElementException( );
 				}
+				NodoHash<K, V> actual = nodo;
+				nodo = nodo.siguiente;
+				return actual;
 			}
+		};
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas en un arreglo de la capacidad dada<br>
+	 * Las entradas existentes y su hash almacenado se reutilizan.
+	 * Si el rehash es incremental, el arreglo actual pasa a ser el arreglo anterior y sus cadenas se migran
+	 * en las siguientes operaciones. Si ya habia un rehash incremental en curso, se reubican de una vez
+	 * las entradas de ambos arreglos
+	 *
+	 * @param nuevaCapacidad Capacidad del nuevo arreglo
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] actual = arreglo;
+		Object[ ] pendiente = anterior;
+		arreglo = crearArreglo( nuevaCapacidad );
+		anterior = null;
+		if( incremental && ( pendiente == null ) )
+		{
+			anterior = actual;
+			migracion = 0;
+			return;
+		}
+		reubicar( actual );
+		if( pendiente != null )
+		{
+			reubicar( pendiente );
+		}
+	}
+	
+	/**
+	 * Ubica en el arreglo actual las entradas de la cadena o arbol dado
+	 *
+	 * @param cubeta Cadena o arbol cuyas entradas se reubican
+	 */
+	private void reubicar( Object cubeta )
+	{
+		if( cubeta instanceof ArbolHash )
+		{
+			for( NodoHash<K, V> nodoHash : ( ArbolHash<K, V> ) cubeta )
+			{
+				ubicar( nodoHash );
+			}
+			return;
+		}
+		NodoHash<K, V> nodo = ( NodoHash<K, V> ) cubeta;
+		while( nodo != null )
+		{
+			NodoHash<K, V> siguiente = nodo.siguiente;
+			ubicar( nodo );
+			nodo = siguiente;
 		}
-		
-		agregarEntrada( index, key, value );
-		return null;
 	}
 	
 	/**
-	 * Realiza un rehash de la HashTable. Reubicando las entradas<br>
+	 * Ubica en el arreglo actual las entradas de todas las cadenas y arboles del arreglo dado
 	 *
-	 * @param op True para Incrementa el tamaño, False para Reduce el tamaño
+	 * @param tabla Arreglo cuyas cadenas se reubican
 	 */
-	private void rehash( boolean op )
+	private void reubicar( Object[ ] tabla )
 	{
-		int newCapacity = op ? arreglo.length + TAMANO : arreglo.length - TAMANO;
-		DoubleLinkedList<Entry<K, V>> elements = new DoubleLinkedList<>( );
-		for( DoubleLinkedList<Entry<K, V>> list : arreglo )
+		for( Object cubeta : tabla )
 		{
-			if( list != null )
+			if( cubeta != null )
 			{
-				elements.addAll( list );
+				reubicar( cubeta );
 			}
 		}
-		newCapacity = newCapacity < TAMANO ? TAMANO : newCapacity;
-		arreglo = new DoubleLinkedList[ newCapacity ];
-		size = 0;
-		for( Entry<K, V> nodoHash : elements )
+	}
+	
+	/**
+	 * Establece si el rehash se realiza de forma incremental<br>
+	 * En modo incremental, al crecer o reducirse la HashTable se conservan ambos arreglos y en cada {@link #put(Object, Object)}
+	 * y {@link #delete(Object)} se migran {@link #MIGRACION} cadenas del arreglo anterior, por lo que ninguna operacion
+	 * reubica todas las entradas. Las busquedas consultan ambos arreglos mientras el rehash esta en curso.
+	 * Al desactivarlo se completa el rehash en curso
+	 *
+	 * @param incremental True para realizar el rehash de forma incremental, False para reubicar todas las entradas de una vez
+	 */
+	public void setIncrementalRehash( boolean incremental )
+	{
+		this.incremental = incremental;
+		if( !incremental )
+		{
+			completarMigracion( );
+		}
+	}
+	
+	/**
+	 * Retorna el numero de entradas de la cadena o arbol dado
+	 *
+	 * @param cubeta Primer nodo de la cadena, o arbol
+	 * @return Numero de entradas
+	 */
+	private static int tamano( Object cubeta )
+	{
+		if( cubeta instanceof ArbolHash )
+		{
+			return ( ( ArbolHash<?, ?> ) cubeta ).size;
+		}
+		int tamano = 0;
+		for( NodoHash<?, ?> nodo = ( NodoHash<?, ?> ) cubeta; nodo != null; nodo = nodo.siguiente )
 		{
-			int index = hash( nodoHash.getKey( ) );
-			agregarEntrada( index, nodoHash.getKey( ), nodoHash.getValue( ) );
+			tamano++;
 		}
+		return tamano;
 	}
 	
 	/**
@@ -184,14 +1429,15 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 	@Override
 	public String toString( )
 	{
+		completarMigracion( );
 		StringBuilder sBuilder = new StringBuilder( );
 		
 		int cols = 1;
-		for( DoubleLinkedList<Entry<K, V>> linkedList : arreglo )
+		for( Object cubeta : arreglo )
 		{
-			if( linkedList != null )
+			if( cubeta != null )
 			{
-				cols = Math.max( linkedList.size( ), cols );
+				cols = Math.max( tamano( cubeta ), cols );
 			}
 		}
 		
@@ -237,14 +1483,15 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 			sBuilder.append( "\n" );
 		}
 		int line = 16;
-		for( DoubleLinkedList<Entry<K, V>> linkedList : arreglo )
+		for( Object cubeta : arreglo )
 		{
 			sBuilder.append( "││   " + format.format( posArreglo++ ) + "   ││ " );
-			if( linkedList != null )
+			if( cubeta != null )
 			{
-				for( Entry<K, V> nodoHash : linkedList )
+				Iterator<NodoHash<K, V>> cadena = recorrer( cubeta );
+				while( cadena.hasNext( ) )
 				{
-					String data = nodoHash.toString( );
+					String data = cadena.next( ).toString( );
 					if( data.length( ) < line )
 					{
 						int cant = ( line / 2 ) - 1 - ( data.length( ) / 2 );
@@ -258,7 +1505,7 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 						sBuilder.append( data.substring( 0, line - 5 ) + "... ││ " );
 					}
 				}
-				for( int i = linkedList.size( ); i < cols; i++ )
+				for( int i = tamano( cubeta ); i < cols; i++ )
 				{
 					sBuilder.append( "               ││ " );
 				}
@@ -277,13 +1524,52 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 		for( int i = 0; i < cols; i++ )
 		{
 			sBuilder.append( "────────────────┴┴" );
-			
+		
 		}
 		sBuilder.append( "\n" );
 		
 		return sBuilder.toString( );
 	}
 	
+	/**
+	 * Ubica el nodo dado en el arreglo actual, al final de la cadena de su posicion o en su arbol<br>
+	 * Si la cadena supera {@link #umbralArbol} entradas se convierte en arbol. Los nodos que pasan de un arbol a una cadena
+	 * o de una cadena a un arbol se reemplazan por nodos del tipo correspondiente
+	 *
+	 * @param nodo Nodo a ubicar
+	 */
+	private void ubicar( NodoHash<K, V> nodo )
+	{
+		int index = indice( nodo.hash );
+		if( arreglo[ index ] instanceof ArbolHash )
+		{
+			( ( ArbolHash<K, V> ) arreglo[ index ] ).agregar( nodo );
+			return;
+		}
+		if( nodo instanceof NodoArbol )
+		{
+			nodo = new NodoHash<>( nodo.getKey( ), nodo.getValue( ), nodo.hash );
+		}
+		nodo.siguiente = null;
+		if( arreglo[ index ] == null )
+		{
+			arreglo[ index ] = nodo;
+			return;
+		}
+		NodoHash<K, V> ultimo = ( NodoHash<K, V> ) arreglo[ index ];
+		int longitud = 2;
+		while( ultimo.siguiente != null )
+		{
+			ultimo = ultimo.siguiente;
+			longitud++;
+		}
+		ultimo.siguiente = nodo;
+		if( longitud > umbralArbol )
+		{
+			arreglo[ index ] = arbol( ( NodoHash<K, V> ) arreglo[ index ] );
+		}
+	}
+	
 	/**
 	 * Verifica el factor de carga de la HashTable dependiendo de la operacion realizada
 	 *
@@ -291,20 +1577,17 @@ public class HashTableSC<K, V> extends AbstractHashTable<DoubleLinkedList<Entry<
 	 */
 	private void verificarLoadFactor( boolean add )
 	{
-		float cap = size / arreglo.length;
 		if( add )
 		{
+			float cap = ( float ) size / arreglo.length;
 			if( cap >= loadFactor )
 			{
-				rehash( true );
+				crecer( );
 			}
 		}
 		else
 		{
-			if( cap > 2f )
-			{
-				rehash( false );
-			}
+			reducir( );
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,260 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fotografia inmutable de las estadisticas de una HashTable, obtenida con {@link AbstractHashTable#getStatistics()}<br>
+ * El tamaño, la capacidad, las marcas y los histogramas describen el arreglo en el momento de la fotografia. Los
+ * contadores de rehash y su tiempo solo se registran mientras las estadisticas estan activadas
+ * ({@link AbstractHashTable#setStatisticsEnabled(boolean)})<br>
+ * En los histogramas la posicion i es el numero de entradas (o cadenas) de longitud i
+ *
+ * @author dnarvaez27
+ */
+public class HashTableStats
+{
+	/**
+	 * Cantidad de elementos de la HashTable
+	 */
+	private int size;
+	
+	/**
+	 * Capacidad del arreglo de la HashTable
+	 */
+	private int capacity;
+	
+	/**
+	 * Numero de posiciones marcadas (Flags) del arreglo
+	 */
+	private int tombstones;
+	
+	/**
+	 * Histograma del numero de posiciones que recorre la busqueda de cada entrada
+	 */
+	private long[ ] probeLengths;
+	
+	/**
+	 * Histograma de la longitud de las cadenas del arreglo
+	 */
+	private long[ ] chainLengths;
+	
+	/**
+	 * Numero de rehash por cada causa, con los indices de {@link AbstractHashTable}
+	 */
+	private long[ ] rehashes;
+	
+	/**
+	 * Tiempo total en rehash, en nanosegundos
+	 */
+	private long rehashNanos;
+	
+	/**
+	 * Construye una fotografia con los datos dados. Los histogramas se recortan y el arreglo de rehash no se copia
+	 *
+	 * @param size Cantidad de elementos de la HashTable
+	 * @param capacity Capacidad del arreglo
+	 * @param tombstones Numero de posiciones marcadas
+	 * @param probeLengths Histograma de longitudes de sondeo, vacio si la HashTable no usa direccionamiento abierto
+	 * @param chainLengths Histograma de longitudes de cadena, vacio si la HashTable no usa cadenas
+	 * @param rehashes Numero de rehash por causa
+	 * @param rehashNanos Tiempo total en rehash, en nanosegundos
+	 */
+	HashTableStats( int size, int capacity, int tombstones, long[ ] probeLengths, long[ ] chainLengths, long[ ] rehashes, long rehashNanos )
+	{
+		this.size = size;
+		this.capacity = capacity;
+		this.tombstones = tombstones;
+		this.probeLengths = recortar( probeLengths );
+		this.chainLengths = recortar( chainLengths );
+		this.rehashes = rehashes;
+		this.rehashNanos = rehashNanos;
+	}
+	
+	/**
+	 * Retorna la capacidad del arreglo de la HashTable
+	 *
+	 * @return Capacidad del arreglo
+	 */
+	public int getCapacity( )
+	{
+		return capacity;
+	}
+	
+	/**
+	 * Retorna el histograma de la longitud de las cadenas del arreglo, incluyendo las posiciones vacias como cadenas de
+	 * longitud 0<br>
+	 * Los arboles de una cadena se cuentan por su numero de entradas
+	 *
+	 * @return Copia del histograma, vacio si la HashTable no usa cadenas
+	 */
+	public long[ ] getChainLengths( )
+	{
+		return Arrays.copyOf( chainLengths, chainLengths.length );
+	}
+	
+	/**
+	 * Retorna el numero de rehash realizados para eliminar marcas o reorganizar entradas sin cambiar la capacidad
+	 *
+	 * @return Numero de rehash de limpieza
+	 */
+	public long getCleanupCount( )
+	{
+		return rehashes[ AbstractHashTable.LIMPIAR ];
+	}
+	
+	/**
+	 * Retorna el numero de rehash realizados al crecer por el factor de carga
+	 *
+	 * @return Numero de rehash de crecimiento
+	 */
+	public long getGrowCount( )
+	{
+		return rehashes[ AbstractHashTable.CRECER ];
+	}
+	
+	/**
+	 * Retorna la carga actual de la HashTable: la cantidad de elementos sobre la capacidad
+	 *
+	 * @return Carga actual
+	 */
+	public float getLoad( )
+	{
+		return ( float ) size / ( float ) capacity;
+	}
+	
+	/**
+	 * Retorna la longitud de sondeo maxima, es decir el peor caso de una busqueda exitosa
+	 *
+	 * @return Longitud maxima, 0 si no hay entradas o la HashTable no usa direccionamiento abierto
+	 */
+	public int getMaxProbeLength( )
+	{
+		for( int i = probeLengths.length - 1; i > 0; i-- )
+		{
+			if( probeLengths[ i ] > 0 )
+			{
+				return i;
+			}
+		}
+		return 0;
+	}
+	
+	/**
+	 * Retorna la longitud de sondeo promedio, es decir el costo promedio de una busqueda exitosa
+	 *
+	 * @return Longitud promedio, 0 si no hay entradas o la HashTable no usa direccionamiento abierto
+	 */
+	public double getMeanProbeLength( )
+	{
+		long entradas = 0;
+		long total = 0;
+		for( int i = 0; i < probeLengths.length; i++ )
+		{
+			entradas += probeLengths[ i ];
+			total += i * probeLengths[ i ];
+		}
+		return entradas > 0 ? ( double ) total / entradas : 0;
+	}
+	
+	/**
+	 * Retorna el histograma del numero de posiciones que recorre la busqueda de cada entrada, contando la posicion de la
+	 * entrada. En las HashTables por grupos o cubetas se cuentan los grupos o cubetas recorridos
+	 *
+	 * @return Copia del histograma, vacio si la HashTable no usa direccionamiento abierto
+	 */
+	public long[ ] getProbeLengths( )
+	{
+		return Arrays.copyOf( probeLengths, probeLengths.length );
+	}
+	
+	/**
+	 * Retorna el tiempo total en rehash mientras las estadisticas estaban activadas<br>
+	 * En el rehash incremental solo se mide el inicio; la migracion se reparte en las operaciones siguientes
+	 *
+	 * @param unit Unidad del tiempo retornado
+	 * @return Tiempo en rehash en la unidad dada
+	 */
+	public long getRehashTime( TimeUnit unit )
+	{
+		return unit.convert( rehashNanos, TimeUnit.NANOSECONDS );
+	}
+	
+	/**
+	 * Retorna el numero de rehash realizados por {@link AbstractHashTable#ensureCapacity(int)} o
+	 * {@link AbstractHashTable#trimToSize()}
+	 *
+	 * @return Numero de rehash de ajuste
+	 */
+	public long getResizeCount( )
+	{
+		return rehashes[ AbstractHashTable.AJUSTAR ];
+	}
+	
+	/**
+	 * Retorna el numero de rehash realizados al reducirse por la politica de capacidad
+	 *
+	 * @return Numero de rehash de reduccion
+	 */
+	public long getShrinkCount( )
+	{
+		return rehashes[ AbstractHashTable.REDUCIR ];
+	}
+	
+	/**
+	 * Retorna la cantidad de elementos de la HashTable
+	 *
+	 * @return Cantidad de elementos
+	 */
+	public int getSize( )
+	{
+		return size;
+	}
+	
+	/**
+	 * Retorna el numero de posiciones marcadas (Flags) del arreglo, que ocupan espacio y alargan las busquedas
+	 *
+	 * @return Numero de marcas
+	 */
+	public int getTombstones( )
+	{
+		return tombstones;
+	}
+	
+	/**
+	 * Retorna el histograma dado sin las posiciones en 0 del final
+	 *
+	 * @param histograma Histograma a recortar
+	 * @return Histograma recortado
+	 */
+	private static long[ ] recortar( long[ ] histograma )
+	{
+		int longitud = histograma.length;
+		while( ( longitud > 0 ) && ( histograma[ longitud - 1 ] == 0 ) )
+		{
+			longitud--;
+		}
+		return Arrays.copyOf( histograma, longitud );
+	}
+	
+	/**
+	 * Retorna una representacion de las estadisticas
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( );
+		sBuilder.append( "size=" + size + ", capacity=" + capacity + ", load=" + getLoad( ) + ", tombstones=" + tombstones );
+		if( probeLengths.length > 0 )
+		{
+			sBuilder.append( ", probes=" + Arrays.toString( probeLengths ) );
+		}
+		if( chainLengths.length > 0 )
+		{
+			sBuilder.append( ", chains=" + Arrays.toString( chainLengths ) );
+		}
+		sBuilder.append( ", rehashes[grow=" + getGrowCount( ) + ", shrink=" + getShrinkCount( ) + ", cleanup=" + getCleanupCount( ) + ", resize=" + getResizeCount( ) + "]" );
+		sBuilder.append( ", rehashTime=" + getRehashTime( TimeUnit.MICROSECONDS ) + "us" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,673 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable implementada con grupos de control, al estilo de SwissTable<br>
+ * El arreglo se divide en grupos de {@link #GRUPO} posiciones. Cada posicion tiene un byte de control: {@link #VACIO},
+ * {@link #BORRADO}, o los 7 bits bajos del hash de su llave si esta ocupada. Una busqueda compara la etiqueta de la llave con
+ * los 16 bytes de control del grupo a la vez, y solo llama a equals en las posiciones cuya etiqueta coincide, de modo que
+ * las llaves ausentes se descartan casi siempre sin leer ninguna llave<br>
+ * Los bytes de control se empaquetan de a 8 en cada long y se comparan con operaciones SWAR (SIMD dentro de un registro):
+ * un grupo son dos longs. Los grupos se recorren con una secuencia de prueba cuadratica, y la busqueda termina en el primer
+ * grupo con alguna posicion vacia. Las remociones solo dejan una marca si el grupo esta lleno
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class HashTableSwiss<K, V> extends AbstractHashTable<Object, K, V>
+{
+	/**
+	 * Cursor que recorre directamente los arreglos de la HashTable, omitiendo las posiciones vacias y borradas
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Cursor implements ICursor<K, V>
+	{
+		/**
+		 * Indice de la entrada actual en los arreglos
+		 */
+		private int index = -1;
+		
+		@Override
+		public boolean advance( )
+		{
+			if( index >= arreglo.length )
+			{
+				return false;
+			}
+			do
+			{
+				index++;
+			}
+			while( ( index < arreglo.length ) && ( arreglo[ index ] == null ) );
+			return index < arreglo.length;
+		}
+		
+		@Override
+		public K key( )
+		{
+			return ( K ) arreglo[ posicionado( ) ];
+		}
+		
+		/**
+		 * Retorna el indice de la entrada actual
+		 *
+		 * @return Indice de la entrada actual
+		 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+		 */
+		private int posicionado( )
+		{
+			if( ( index < 0 ) || ( index >= arreglo.length ) || ( arreglo[ index ] == null ) )
+			{
+				throw new NoSuchElementException( );
+			}
+			return index;
+		}
+		
+		@Override
+		public void reset( )
+		{
+			index = -1;
+		}
+		
+		@Override
+		public V value( )
+		{
+			return ( V ) valores[ posicionado( ) ];
+		}
+	}
+	
+	/**
+	 * Tamaño inicial del arreglo
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Numero de posiciones de cada grupo. Es tambien el tamaño minimo del arreglo
+	 */
+	private static final int GRUPO = 16;
+	
+	/**
+	 * Byte de control de una posicion vacia
+	 */
+	private static final int VACIO = 0x80;
+	
+	/**
+	 * Byte de control de una posicion borrada
+	 */
+	private static final int BORRADO = 0xFE;
+	
+	/**
+	 * Long con el bit alto de cada byte
+	 */
+	private static final long ALTOS = 0x8080808080808080L;
+	
+	/**
+	 * Long con el bit bajo de cada byte
+	 */
+	private static final long BAJOS = 0x0101010101010101L;
+	
+	/**
+	 * Long con los 7 bits bajos de cada byte
+	 */
+	private static final long SIETE = 0x7F7F7F7F7F7F7F7FL;
+	
+	/**
+	 * Bytes de control de las posiciones, 8 por cada long. El byte de la posicion i esta en los bits 8*(i%8) del long i/8
+	 */
+	private long[ ] control;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private Object[ ] valores;
+	
+	/**
+	 * Arreglo del hash de cada llave, paralelo al arreglo de llaves
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Numero de posiciones borradas
+	 */
+	private int borrados;
+	
+	/**
+	 * Numero de posiciones vacias que aun se pueden ocupar antes de realizar un rehash
+	 */
+	private int crecimientoRestante;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.875<br>
+	 * Como las busquedas descartan un grupo completo a la vez, el factor de carga puede ser mas alto que en LinearProbing
+	 */
+	public HashTableSwiss( )
+	{
+		this( TAMANO, 0.875f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño del arreglo, se redondea a la siguiente potencia de dos. Es al menos {@link #GRUPO}
+	 * @param loadFactor Factor de carga. Siempre queda al menos una posicion vacia
+	 */
+	public HashTableSwiss( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		inicializar( tamanoArreglo( capacidad ) );
+	}
+	
+	/**
+	 * Agrega una entrada que no se encuentra en la HashTable, en la primera posicion libre de su secuencia de prueba<br>
+	 * Si ya no quedan posiciones vacias disponibles se realiza un rehash: con la misma capacidad si al descartar las posiciones
+	 * borradas queda libre al menos un octavo del limite, o con una capacidad mayor de lo contrario (tambien si no hay posiciones
+	 * borradas, pues el rehash con la misma capacidad no liberaria ninguna)
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void agregarEntrada( K key, V value, int hash )
+	{
+		int index = primeraLibre( hash );
+		while( ( crecimientoRestante <= 0 ) && ( byteControl( index ) == VACIO ) )
+		{
+			if( ( borrados > 0 ) && ( size <= ( ( limite( arreglo.length ) / 8 ) * 7 ) ) )
+			{
+				reconstruir( arreglo.length, LIMPIAR );
+			}
+			else
+			{
+				crecer( );
+			}
+			index = primeraLibre( hash );
+		}
+		if( byteControl( index ) == VACIO )
+		{
+			crecimientoRestante--;
+		}
+		else
+		{
+			borrados--;
+		}
+		ocupar( index, key, value, hash );
+		size++;
+	}
+	
+	/**
+	 * Establece el byte de control de la posicion dada
+	 *
+	 * @param index Indice de la posicion
+	 * @param valor Nuevo byte de control
+	 */
+	private void asignarControl( int index, int valor )
+	{
+		int corrimiento = ( index & 7 ) << 3;
+		control[ index >>> 3 ] = ( control[ index >>> 3 ] & ~( 0xFFL << corrimiento ) ) | ( ( long ) valor << corrimiento );
+	}
+	
+	/**
+	 * Retorna el indice de la llave en el arreglo
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice de la llave, o -1 si la llave no se encuentra
+	 */
+	private int buscar( K key, int hash )
+	{
+		long etiqueta = BAJOS * ( hash & 0x7F );
+		int mascara = ( control.length >>> 1 ) - 1;
+		int grupo = ( hash >>> 7 ) & mascara;
+		for( int salto = 1;; salto++ )
+		{
+			long primera = control[ grupo << 1 ];
+			long segunda = control[ ( grupo << 1 ) + 1 ];
+			for( long m = coincidencias( primera, etiqueta ); m != 0; m &= m - 1 )
+			{
+				int index = ( grupo << 4 ) + ( Long.numberOfTrailingZeros( m ) >>> 3 );
+				if( ( hashes[ index ] == hash ) && arreglo[ index ].equals( key ) )
+				{
+					return index;
+				}
+			}
+			for( long m = coincidencias( segunda, etiqueta ); m != 0; m &= m - 1 )
+			{
+				int index = ( grupo << 4 ) + 8 + ( Long.numberOfTrailingZeros( m ) >>> 3 );
+				if( ( hashes[ index ] == hash ) && arreglo[ index ].equals( key ) )
+				{
+					return index;
+				}
+			}
+			if( ( vacios( primera ) | vacios( segunda ) ) != 0 )
+			{
+				return -1;
+			}
+			grupo = ( grupo + salto ) & mascara;
+		}
+	}
+	
+	/**
+	 * Retorna el byte de control de la posicion dada
+	 *
+	 * @param index Indice de la posicion
+	 * @return Byte de control, entre 0 y 255
+	 */
+	private int byteControl( int index )
+	{
+		return ( int ) ( control[ index >>> 3 ] >>> ( ( index & 7 ) << 3 ) ) & 0xFF;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		super.clear( );
+		inicializar( arreglo.length );
+	}
+	
+	/**
+	 * Retorna una mascara con el bit alto de cada byte de la palabra de control igual a la etiqueta dada<br>
+	 * Se aplica XOR para que los bytes iguales queden en 0 y luego se detectan los bytes en 0 sin propagar acarreos entre
+	 * bytes, por lo que no hay falsos positivos
+	 *
+	 * @param palabra Palabra con 8 bytes de control
+	 * @param etiqueta Etiqueta de la llave repetida en los 8 bytes
+	 * @return Mascara con el bit alto de cada byte que coincide
+	 */
+	private static long coincidencias( long palabra, long etiqueta )
+	{
+		long x = palabra ^ etiqueta;
+		return ~( ( ( x & SIETE ) + SIETE ) | x | SIETE );
+	}
+	
+	@Override
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V value = funcion.apply( key, index >= 0 ? ( V ) valores[ index ] : null );
+		if( value == null )
+		{
+			if( index >= 0 )
+			{
+				eliminar( index );
+			}
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = value;
+		}
+		else
+		{
+			agregarEntrada( key, value, hash );
+		}
+		return value;
+	}
+	
+	@Override
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( ( index >= 0 ) && ( valores[ index ] != null ) )
+		{
+			return ( V ) valores[ index ];
+		}
+		V value = funcion.apply( key );
+		if( value != null )
+		{
+			if( index >= 0 )
+			{
+				valores[ index ] = value;
+			}
+			else
+			{
+				agregarEntrada( key, value, hash );
+			}
+		}
+		return value;
+	}
+	
+	/**
+	 * Retorna un arreglo de al menos {@link #GRUPO} posiciones
+	 */
+	@Override
+	protected Object[ ] crearArreglo( int capacidad )
+	{
+		return new Object[ Math.max( GRUPO, capacidad ) ];
+	}
+	
+	@Override
+	public ICursor<K, V> cursor( )
+	{
+		return new Cursor( );
+	}
+	
+	@Override
+	public V delete( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? eliminar( index ) : null;
+	}
+	
+	/**
+	 * Elimina la entrada de la posicion dada<br>
+	 * Si el grupo tiene alguna posicion vacia, ninguna busqueda continua despues de este grupo y la posicion queda vacia;
+	 * de lo contrario queda borrada
+	 *
+	 * @param index Indice de la entrada a eliminar
+	 * @return Valor eliminado
+	 */
+	private V eliminar( int index )
+	{
+		V value = ( V ) valores[ index ];
+		int palabra = ( index >>> 4 ) << 1;
+		if( ( vacios( control[ palabra ] ) | vacios( control[ palabra + 1 ] ) ) != 0 )
+		{
+			asignarControl( index, VACIO );
+			crecimientoRestante++;
+		}
+		else
+		{
+			asignarControl( index, BORRADO );
+			borrados++;
+		}
+		arreglo[ index ] = null;
+		valores[ index ] = null;
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	@Override
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( new Entry<>( ( K ) arreglo[ i ], ( V ) valores[ i ] ) );
+			}
+		}
+		return list;
+	}
+	
+	@Override
+	public V get( K key )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return index >= 0 ? ( V ) valores[ index ] : null;
+	}
+	
+	@Override
+	public V getOrDefault( K key, V defaultValue )
+	{
+		int index = buscar( verificarLlave( key ), dispersar( key ) );
+		return ( index >= 0 ) && ( valores[ index ] != null ) ? ( V ) valores[ index ] : defaultValue;
+	}
+	
+	/**
+	 * Crea los arreglos vacios con la capacidad dada, con todas las posiciones vacias
+	 *
+	 * @param capacidad Capacidad del arreglo, potencia de dos
+	 */
+	private void inicializar( int capacidad )
+	{
+		arreglo = crearArreglo( capacidad );
+		valores = new Object[ arreglo.length ];
+		hashes = new int[ arreglo.length ];
+		control = new long[ arreglo.length >>> 3 ];
+		Arrays.fill( control, ALTOS );
+		borrados = 0;
+		crecimientoRestante = limite( arreglo.length ) - size;
+	}
+	
+	/**
+	 * Retorna el numero maximo de posiciones ocupadas o borradas para la capacidad dada
+	 *
+	 * @param capacidad Capacidad del arreglo
+	 * @return Numero maximo de posiciones no vacias, al menos 1 y siempre menor a la capacidad
+	 */
+	private int limite( int capacidad )
+	{
+		return Math.max( 1, Math.min( capacidad - 1, ( int ) ( capacidad * loadFactor ) ) );
+	}
+	
+	/**
+	 * Retorna una mascara con el bit alto de cada byte de la palabra de control que es {@link #VACIO} o {@link #BORRADO}<br>
+	 * Son los unicos bytes con el bit alto en 1 y el bit bajo en 0
+	 *
+	 * @param palabra Palabra con 8 bytes de control
+	 * @return Mascara con el bit alto de cada byte libre
+	 */
+	private static long libres( long palabra )
+	{
+		return palabra & ~( palabra << 7 ) & ALTOS;
+	}
+	
+	/**
+	 * Cuenta los grupos que recorre la busqueda de cada entrada, siguiendo la secuencia de prueba desde su grupo inicial
+	 */
+	@Override
+	protected long[ ] longitudesSondeo( )
+	{
+		long[ ] histograma = new long[ 8 ];
+		int mascara = ( control.length >>> 1 ) - 1;
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				int grupo = ( hashes[ i ] >>> 7 ) & mascara;
+				int grupos = 1;
+				while( grupo != ( i >>> 4 ) )
+				{
+					grupo = ( grupo + grupos ) & mascara;
+					grupos++;
+				}
+				histograma = contar( histograma, grupos );
+			}
+		}
+		return histograma;
+	}
+	
+	@Override
+	protected int marcas( )
+	{
+		return borrados;
+	}
+	
+	@Override
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion )
+	{
+		verificarValor( value );
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		V old = index >= 0 ? ( V ) valores[ index ] : null;
+		V nuevo = old != null ? funcion.apply( old, value ) : value;
+		if( nuevo == null )
+		{
+			eliminar( index );
+		}
+		else if( index >= 0 )
+		{
+			valores[ index ] = nuevo;
+		}
+		else
+		{
+			agregarEntrada( key, nuevo, hash );
+		}
+		return nuevo;
+	}
+	
+	/**
+	 * Ocupa la posicion dada con una entrada y su etiqueta
+	 *
+	 * @param index Indice de la posicion
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param hash Hash de la llave
+	 */
+	private void ocupar( int index, Object key, Object value, int hash )
+	{
+		asignarControl( index, hash & 0x7F );
+		arreglo[ index ] = key;
+		valores[ index ] = value;
+		hashes[ index ] = hash;
+	}
+	
+	/**
+	 * Retorna la primera posicion vacia o borrada de la secuencia de prueba del hash dado
+	 *
+	 * @param hash Hash de la llave
+	 * @return Indice de la posicion libre
+	 */
+	private int primeraLibre( int hash )
+	{
+		int mascara = ( control.length >>> 1 ) - 1;
+		int grupo = ( hash >>> 7 ) & mascara;
+		for( int salto = 1;; salto++ )
+		{
+			long m = libres( control[ grupo << 1 ] );
+			if( m != 0 )
+			{
+				return ( grupo << 4 ) + ( Long.numberOfTrailingZeros( m ) >>> 3 );
+			}
+			m = libres( control[ ( grupo << 1 ) + 1 ] );
+			if( m != 0 )
+			{
+				return ( grupo << 4 ) + 8 + ( Long.numberOfTrailingZeros( m ) >>> 3 );
+			}
+			grupo = ( grupo + salto ) & mascara;
+		}
+	}
+	
+	@Override
+	public V put( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index >= 0 )
+		{
+			V old = ( V ) valores[ index ];
+			valores[ index ] = value;
+			return old;
+		}
+		agregarEntrada( key, value, hash );
+		return null;
+	}
+	
+	@Override
+	public V putIfAbsent( K key, V value )
+	{
+		int hash = dispersar( verificarLlave( key ) );
+		int index = buscar( key, hash );
+		if( index < 0 )
+		{
+			agregarEntrada( key, value, hash );
+			return null;
+		}
+		V old = ( V ) valores[ index ];
+		if( old == null )
+		{
+			valores[ index ] = value;
+		}
+		return old;
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable. Reubicando las entradas en arreglos de la capacidad dada y descartando las
+	 * posiciones borradas<br>
+	 * Se reutiliza el hash almacenado de cada llave
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] llavesAnteriores = arreglo;
+		Object[ ] valoresAnteriores = valores;
+		int[ ] hashesAnteriores = hashes;
+		inicializar( nuevaCapacidad );
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != null )
+			{
+				ocupar( primeraLibre( hashesAnteriores[ i ] ), llavesAnteriores[ i ], valoresAnteriores[ i ], hashesAnteriores[ i ] );
+			}
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| las posiciones vacias
+	 * <li>Se representa con |B| las posiciones borradas
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * <li>Se separan los grupos con ||
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				sBuilder.append( arreglo[ i ] + ":" + valores[ i ] );
+			}
+			else
+			{
+				sBuilder.append( byteControl( i ) == BORRADO ? "|B|" : "|X|" );
+			}
+			if( ( i + 1 ) < arreglo.length )
+			{
+				sBuilder.append( ( ( i + 1 ) % GRUPO ) == 0 ? " || " : ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Retorna una mascara con el bit alto de cada byte de la palabra de control que es {@link #VACIO}<br>
+	 * Es el unico byte con el bit alto en 1 y el segundo bit en 0
+	 *
+	 * @param palabra Palabra con 8 bytes de control
+	 * @return Mascara con el bit alto de cada byte vacio
+	 */
+	private static long vacios( long palabra )
+	{
+		return palabra & ~( palabra << 6 ) & ALTOS;
+	}
+	
+	/**
+	 * Retorna una lista con los valores de la HashTable
+	 *
+	 * @return Lista con los valores de la HashTable
+	 */
+	public DoubleLinkedList<V> values( )
+	{
+		DoubleLinkedList<V> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < arreglo.length; i++ )
+		{
+			if( arreglo[ i ] != null )
+			{
+				list.add( ( V ) valores[ i ] );
+			}
+		}
+		return list;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package dnarvaez27.collections.hashtable;
+
+/**
+ * Interface que define la politica de admision de una {@link CacheTable}<br>
+ * Cuando la cache esta llena, la politica decide si una entrada nueva merece reemplazar a la entrada que se expulsaria.
+ * Las llaves se identifican por su hash disperso, por lo que registrar un acceso no crea objetos
+ *
+ * @author dnarvaez27
+ */
+public interface IAdmissionPolicy
+{
+	/**
+	 * Politica de admision TinyLFU<br>
+	 * Estima la frecuencia de acceso de cada llave con un Count-Min Sketch de contadores de 4 bits, empaquetados de a 16 en
+	 * cada long. Una entrada nueva solo se admite si su frecuencia estimada es mayor a la de la victima. Cada vez que se
+	 * registran tantos accesos como 10 veces la capacidad, todos los contadores se dividen a la mitad, de modo que la
+	 * frecuencia refleja los accesos recientes
+	 *
+	 * @author dnarvaez27
+	 */
+	public class TinyLfu implements IAdmissionPolicy
+	{
+		/**
+		 * Semillas de cada una de las 4 filas del sketch
+		 */
+		private static final long[ ] SEMILLAS = new long[ ]
+		{
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		
+		/**
+		 * Mascara que limpia el bit alto de cada contador despues de desplazar la tabla un bit a la derecha
+		 */
+		private static final long MITAD = 0x7777777777777777L;
+		
+		/**
+		 * Valor maximo de un contador
+		 */
+		private static final int MAXIMO = 15;
+		
+		/**
+		 * Tabla de contadores, 16 contadores de 4 bits por cada long
+		 */
+		private long[ ] tabla;
+		
+		/**
+		 * Numero de accesos registrados despues de los cuales se envejecen los contadores
+		 */
+		private int muestra;
+		
+		/**
+		 * Numero de accesos registrados desde el ultimo envejecimiento
+		 */
+		private int accesos;
+		
+		/**
+		 * Construye una politica TinyLFU para una cache con la capacidad dada
+		 *
+		 * @param capacidad Numero esperado de entradas de la cache
+		 * @throws IllegalArgumentException Si la capacidad no es positiva
+		 */
+		public TinyLfu( int capacidad )
+		{
+			if( capacidad <= 0 )
+			{
+				throw new IllegalArgumentException( "The capacity must be positive" );
+			}
+			this.tabla = new long[ ICapacityPolicy.Geometric.potencia( capacidad ) ];
+			this.muestra = ( int ) Math.min( 10L * capacidad, Integer.MAX_VALUE );
+		}
+		
+		@Override
+		public boolean admit( int candidato, int victima )
+		{
+			return frequency( candidato ) > frequency( victima );
+		}
+		
+		/**
+		 * Divide a la mitad todos los contadores
+		 */
+		private void envejecer( )
+		{
+			for( int i = 0; i < tabla.length; i++ )
+			{
+				tabla[ i ] = ( tabla[ i ] >>> 1 ) & MITAD;
+			}
+			accesos /= 2;
+		}
+		
+		/**
+		 * Retorna la frecuencia estimada de la llave con el hash dado, el minimo de sus 4 contadores
+		 *
+		 * @param hash Hash disperso de la llave
+		 * @return Frecuencia estimada, entre 0 y 15
+		 */
+		public int frequency( int hash )
+		{
+			int frecuencia = MAXIMO;
+			for( int i = 0; i < SEMILLAS.length; i++ )
+			{
+				frecuencia = Math.min( frecuencia, ( int ) ( ( tabla[ posicion( hash, i ) ] >>> desplazamiento( hash, i ) ) & MAXIMO ) );
+			}
+			return frecuencia;
+		}
+		
+		/**
+		 * Retorna el desplazamiento en bits del contador de la fila dada dentro de su long
+		 *
+		 * @param hash Hash disperso de la llave
+		 * @param fila Fila del sketch
+		 * @return Desplazamiento del contador
+		 */
+		private static int desplazamiento( int hash, int fila )
+		{
+			return ( ( ( hash & 3 ) << 2 ) + fila ) << 2;
+		}
+		
+		/**
+		 * Retorna la posicion en la tabla del long que contiene el contador de la fila dada
+		 *
+		 * @param hash Hash disperso de la llave
+		 * @param fila Fila del sketch
+		 * @return Posicion en la tabla
+		 */
+		private int posicion( int hash, int fila )
+		{
+			long h = ( hash + SEMILLAS[ fila ] ) * SEMILLAS[ fila ];
+			h += h >>> 32;
+			return ( int ) h & ( tabla.length - 1 );
+		}
+		
+		@Override
+		public void record( int hash )
+		{
+			boolean incrementado = false;
+			for( int i = 0; i < SEMILLAS.length; i++ )
+			{
+				int posicion = posicion( hash, i );
+				int desplazamiento = desplazamiento( hash, i );
+				if( ( ( tabla[ posicion ] >>> desplazamiento ) & MAXIMO ) < MAXIMO )
+				{
+					tabla[ posicion ] += 1L << desplazamiento;
+					incrementado = true;
+				}
+			}
+			if( incrementado && ( ++accesos >= muestra ) )
+			{
+				envejecer( );
+			}
+		}
+	}
+	
+	/**
+	 * Decide si se admite la llave candidata a cambio de expulsar a la victima
+	 *
+	 * @param candidato Hash de la llave que se quiere agregar
+	 * @param victima Hash de la llave que se expulsaria
+	 * @return True si se admite la llave candidata, False si se rechaza
+	 */
+	public boolean admit( int candidato, int victima );
+	
+	/**
+	 * Registra un acceso a la llave con el hash dado
+	 *
+	 * @param hash Hash disperso de la llave
+	 */
+	public void record( int hash );
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package dnarvaez27.collections.hashtable;
+
+/**
+ * Interface que define la politica de capacidad del arreglo de una HashTable<br>
+ * Decide el tamaño del nuevo arreglo cada vez que la HashTable necesita crecer o ajustarse.
+ * Las HashTables redondean las capacidades retornadas a la siguiente potencia de dos
+ *
+ * @author dnarvaez27
+ */
+public interface ICapacityPolicy
+{
+	/**
+	 * Politica de crecimiento geometrico<br>
+	 * Las capacidades retornadas son siempre potencias de dos, de manera que el costo de insercion es O(1) amortizado<br>
+	 * La reduccion solo ocurre por debajo de una marca inferior y nunca por debajo de una capacidad minima,
+	 * dejando un margen entre crecer y reducir para evitar rehash continuos
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Geometric implements ICapacityPolicy
+	{
+		/**
+		 * Capacidad maxima que puede retornar la politica
+		 */
+		public static final int MAXIMO = 1 << 30;
+		
+		/**
+		 * Capacidad minima por defecto
+		 */
+		public static final int MINIMO = 16;
+		
+		/**
+		 * Marca inferior por defecto
+		 */
+		public static final float MARCA_INFERIOR = 0.25f;
+		
+		/**
+		 * Factor por el cual se multiplica la capacidad al crecer
+		 */
+		private int factor;
+		
+		/**
+		 * Capacidad minima a la que se puede reducir el arreglo
+		 */
+		private int minimo;
+		
+		/**
+		 * Fraccion de la capacidad por debajo de la cual la capacidad requerida provoca una reduccion
+		 */
+		private float marcaInferior;
+		
+		/**
+		 * Construye una politica geometrica que duplica la capacidad en cada crecimiento
+		 */
+		public Geometric( )
+		{
+			this( 2 );
+		}
+		
+		/**
+		 * Construye una politica geometrica con el factor dado por parametro<br>
+		 * Si el factor no es una potencia de dos se redondea a la siguiente potencia de dos
+		 *
+		 * @param factor Factor de crecimiento
+		 * @throws IllegalArgumentException Si el factor es menor a 2
+		 */
+		public Geometric( int factor )
+		{
+			this( factor, MINIMO, MARCA_INFERIOR );
+		}
+		
+		/**
+		 * Construye una politica geometrica con los parametros dados
+		 *
+		 * @param factor Factor de crecimiento
+		 * @param minimo Capacidad minima a la que se puede reducir el arreglo. Se redondea a una potencia de dos
+		 * @param marcaInferior Fraccion de la capacidad por debajo de la cual se reduce el arreglo
+		 * @throws IllegalArgumentException Si el factor es menor a 2, el minimo es menor a 1 o la marca inferior no esta en (0, 1)
+		 */
+		public Geometric( int factor, int minimo, float marcaInferior )
+		{
+			if( factor < 2 )
+			{
+				throw new IllegalArgumentException( "The factor must be at least 2" );
+			}
+			if( minimo < 1 )
+			{
+				throw new IllegalArgumentException( "The minimum capacity must be at least 1" );
+			}
+			if( ( marcaInferior <= 0 ) || ( marcaInferior >= 1 ) )
+			{
+				throw new IllegalArgumentException( "The low-water mark must be between 0 and 1" );
+			}
+			this.factor = potencia( factor );
+			this.minimo = potencia( minimo );
+			this.marcaInferior = marcaInferior;
+		}
+		
+		@Override
+		public int fit( int requerida )
+		{
+			return potencia( requerida );
+		}
+		
+		@Override
+		public int grow( int capacidad, int requerida )
+		{
+			return potencia( Math.max( ( long ) capacidad * factor, requerida ) );
+		}
+		
+		/**
+		 * Retorna la menor potencia de dos mayor o igual al numero dado por parametro
+		 *
+		 * @param n Numero de interes
+		 * @return Menor potencia de dos mayor o igual a n, acotada por {@link #MAXIMO}
+		 */
+		public static int potencia( long n )
+		{
+			if( n >= MAXIMO )
+			{
+				return MAXIMO;
+			}
+			return n <= 1 ? 1 : Integer.highestOneBit( ( int ) n - 1 ) << 1;
+		}
+		
+		@Override
+		public int shrink( int capacidad, int requerida )
+		{
+			if( ( capacidad <= minimo ) || ( requerida >= ( capacidad * marcaInferior ) ) )
+			{
+				return capacidad;
+			}
+			int nueva = Math.max( minimo, potencia( ( long ) requerida * factor ) );
+			return nueva < capacidad ? nueva : capacidad;
+		}
+	}
+	
+	/**
+	 * Retorna la menor capacidad de la politica que puede contener la capacidad requerida
+	 *
+	 * @param requerida Capacidad minima requerida
+	 * @return Capacidad ajustada a la politica, mayor o igual a la requerida
+	 */
+	public int fit( int requerida );
+	
+	/**
+	 * Retorna la nueva capacidad del arreglo cuando la HashTable debe crecer
+	 *
+	 * @param capacidad Capacidad actual del arreglo
+	 * @param requerida Capacidad minima requerida para mantener el factor de carga
+	 * @return Nueva capacidad, mayor a la actual y mayor o igual a la requerida
+	 */
+	public int grow( int capacidad, int requerida );
+	
+	/**
+	 * Retorna la nueva capacidad del arreglo despues de una remocion
+	 *
+	 * @param capacidad Capacidad actual del arreglo
+	 * @param requerida Capacidad minima requerida para mantener el factor de carga
+	 * @return Nueva capacidad, menor a la actual si se debe reducir el arreglo, o la capacidad actual de lo contrario
+	 */
+	public int shrink( int capacidad, int requerida );
+}
\ No newline at end of file
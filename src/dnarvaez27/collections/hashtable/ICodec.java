@@ -0,0 +1,130 @@
+package dnarvaez27.collections.hashtable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Interface que define la codificacion binaria de las llaves o los valores de una HashTable en sus fotografias
+ * (ver {@link HashTableLP#writeTo(java.nio.channels.WritableByteChannel, ICodec, ICodec)})<br>
+ * La codificacion debe delimitarse a si misma: al decodificar solo se leen los bytes que se escribieron al codificar.
+ * Nunca recibe null: los valores null se marcan en la fotografia sin codificarlos
+ *
+ * @author dnarvaez27
+ * @param <T> Tipo de los objetos codificados
+ */
+public interface ICodec<T>
+{
+	/**
+	 * Codificacion de enteros en 4 bytes
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Integers implements ICodec<Integer>
+	{
+		@Override
+		public int maxSize( Integer value )
+		{
+			return 4;
+		}
+		
+		@Override
+		public Integer read( ByteBuffer buffer )
+		{
+			return buffer.getInt( );
+		}
+		
+		@Override
+		public void write( Integer value, ByteBuffer buffer )
+		{
+			buffer.putInt( value );
+		}
+	}
+	
+	/**
+	 * Codificacion de enteros largos en 8 bytes
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Longs implements ICodec<Long>
+	{
+		@Override
+		public int maxSize( Long value )
+		{
+			return 8;
+		}
+		
+		@Override
+		public Long read( ByteBuffer buffer )
+		{
+			return buffer.getLong( );
+		}
+		
+		@Override
+		public void write( Long value, ByteBuffer buffer )
+		{
+			buffer.putLong( value );
+		}
+	}
+	
+	/**
+	 * Codificacion de cadenas en UTF-8, precedidas por su longitud en bytes
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Strings implements ICodec<String>
+	{
+		@Override
+		public int maxSize( String value )
+		{
+			return 4 + ( value.length( ) * 3 );
+		}
+		
+		@Override
+		public String read( ByteBuffer buffer )
+		{
+			int longitud = buffer.getInt( );
+			if( buffer.hasArray( ) )
+			{
+				String value = new String( buffer.array( ), buffer.arrayOffset( ) + buffer.position( ), longitud, StandardCharsets.UTF_8 );
+				buffer.position( buffer.position( ) + longitud );
+				return value;
+			}
+			byte[ ] bytes = new byte[ longitud ];
+			buffer.get( bytes );
+			return new String( bytes, StandardCharsets.UTF_8 );
+		}
+		
+		@Override
+		public void write( String value, ByteBuffer buffer )
+		{
+			byte[ ] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			buffer.putInt( bytes.length );
+			buffer.put( bytes );
+		}
+	}
+	
+	/**
+	 * Retorna el numero maximo de bytes que ocupa la codificacion del objeto dado
+	 *
+	 * @param value Objeto a codificar
+	 * @return Cota superior del numero de bytes escritos por {@link #write(Object, ByteBuffer)}
+	 */
+	public int maxSize( T value );
+	
+	/**
+	 * Decodifica un objeto desde la posicion actual del buffer dado, avanzando su posicion
+	 *
+	 * @param buffer Buffer con la codificacion del objeto
+	 * @return Objeto decodificado
+	 */
+	public T read( ByteBuffer buffer );
+	
+	/**
+	 * Codifica el objeto dado en la posicion actual del buffer dado, avanzando su posicion<br>
+	 * <b>pre:</b> El buffer tiene al menos {@link #maxSize(Object)} bytes disponibles
+	 *
+	 * @param value Objeto a codificar
+	 * @param buffer Buffer donde se escribe la codificacion
+	 */
+	public void write( T value, ByteBuffer buffer );
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dnarvaez27.collections.elements.Entry;
+
+/**
+ * Interface que define un cursor sobre las entradas de una HashTable<br>
+ * El cursor recorre directamente la estructura de la HashTable, sin copiar las entradas ni crear objetos por cada una.
+ * Se posiciona en la siguiente entrada con {@link #advance()} y la entrada actual se consulta con {@link #key()} y {@link #value()}.
+ * Un mismo cursor se puede reutilizar para varios recorridos por medio de {@link #reset()}<br>
+ * Si la HashTable se modifica durante el recorrido (salvo el valor de la entrada actual), el resultado del recorrido no esta definido
+ *
+ * <pre>
+ * ICursor&lt;K, V&gt; cursor = tabla.cursor( );
+ * while( cursor.advance( ) )
+ * {
+ * 	procesar( cursor.key( ), cursor.value( ) );
+ * }
+ * </pre>
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+public interface ICursor<K, V>
+{
+	/**
+	 * Iterador de entradas construido sobre un cursor<br>
+	 * Crea una {@link Entry} por cada entrada recorrida. Las HashTables cuyas entradas ya son objetos
+	 * retornan sus propios nodos en lugar de usar este iterador
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de las llaves
+	 * @param <V> Tipo de los valores
+	 */
+	public class Iterador<K, V> implements Iterator<Entry<K, V>>
+	{
+		/**
+		 * Cursor que recorre las entradas
+		 */
+		private ICursor<K, V> cursor;
+		
+		/**
+		 * Establece si el cursor esta posicionado en una entrada que aun no se ha retornado
+		 */
+		private boolean pendiente;
+		
+		/**
+		 * Construye un iterador sobre el cursor dado por parametro
+		 *
+		 * @param cursor Cursor en su posicion inicial
+		 */
+		public Iterador( ICursor<K, V> cursor )
+		{
+			this.cursor = cursor;
+			this.pendiente = cursor.advance( );
+		}
+		
+		@Override
+		public boolean hasNext( )
+		{
+			return pendiente;
+		}
+		
+		@Override
+		public Entry<K, V> next( )
+		{
+			if( !pendiente )
+			{
+				throw new NoSuchElementException( );
+			}
+			Entry<K, V> entry = new Entry<>( cursor.key( ), cursor.value( ) );
+			pendiente = cursor.advance( );
+			return entry;
+		}
+	}
+	
+	/**
+	 * Posiciona el cursor en la siguiente entrada de la HashTable
+	 *
+	 * @return True si el cursor quedo posicionado en una entrada, False si ya no hay mas entradas
+	 */
+	public boolean advance( );
+	
+	/**
+	 * Retorna la llave de la entrada actual
+	 *
+	 * @return Llave de la entrada actual
+	 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+	 */
+	public K key( );
+	
+	/**
+	 * Reinicia el cursor para recorrer de nuevo la HashTable desde el inicio
+	 */
+	public void reset( );
+	
+	/**
+	 * Retorna el valor de la entrada actual
+	 *
+	 * @return Valor de la entrada actual
+	 * @throws NoSuchElementException Si el cursor no esta posicionado en una entrada
+	 */
+	public V value( );
+}
\ No newline at end of file
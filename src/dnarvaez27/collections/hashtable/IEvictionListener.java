@@ -0,0 +1,23 @@
+package dnarvaez27.collections.hashtable;
+
+/**
+ * Interface que define el receptor de las entradas expulsadas de una {@link CacheTable}<br>
+ * Se notifica cada entrada que sale de la cache por falta de capacidad, incluyendo las entradas nuevas que la politica
+ * de admision rechaza. Las entradas eliminadas explicitamente ({@link CacheTable#delete(Object)}, {@link CacheTable#clear()})
+ * no se notifican
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+public interface IEvictionListener<K, V>
+{
+	/**
+	 * Notifica que la entrada dada fue expulsada de la cache<br>
+	 * Se llama despues de retirar la entrada, y no debe modificar la cache
+	 *
+	 * @param key Llave de la entrada expulsada
+	 * @param value Valor de la entrada expulsada
+	 */
+	public void onEviction( K key, V value );
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package dnarvaez27.collections.hashtable;
+
+import dnarvaez27.collections.ICollection;
+
+/**
+ * Interface que modela un conjunto de elementos unicos basado en Hash<br>
+ * Las operaciones de conjuntos ({@link #addAll(Iterable)}, {@link #removeAll(Iterable)} y {@link #retainAll(IHashSet)})
+ * modifican el conjunto en lugar de crear uno nuevo. No se permiten elementos null
+ *
+ * @author dnarvaez27
+ * @param <T> Tipo de los elementos del conjunto
+ */
+public interface IHashSet<T> extends ICollection, Iterable<T>
+{
+	/**
+	 * Agrega el elemento dado al conjunto
+	 *
+	 * @param element Elemento a agregar
+	 * @return True si el elemento no estaba en el conjunto, False de lo contrario
+	 * @throws NullPointerException Si el elemento es null
+	 */
+	public boolean add( T element );
+	
+	/**
+	 * Agrega al conjunto todos los elementos dados (union)
+	 *
+	 * @param elements Elementos a agregar
+	 * @return True si se agrego algun elemento, False si ya estaban todos
+	 */
+	public boolean addAll( Iterable<? extends T> elements );
+	
+	/**
+	 * Verifica si el elemento dado se encuentra en el conjunto
+	 *
+	 * @param element Elemento a buscar
+	 * @return True si el elemento se encuentra, False de lo contrario
+	 */
+	public boolean contains( T element );
+	
+	/**
+	 * Elimina el elemento dado del conjunto
+	 *
+	 * @param element Elemento a eliminar
+	 * @return True si el elemento estaba en el conjunto, False de lo contrario
+	 */
+	public boolean remove( T element );
+	
+	/**
+	 * Elimina del conjunto todos los elementos dados (diferencia)
+	 *
+	 * @param elements Elementos a eliminar
+	 * @return True si se elimino algun elemento, False de lo contrario
+	 */
+	public boolean removeAll( Iterable<? extends T> elements );
+	
+	/**
+	 * Elimina del conjunto los elementos que no se encuentran en el conjunto dado (interseccion)
+	 *
+	 * @param elements Conjunto con los elementos a conservar
+	 * @return True si se elimino algun elemento, False de lo contrario
+	 */
+	public boolean retainAll( IHashSet<? super T> elements );
+	
+	@Override
+	public int size( );
+	
+	@Override
+	public String toString( );
+}
\ No newline at end of file
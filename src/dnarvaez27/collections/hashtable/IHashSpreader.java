@@ -0,0 +1,70 @@
+package dnarvaez27.collections.hashtable;
+
+/**
+ * Interface que define la funcion que dispersa los bits del HashCode de una llave<br>
+ * Como las HashTables indexan con los bits bajos del hash (el tamaño del arreglo es una potencia de dos),
+ * la funcion debe mezclar los bits altos en los bajos para que llaves secuenciales o con poca entropia no formen clusters
+ *
+ * @author dnarvaez27
+ */
+public interface IHashSpreader
+{
+	/**
+	 * Funcion que no modifica el HashCode
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Identity implements IHashSpreader
+	{
+		@Override
+		public int spread( int hashCode )
+		{
+			return hashCode;
+		}
+	}
+	
+	/**
+	 * Finalizador de MurmurHash3 (fmix32)<br>
+	 * Cada bit de entrada afecta a todos los bits de salida, por lo que es la opcion recomendada para llaves con poca entropia
+	 * o distribuciones adversas
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Murmur3 implements IHashSpreader
+	{
+		@Override
+		public int spread( int hashCode )
+		{
+			int h = hashCode;
+			h ^= h >>> 16;
+			h *= 0x85EBCA6B;
+			h ^= h >>> 13;
+			h *= 0xC2B2AE35;
+			h ^= h >>> 16;
+			return h;
+		}
+	}
+	
+	/**
+	 * Funcion que combina los 16 bits altos con los 16 bits bajos. Es la funcion por defecto<br>
+	 * Es mas economica que {@link Murmur3} pero no mezcla los bits bajos entre si
+	 *
+	 * @author dnarvaez27
+	 */
+	public class Xor implements IHashSpreader
+	{
+		@Override
+		public int spread( int hashCode )
+		{
+			return hashCode ^ ( hashCode >>> 16 );
+		}
+	}
+	
+	/**
+	 * Retorna el hash disperso del HashCode dado por parametro
+	 *
+	 * @param hashCode HashCode de la llave
+	 * @return Hash disperso
+	 */
+	public int spread( int hashCode );
+}
\ No newline at end of file
@@ -1,17 +1,52 @@
 package dnarvaez27.collections.hashtable;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 import dnarvaez27.collections.ICollection;
 import dnarvaez27.collections.elements.Entry;
 
 /**
- * Interface que constituye las funciones basicas de una HashTable
+ * Interface que constituye las funciones basicas de una HashTable<br>
+ * La HashTable es Iterable sobre sus entradas: el iterador recorre directamente la estructura, sin copiarla<br>
+ * Las operaciones {@link #compute(Object, BiFunction)}, {@link #computeIfAbsent(Object, Function)}, {@link #merge(Object, Object, BiFunction)}
+ * y {@link #putIfAbsent(Object, Object)} consultan y modifican la entrada de la llave recorriendo una sola vez su secuencia de prueba.
+ * En ellas una llave asociada a null se considera ausente, y las funciones dadas no deben modificar la HashTable
  *
  * @author dnarvaez27
  * @param <K> Tipo de las llaves
  * @param <V> Tipo de los valores
  */
-public interface IHashTable<K, V> extends ICollection
+public interface IHashTable<K, V> extends ICollection, Iterable<Entry<K, V>>
 {
+	/**
+	 * Calcula el nuevo valor de la llave a partir de su valor actual<br>
+	 * Si el nuevo valor es null, la entrada se elimina
+	 *
+	 * @param key Llave de la entrada
+	 * @param funcion Funcion que recibe la llave y su valor actual (null si no existe) y retorna el nuevo valor
+	 * @return Nuevo valor de la llave, null si no quedo asociada a ningun valor
+	 */
+	public V compute( K key, BiFunction<? super K, ? super V, ? extends V> funcion );
+	
+	/**
+	 * Si la llave no se encuentra, calcula su valor y lo agrega a la HashTable<br>
+	 * Si el valor calculado es null, no se agrega ninguna entrada
+	 *
+	 * @param key Llave de la entrada
+	 * @param funcion Funcion que recibe la llave y retorna su valor
+	 * @return Valor actual de la llave, o el valor calculado si no existia
+	 */
+	public V computeIfAbsent( K key, Function<? super K, ? extends V> funcion );
+	
+	/**
+	 * Retorna un cursor sobre las entradas de la HashTable<br>
+	 * El cursor recorre directamente la estructura, sin copiar las entradas, y se puede reutilizar con {@link ICursor#reset()}
+	 *
+	 * @return Cursor posicionado antes de la primera entrada
+	 */
+	public ICursor<K, V> cursor( );
+	
 	/**
 	 * Elimina y retorna el elemento asociado a la llave dada por parametro
 	 *
@@ -28,6 +63,25 @@ public interface IHashTable<K, V> extends ICollection
 	 */
 	public V get( K key );
 	
+	/**
+	 * Busca un lote de llaves y deja en out[ i ] el valor asociado a keys[ i ]<br>
+	 * Los hash del lote se calculan primero y las busquedas se pueden realizar en un orden distinto al del lote
+	 *
+	 * @param keys Llaves a buscar
+	 * @param out Arreglo donde se dejan los valores, null para las llaves que no se encuentran
+	 * @throws IllegalArgumentException Si los arreglos no tienen la misma longitud
+	 */
+	public void getAll( K[ ] keys, V[ ] out );
+	
+	/**
+	 * Retorna el elemento asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento en interés
+	 * @param defaultValue Valor a retornar si la llave no corresponde a ningun valor
+	 * @return Valor asociado a la llave, o el valor por defecto
+	 */
+	public V getOrDefault( K key, V defaultValue );
+	
 	/**
 	 * Verifica si la HashTable esta vacia o no
 	 *
@@ -35,6 +89,18 @@ public interface IHashTable<K, V> extends ICollection
 	 */
 	public boolean isEmpty( );
 	
+	/**
+	 * Si la llave no se encuentra, le asocia el valor dado. De lo contrario combina su valor actual con el valor dado<br>
+	 * Si el valor combinado es null, la entrada se elimina
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor a asociar o combinar, no puede ser null
+	 * @param funcion Funcion que recibe el valor actual y el valor dado y retorna el nuevo valor
+	 * @return Nuevo valor de la llave, null si no quedo asociada a ningun valor
+	 * @throws NullPointerException Si el valor es null
+	 */
+	public V merge( K key, V value, BiFunction<? super V, ? super V, ? extends V> funcion );
+	
 	/**
 	 * Agrega un elemento a la HashTable<br>
 	 * Si ya existia una llave igual se sobreescribe el valor del elemento
@@ -45,6 +111,26 @@ public interface IHashTable<K, V> extends ICollection
 	 */
 	public V put( K key, V value );
 	
+	/**
+	 * Agrega un lote de entradas a la HashTable, asociando keys[ i ] con values[ i ]<br>
+	 * Se reserva la capacidad para todo el lote antes de agregarlo, por lo que se realiza a lo sumo un rehash.
+	 * Si una llave se repite en el lote, queda asociada al ultimo de sus valores
+	 *
+	 * @param keys Llaves de las entradas
+	 * @param values Valores de las entradas
+	 * @throws IllegalArgumentException Si los arreglos no tienen la misma longitud
+	 */
+	public void putAll( K[ ] keys, V[ ] values );
+	
+	/**
+	 * Agrega un elemento a la HashTable solo si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento a almacenar
+	 * @param value Valor a almacenar
+	 * @return El valor actual de la llave, null si no existia y se agrego el valor dado
+	 */
+	public V putIfAbsent( K key, V value );
+	
 	/**
 	 * Retorna el número de elementos de la HashTable
 	 *
@@ -53,7 +139,9 @@ public interface IHashTable<K, V> extends ICollection
 	public int size( );
 	
 	/**
-	 * Retorna un Iterable de las entradas de la HashTable
+	 * Retorna un Iterable de las entradas de la HashTable<br>
+	 * Las entradas se copian a una nueva coleccion. Para recorrer la HashTable sin copiarla se debe usar
+	 * {@link #iterator()} o {@link #cursor()}
 	 * 
 	 * @return Iterable de las entradas de la HashTable
 	 */
@@ -0,0 +1,22 @@
+package dnarvaez27.collections.hashtable;
+
+/**
+ * Interface que define el peso de las entradas de una {@link CacheTable}<br>
+ * La cache expulsa entradas cuando la suma de los pesos supera su peso maximo. Sin un IWeigher cada entrada pesa 1,
+ * por lo que el peso maximo es el numero maximo de entradas
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+public interface IWeigher<K, V>
+{
+	/**
+	 * Retorna el peso de la entrada dada. El peso se calcula al agregar la entrada y cada vez que se reemplaza su valor
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return Peso de la entrada, no puede ser negativo
+	 */
+	public int weigh( K key, V value );
+}
\ No newline at end of file
@@ -0,0 +1,952 @@
+package dnarvaez27.collections.hashtable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.exceptions.IllegalOperationException;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable persistente (inmutable), implementada como un Hash Array Mapped Trie<br>
+ * Cada nivel del trie consume 5 bits del hash de la llave, y cada nodo guarda un mapa de bits con las posiciones ocupadas
+ * y un arreglo compacto con solo esas posiciones, por lo que el trie tiene a lo sumo 7 niveles y las operaciones son O(log32 n).
+ * Las llaves con el mismo hash se guardan en un nodo de colision<br>
+ * {@link #put(Object, Object)} y {@link #delete(Object)} no modifican la HashTable: retornan una nueva version que comparte con
+ * la anterior todos los nodos que no cambiaron, copiando solo el camino desde la raiz hasta la llave. Por esto cada version es
+ * una instantanea consistente que se puede compartir entre hilos sin copiarla ni sincronizarla<br>
+ * Para construir una HashTable con muchas entradas se debe usar {@link #asTransient()}: la version transitoria modifica en sitio
+ * los nodos que ella misma creo, y {@link Transient#persistent()} la convierte en una version persistente en O(1)<br>
+ * No se permiten llaves null
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class PersistentHashTable<K, V> implements Iterable<Entry<K, V>>
+{
+	/**
+	 * Version transitoria de una PersistentHashTable<br>
+	 * Se modifica en sitio, como una HashTable normal, y no comparte con las versiones persistentes los nodos que modifica.
+	 * No es segura para el uso desde multiples hilos. Despues de {@link #persistent()} ya no se puede usar
+	 *
+	 * @author dnarvaez27
+	 * @param <K> Tipo de las llaves
+	 * @param <V> Tipo de los valores
+	 */
+	public static class Transient<K, V>
+	{
+		/**
+		 * Edicion de la version transitoria. Los nodos creados con esta edicion se modifican en sitio
+		 */
+		private Edicion edicion;
+		
+		/**
+		 * Raiz del trie, null si esta vacio
+		 */
+		private Nodo raiz;
+		
+		/**
+		 * Cantidad de entradas
+		 */
+		private int size;
+		
+		/**
+		 * Construye una version transitoria a partir del trie dado
+		 *
+		 * @param raiz Raiz del trie
+		 * @param size Cantidad de entradas del trie
+		 */
+		private Transient( Nodo raiz, int size )
+		{
+			this.edicion = new Edicion( );
+			this.raiz = raiz;
+			this.size = size;
+		}
+		
+		/**
+		 * Elimina la entrada asociada a la llave dada por parametro
+		 *
+		 * @param key Llave de la entrada a eliminar
+		 * @return Valor eliminado, null si la llave no se encontraba
+		 * @throws IllegalOperationException Si la version ya se convirtio en persistente
+		 */
+		public V delete( K key )
+		{
+			verificarEdicion( );
+			if( raiz == null )
+			{
+				return null;
+			}
+			Resultado resultado = new Resultado( );
+			raiz = raiz.eliminar( edicion, 0, dispersar( key ), key, resultado );
+			if( resultado.encontrado )
+			{
+				size--;
+			}
+			return ( V ) resultado.anterior;
+		}
+		
+		/**
+		 * Retorna el valor asociado a la llave dada por parametro
+		 *
+		 * @param key Llave del elemento en interés
+		 * @return Valor asociado a la llave, null si la llave no se encuentra
+		 * @throws IllegalOperationException Si la version ya se convirtio en persistente
+		 */
+		public V get( K key )
+		{
+			verificarEdicion( );
+			return valor( raiz, key );
+		}
+		
+		/**
+		 * Convierte la version transitoria en una version persistente en O(1)<br>
+		 * Despues de esto la version transitoria ya no se puede usar, por lo que sus nodos no vuelven a cambiar
+		 *
+		 * @return Version persistente con las entradas de la version transitoria
+		 * @throws IllegalOperationException Si la version ya se convirtio en persistente
+		 */
+		public PersistentHashTable<K, V> persistent( )
+		{
+			verificarEdicion( );
+			edicion = null;
+			return new PersistentHashTable<>( raiz, size );
+		}
+		
+		/**
+		 * Agrega una entrada, sobreescribiendo el valor si la llave ya existia
+		 *
+		 * @param key Llave de la entrada
+		 * @param value Valor de la entrada
+		 * @return El valor anterior de la llave, null si no existia
+		 * @throws IllegalOperationException Si la version ya se convirtio en persistente
+		 */
+		public V put( K key, V value )
+		{
+			verificarEdicion( );
+			Resultado resultado = new Resultado( );
+			raiz = agregar( raiz, edicion, key, value, resultado );
+			if( !resultado.encontrado )
+			{
+				size++;
+			}
+			return ( V ) resultado.anterior;
+		}
+		
+		/**
+		 * Retorna la cantidad de entradas
+		 *
+		 * @return Cantidad de entradas
+		 */
+		public int size( )
+		{
+			return size;
+		}
+		
+		/**
+		 * Verifica que la version transitoria aun se pueda usar
+		 *
+		 * @throws IllegalOperationException Si la version ya se convirtio en persistente
+		 */
+		private void verificarEdicion( )
+		{
+			if( edicion == null )
+			{
+				throw new IllegalOperationException( "The transient was already made persistent" );
+			}
+		}
+	}
+	
+	/**
+	 * Marca de la version transitoria que creo un nodo. Solo se compara por identidad
+	 *
+	 * @author dnarvaez27
+	 */
+	private static final class Edicion
+	{
+	}
+	
+	/**
+	 * Resultado de agregar o eliminar una llave en el trie
+	 *
+	 * @author dnarvaez27
+	 */
+	private static final class Resultado
+	{
+		/**
+		 * Establece si la llave se encontraba en el trie
+		 */
+		private boolean encontrado;
+		
+		/**
+		 * Valor anterior de la llave, null si no se encontraba
+		 */
+		private Object anterior;
+	}
+	
+	/**
+	 * Nodo del trie<br>
+	 * El arreglo guarda pares consecutivos llave-valor. En un nodo de mapa de bits, un par con llave null representa un subnodo,
+	 * guardado en la posicion del valor
+	 *
+	 * @author dnarvaez27
+	 */
+	private static abstract class Nodo
+	{
+		/**
+		 * Edicion de la version transitoria que creo el nodo, null si el nodo es persistente
+		 */
+		protected final Edicion edicion;
+		
+		/**
+		 * Pares llave-valor del nodo. Puede tener posiciones libres al final
+		 */
+		protected Object[ ] arreglo;
+		
+		/**
+		 * Construye un nodo con la edicion y el arreglo dados
+		 *
+		 * @param edicion Edicion que crea el nodo
+		 * @param arreglo Pares llave-valor del nodo
+		 */
+		protected Nodo( Edicion edicion, Object[ ] arreglo )
+		{
+			this.edicion = edicion;
+			this.arreglo = arreglo;
+		}
+		
+		/**
+		 * Agrega la entrada dada al subtrie de este nodo
+		 *
+		 * @param edicion Edicion que realiza la operacion, null si es persistente
+		 * @param nivel Desplazamiento del hash en este nivel
+		 * @param hash Hash de la llave
+		 * @param key Llave de la entrada
+		 * @param value Valor de la entrada
+		 * @param resultado Resultado de la operacion
+		 * @return Nodo que reemplaza a este, el mismo nodo si no hubo cambios o se modifico en sitio
+		 */
+		protected abstract Nodo agregar( Edicion edicion, int nivel, int hash, Object key, Object value, Resultado resultado );
+		
+		/**
+		 * Busca la llave dada en el subtrie de este nodo
+		 *
+		 * @param nivel Desplazamiento del hash en este nivel
+		 * @param hash Hash de la llave
+		 * @param key Llave a buscar
+		 * @return Valor de la llave, {@link PersistentHashTable#AUSENTE} si la llave no se encuentra
+		 */
+		protected abstract Object buscar( int nivel, int hash, Object key );
+		
+		/**
+		 * Elimina la llave dada del subtrie de este nodo
+		 *
+		 * @param edicion Edicion que realiza la operacion, null si es persistente
+		 * @param nivel Desplazamiento del hash en este nivel
+		 * @param hash Hash de la llave
+		 * @param key Llave a eliminar
+		 * @param resultado Resultado de la operacion
+		 * @return Nodo que reemplaza a este, null si quedo vacio
+		 */
+		protected abstract Nodo eliminar( Edicion edicion, int nivel, int hash, Object key, Resultado resultado );
+		
+		/**
+		 * Retorna la cantidad de pares del nodo
+		 *
+		 * @return Cantidad de pares del nodo
+		 */
+		protected abstract int pares( );
+		
+		/**
+		 * Verifica si el nodo fue creado por la edicion dada, en cuyo caso se puede modificar en sitio
+		 *
+		 * @param edicion Edicion que realiza la operacion
+		 * @return True si el nodo se puede modificar en sitio
+		 */
+		protected boolean propio( Edicion edicion )
+		{
+			return ( edicion != null ) && ( this.edicion == edicion );
+		}
+	}
+	
+	/**
+	 * Nodo con un mapa de bits de 32 posiciones, una por cada valor de los 5 bits del hash en su nivel
+	 *
+	 * @author dnarvaez27
+	 */
+	private static final class NodoMapa extends Nodo
+	{
+		/**
+		 * Mapa de bits de las posiciones ocupadas
+		 */
+		private int mapa;
+		
+		/**
+		 * Construye un nodo de mapa de bits
+		 *
+		 * @param edicion Edicion que crea el nodo
+		 * @param mapa Mapa de bits de las posiciones ocupadas
+		 * @param arreglo Pares del nodo, en el orden de las posiciones ocupadas
+		 */
+		private NodoMapa( Edicion edicion, int mapa, Object[ ] arreglo )
+		{
+			super( edicion, arreglo );
+			this.mapa = mapa;
+		}
+		
+		@Override
+		protected Nodo agregar( Edicion edicion, int nivel, int hash, Object key, Object value, Resultado resultado )
+		{
+			int bit = 1 << ( ( hash >>> nivel ) & MASCARA );
+			int index = 2 * Integer.bitCount( mapa & ( bit - 1 ) );
+			if( ( mapa & bit ) == 0 )
+			{
+				int n = 2 * Integer.bitCount( mapa );
+				if( propio( edicion ) && ( arreglo.length > n ) )
+				{
+					System.arraycopy( arreglo, index, arreglo, index + 2, n - index );
+					arreglo[ index ] = key;
+					arreglo[ index + 1 ] = value;
+					mapa |= bit;
+					return this;
+				}
+				Object[ ] nuevo = new Object[ edicion != null ? n + 8 : n + 2 ];
+				System.arraycopy( arreglo, 0, nuevo, 0, index );
+				nuevo[ index ] = key;
+				nuevo[ index + 1 ] = value;
+				System.arraycopy( arreglo, index, nuevo, index + 2, n - index );
+				return modificar( edicion, mapa | bit, nuevo );
+			}
+			Object llave = arreglo[ index ];
+			Object valor = arreglo[ index + 1 ];
+			if( llave == null )
+			{
+				Nodo nodo = ( ( Nodo ) valor ).agregar( edicion, nivel + BITS, hash, key, value, resultado );
+				return nodo == valor ? this : asignar( edicion, index + 1, null, nodo );
+			}
+			if( llave.equals( key ) )
+			{
+				resultado.encontrado = true;
+				resultado.anterior = valor;
+				return valor == value ? this : asignar( edicion, index + 1, llave, value );
+			}
+			Nodo nodo = dividir( edicion, nivel + BITS, llave, valor, hash, key, value );
+			return asignar( edicion, index, null, nodo );
+		}
+		
+		/**
+		 * Asigna la posicion dada del arreglo y la llave que la precede, en sitio si el nodo es propio de la edicion
+		 *
+		 * @param edicion Edicion que realiza la operacion
+		 * @param index Posicion del valor a asignar
+		 * @param llave Llave del par
+		 * @param valor Valor o subnodo del par
+		 * @return Nodo con la posicion asignada
+		 */
+		private Nodo asignar( Edicion edicion, int index, Object llave, Object valor )
+		{
+			int par = index & ~1;
+			Object[ ] nuevo = propio( edicion ) ? arreglo : copiar( arreglo, 2 * Integer.bitCount( mapa ) );
+			nuevo[ par ] = llave;
+			nuevo[ par + 1 ] = valor;
+			return nuevo == arreglo ? this : new NodoMapa( edicion, mapa, nuevo );
+		}
+		
+		@Override
+		protected Object buscar( int nivel, int hash, Object key )
+		{
+			int bit = 1 << ( ( hash >>> nivel ) & MASCARA );
+			if( ( mapa & bit ) == 0 )
+			{
+				return AUSENTE;
+			}
+			int index = 2 * Integer.bitCount( mapa & ( bit - 1 ) );
+			Object llave = arreglo[ index ];
+			if( llave == null )
+			{
+				return ( ( Nodo ) arreglo[ index + 1 ] ).buscar( nivel + BITS, hash, key );
+			}
+			return llave.equals( key ) ? arreglo[ index + 1 ] : AUSENTE;
+		}
+		
+		@Override
+		protected Nodo eliminar( Edicion edicion, int nivel, int hash, Object key, Resultado resultado )
+		{
+			int bit = 1 << ( ( hash >>> nivel ) & MASCARA );
+			if( ( mapa & bit ) == 0 )
+			{
+				return this;
+			}
+			int index = 2 * Integer.bitCount( mapa & ( bit - 1 ) );
+			Object llave = arreglo[ index ];
+			Object valor = arreglo[ index + 1 ];
+			if( llave == null )
+			{
+				Nodo nodo = ( ( Nodo ) valor ).eliminar( edicion, nivel + BITS, hash, key, resultado );
+				if( nodo == valor )
+				{
+					return this;
+				}
+				if( nodo != null )
+				{
+					return asignar( edicion, index + 1, null, nodo );
+				}
+			}
+			else if( llave.equals( key ) )
+			{
+				resultado.encontrado = true;
+				resultado.anterior = valor;
+			}
+			else
+			{
+				return this;
+			}
+			if( mapa == bit )
+			{
+				return null;
+			}
+			int n = 2 * Integer.bitCount( mapa );
+			if( propio( edicion ) )
+			{
+				System.arraycopy( arreglo, index + 2, arreglo, index, n - index - 2 );
+				arreglo[ n - 2 ] = null;
+				arreglo[ n - 1 ] = null;
+				mapa ^= bit;
+				return this;
+			}
+			Object[ ] nuevo = new Object[ n - 2 ];
+			System.arraycopy( arreglo, 0, nuevo, 0, index );
+			System.arraycopy( arreglo, index + 2, nuevo, index, n - index - 2 );
+			return new NodoMapa( edicion, mapa ^ bit, nuevo );
+		}
+		
+		/**
+		 * Retorna el nodo con el mapa y el arreglo dados, modificando este nodo si es propio de la edicion
+		 *
+		 * @param edicion Edicion que realiza la operacion
+		 * @param mapa Nuevo mapa de bits
+		 * @param nuevo Nuevo arreglo de pares
+		 * @return Nodo con el mapa y el arreglo dados
+		 */
+		private Nodo modificar( Edicion edicion, int mapa, Object[ ] nuevo )
+		{
+			if( propio( edicion ) )
+			{
+				this.mapa = mapa;
+				this.arreglo = nuevo;
+				return this;
+			}
+			return new NodoMapa( edicion, mapa, nuevo );
+		}
+		
+		@Override
+		protected int pares( )
+		{
+			return Integer.bitCount( mapa );
+		}
+	}
+	
+	/**
+	 * Nodo con las entradas cuyas llaves tienen exactamente el mismo hash
+	 *
+	 * @author dnarvaez27
+	 */
+	private static final class NodoColision extends Nodo
+	{
+		/**
+		 * Hash comun de las llaves del nodo
+		 */
+		private final int hash;
+		
+		/**
+		 * Construye un nodo de colision
+		 *
+		 * @param edicion Edicion que crea el nodo
+		 * @param hash Hash comun de las llaves
+		 * @param arreglo Pares del nodo, sin posiciones libres
+		 */
+		private NodoColision( Edicion edicion, int hash, Object[ ] arreglo )
+		{
+			super( edicion, arreglo );
+			this.hash = hash;
+		}
+		
+		@Override
+		protected Nodo agregar( Edicion edicion, int nivel, int hash, Object key, Object value, Resultado resultado )
+		{
+			if( hash != this.hash )
+			{
+				Object[ ] par = new Object[ ]
+				{
+						null,
+						this
+				};
+				return new NodoMapa( edicion, 1 << ( ( this.hash >>> nivel ) & MASCARA ), par ).agregar( edicion, nivel, hash, key, value, resultado );
+			}
+			int index = posicion( key );
+			if( index != -1 )
+			{
+				resultado.encontrado = true;
+				resultado.anterior = arreglo[ index + 1 ];
+				if( arreglo[ index + 1 ] == value )
+				{
+					return this;
+				}
+				Object[ ] nuevo = propio( edicion ) ? arreglo : copiar( arreglo, arreglo.length );
+				nuevo[ index + 1 ] = value;
+				return nuevo == arreglo ? this : new NodoColision( edicion, hash, nuevo );
+			}
+			Object[ ] nuevo = copiar( arreglo, arreglo.length + 2 );
+			nuevo[ arreglo.length ] = key;
+			nuevo[ arreglo.length + 1 ] = value;
+			if( propio( edicion ) )
+			{
+				arreglo = nuevo;
+				return this;
+			}
+			return new NodoColision( edicion, hash, nuevo );
+		}
+		
+		@Override
+		protected Object buscar( int nivel, int hash, Object key )
+		{
+			int index = hash == this.hash ? posicion( key ) : -1;
+			return index != -1 ? arreglo[ index + 1 ] : AUSENTE;
+		}
+		
+		@Override
+		protected Nodo eliminar( Edicion edicion, int nivel, int hash, Object key, Resultado resultado )
+		{
+			int index = hash == this.hash ? posicion( key ) : -1;
+			if( index == -1 )
+			{
+				return this;
+			}
+			resultado.encontrado = true;
+			resultado.anterior = arreglo[ index + 1 ];
+			if( arreglo.length == 2 )
+			{
+				return null;
+			}
+			Object[ ] nuevo = new Object[ arreglo.length - 2 ];
+			System.arraycopy( arreglo, 0, nuevo, 0, index );
+			System.arraycopy( arreglo, index + 2, nuevo, index, arreglo.length - index - 2 );
+			if( propio( edicion ) )
+			{
+				arreglo = nuevo;
+				return this;
+			}
+			return new NodoColision( edicion, hash, nuevo );
+		}
+		
+		@Override
+		protected int pares( )
+		{
+			return arreglo.length / 2;
+		}
+		
+		/**
+		 * Retorna la posicion de la llave dada en el arreglo
+		 *
+		 * @param key Llave a buscar
+		 * @return Posicion de la llave, -1 si no se encuentra
+		 */
+		private int posicion( Object key )
+		{
+			for( int i = 0; i < arreglo.length; i += 2 )
+			{
+				if( arreglo[ i ].equals( key ) )
+				{
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+	
+	/**
+	 * Recorrido en profundidad de los pares del trie
+	 *
+	 * @author dnarvaez27
+	 */
+	private class Recorrido implements Iterator<Entry<K, V>>
+	{
+		/**
+		 * Nodos del camino desde la raiz hasta el nodo actual
+		 */
+		private Nodo[ ] nodos = new Nodo[ PROFUNDIDAD ];
+		
+		/**
+		 * Posicion del siguiente par en cada nodo del camino
+		 */
+		private int[ ] posiciones = new int[ PROFUNDIDAD ];
+		
+		/**
+		 * Nivel del nodo actual en el camino, -1 si el recorrido termino
+		 */
+		private int nivel = -1;
+		
+		/**
+		 * Construye un recorrido posicionado en el primer par del trie
+		 */
+		private Recorrido( )
+		{
+			if( raiz != null )
+			{
+				nivel = 0;
+				nodos[ 0 ] = raiz;
+				avanzar( );
+			}
+		}
+		
+		/**
+		 * Avanza hasta el siguiente par con una llave, bajando por los subnodos y subiendo cuando un nodo se termina
+		 */
+		private void avanzar( )
+		{
+			while( nivel >= 0 )
+			{
+				Nodo nodo = nodos[ nivel ];
+				int posicion = posiciones[ nivel ];
+				if( posicion >= ( 2 * nodo.pares( ) ) )
+				{
+					posiciones[ nivel ] = 0;
+					nivel--;
+				}
+				else if( nodo.arreglo[ posicion ] == null )
+				{
+					posiciones[ nivel ] += 2;
+					nivel++;
+					nodos[ nivel ] = ( Nodo ) nodo.arreglo[ posicion + 1 ];
+				}
+				else
+				{
+					return;
+				}
+			}
+		}
+		
+		@Override
+		public boolean hasNext( )
+		{
+			return nivel >= 0;
+		}
+		
+		@Override
+		public Entry<K, V> next( )
+		{
+			if( nivel < 0 )
+			{
+				throw new NoSuchElementException( );
+			}
+			Object[ ] arreglo = nodos[ nivel ].arreglo;
+			int posicion = posiciones[ nivel ];
+			Entry<K, V> entry = new Entry<>( ( K ) arreglo[ posicion ], ( V ) arreglo[ posicion + 1 ] );
+			posiciones[ nivel ] += 2;
+			avanzar( );
+			return entry;
+		}
+	}
+	
+	/**
+	 * Numero de bits del hash que consume cada nivel del trie
+	 */
+	private static final int BITS = 5;
+	
+	/**
+	 * Mascara de los bits de un nivel
+	 */
+	private static final int MASCARA = ( 1 << BITS ) - 1;
+	
+	/**
+	 * Numero maximo de nodos en un camino desde la raiz: 7 niveles de mapa de bits y un nodo de colision
+	 */
+	private static final int PROFUNDIDAD = 8;
+	
+	/**
+	 * Valor que retorna la busqueda cuando la llave no se encuentra, para distinguirla de una llave asociada a null
+	 */
+	private static final Object AUSENTE = new Object( );
+	
+	/**
+	 * Funcion que dispersa los bits del HashCode de las llaves
+	 */
+	private static final IHashSpreader DISPERSOR = new IHashSpreader.Murmur3( );
+	
+	/**
+	 * Raiz del trie, null si la HashTable esta vacia
+	 */
+	private final Nodo raiz;
+	
+	/**
+	 * Cantidad de entradas de la HashTable
+	 */
+	private final int size;
+	
+	/**
+	 * Construye una HashTable persistente vacia
+	 */
+	public PersistentHashTable( )
+	{
+		this( null, 0 );
+	}
+	
+	/**
+	 * Construye una version con el trie dado
+	 *
+	 * @param raiz Raiz del trie
+	 * @param size Cantidad de entradas
+	 */
+	private PersistentHashTable( Nodo raiz, int size )
+	{
+		this.raiz = raiz;
+		this.size = size;
+	}
+	
+	/**
+	 * Agrega la entrada dada al trie con la raiz dada
+	 *
+	 * @param raiz Raiz del trie, null si esta vacio
+	 * @param edicion Edicion que realiza la operacion, null si es persistente
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @param resultado Resultado de la operacion
+	 * @return Nueva raiz del trie
+	 */
+	private static Nodo agregar( Nodo raiz, Edicion edicion, Object key, Object value, Resultado resultado )
+	{
+		int hash = dispersar( key );
+		if( raiz == null )
+		{
+			raiz = new NodoMapa( edicion, 0, new Object[ 0 ] );
+		}
+		return raiz.agregar( edicion, 0, hash, key, value, resultado );
+	}
+	
+	/**
+	 * Retorna una version transitoria con las entradas de esta version, para realizar muchas modificaciones en sitio.
+	 * Esta version no se modifica
+	 *
+	 * @return Version transitoria
+	 */
+	public Transient<K, V> asTransient( )
+	{
+		return new Transient<>( raiz, size );
+	}
+	
+	/**
+	 * Verifica si la llave dada se encuentra en la HashTable
+	 *
+	 * @param key Llave de interes
+	 * @return True si la llave se encuentra, False de lo contrario
+	 */
+	public boolean containsKey( K key )
+	{
+		return ( raiz != null ) && ( raiz.buscar( 0, dispersar( key ), key ) != AUSENTE );
+	}
+	
+	/**
+	 * Retorna una copia del arreglo dado con la longitud dada
+	 *
+	 * @param arreglo Arreglo a copiar
+	 * @param longitud Longitud de la copia
+	 * @return Copia del arreglo
+	 */
+	private static Object[ ] copiar( Object[ ] arreglo, int longitud )
+	{
+		Object[ ] copia = new Object[ longitud ];
+		System.arraycopy( arreglo, 0, copia, 0, Math.min( longitud, arreglo.length ) );
+		return copia;
+	}
+	
+	/**
+	 * Retorna una version sin la llave dada. Esta version no se modifica
+	 *
+	 * @param key Llave a eliminar
+	 * @return Nueva version sin la llave, esta misma version si la llave no se encontraba
+	 */
+	public PersistentHashTable<K, V> delete( K key )
+	{
+		if( raiz == null )
+		{
+			return this;
+		}
+		Resultado resultado = new Resultado( );
+		Nodo nueva = raiz.eliminar( null, 0, dispersar( key ), key, resultado );
+		return resultado.encontrado ? new PersistentHashTable<>( nueva, size - 1 ) : this;
+	}
+	
+	/**
+	 * Retorna el hash disperso de la llave dada por parametro
+	 *
+	 * @param key Llave
+	 * @return Hash disperso de la llave
+	 * @throws NullPointerException Si la llave es null
+	 */
+	private static int dispersar( Object key )
+	{
+		if( key == null )
+		{
+			throw new NullPointerException( "La llave no puede ser null" );
+		}
+		return DISPERSOR.spread( key.hashCode( ) );
+	}
+	
+	/**
+	 * Crea el subtrie que contiene las dos entradas dadas, cuyas llaves coinciden en los niveles anteriores
+	 *
+	 * @param edicion Edicion que realiza la operacion
+	 * @param nivel Desplazamiento del hash en el nivel del subtrie
+	 * @param llave Llave de la entrada existente
+	 * @param valor Valor de la entrada existente
+	 * @param hash Hash de la llave nueva
+	 * @param key Llave nueva
+	 * @param value Valor nuevo
+	 * @return Raiz del subtrie
+	 */
+	private static Nodo dividir( Edicion edicion, int nivel, Object llave, Object valor, int hash, Object key, Object value )
+	{
+		int hashLlave = dispersar( llave );
+		if( hashLlave == hash )
+		{
+			return new NodoColision( edicion, hash, new Object[ ]
+			{
+					llave,
+					valor,
+					key,
+					value
+			} );
+		}
+		Resultado resultado = new Resultado( );
+		Nodo nodo = new NodoMapa( edicion, 0, new Object[ 0 ] );
+		nodo = nodo.agregar( edicion, nivel, hashLlave, llave, valor, resultado );
+		return nodo.agregar( edicion, nivel, hash, key, value, resultado );
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la HashTable
+	 *
+	 * @return Lista con las entradas de la HashTable
+	 */
+	public DoubleLinkedList<Entry<K, V>> entries( )
+	{
+		DoubleLinkedList<Entry<K, V>> list = new DoubleLinkedList<>( );
+		for( Entry<K, V> entry : this )
+		{
+			list.add( entry );
+		}
+		return list;
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro
+	 *
+	 * @param key Llave del elemento en interés
+	 * @return Valor asociado a la llave, null si la llave no se encuentra
+	 */
+	public V get( K key )
+	{
+		return valor( raiz, key );
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento en interés
+	 * @param defaultValue Valor a retornar si la llave no se encuentra
+	 * @return Valor asociado a la llave, o el valor por defecto
+	 */
+	public V getOrDefault( K key, V defaultValue )
+	{
+		V value = get( key );
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Verifica si la HashTable esta vacia o no
+	 *
+	 * @return True si la HashTable esta vacia, False de lo contrario
+	 */
+	public boolean isEmpty( )
+	{
+		return size == 0;
+	}
+	
+	/**
+	 * Retorna un iterador sobre las entradas de esta version. Se crea una {@link Entry} por cada entrada recorrida
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator( )
+	{
+		return new Recorrido( );
+	}
+	
+	/**
+	 * Retorna una version con la entrada dada. Si la llave ya existia se sobreescribe su valor. Esta version no se modifica
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return Nueva version con la entrada, esta misma version si la llave ya tenia ese valor
+	 */
+	public PersistentHashTable<K, V> put( K key, V value )
+	{
+		Resultado resultado = new Resultado( );
+		Nodo nueva = agregar( raiz, null, key, value, resultado );
+		if( nueva == raiz )
+		{
+			return this;
+		}
+		return new PersistentHashTable<>( nueva, resultado.encontrado ? size : size + 1 );
+	}
+	
+	/**
+	 * Retorna el número de elementos de la HashTable
+	 *
+	 * @return Numero de elementos de la HashTable
+	 */
+	public int size( )
+	{
+		return size;
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * Las entradas se representan como <i>llave:valor</i> en el orden del trie
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		Iterator<Entry<K, V>> iterator = iterator( );
+		while( iterator.hasNext( ) )
+		{
+			sBuilder.append( iterator.next( ) );
+			if( iterator.hasNext( ) )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+	
+	/**
+	 * Retorna el valor de la llave dada en el trie con la raiz dada
+	 *
+	 * @param raiz Raiz del trie, null si esta vacio
+	 * @param key Llave a buscar
+	 * @return Valor de la llave, null si no se encuentra
+	 */
+	private static <V> V valor( Nodo raiz, Object key )
+	{
+		int hash = dispersar( key );
+		if( raiz == null )
+		{
+			return null;
+		}
+		Object value = raiz.buscar( 0, hash, key );
+		return value != AUSENTE ? ( V ) value : null;
+	}
+}
\ No newline at end of file
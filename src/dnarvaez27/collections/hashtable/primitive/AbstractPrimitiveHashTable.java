@@ -0,0 +1,209 @@
+package dnarvaez27.collections.hashtable.primitive;
+
+import dnarvaez27.collections.ICollection;
+import dnarvaez27.collections.hashtable.ICapacityPolicy;
+
+/**
+ * Clase abstracta que define las funcionalidades en común de las HashTables con llaves o valores primitivos<br>
+ * Las entradas se almacenan en arreglos primitivos paralelos con LinearProbing, por lo que las operaciones
+ * no crean objetos. El tamaño de los arreglos es siempre una potencia de dos
+ *
+ * @author dnarvaez27
+ */
+public abstract class AbstractPrimitiveHashTable implements ICollection
+{
+	/**
+	 * Factor de Carga de la HashTable
+	 */
+	protected float loadFactor;
+	
+	/**
+	 * Cantidad de elementos de la HashTable
+	 */
+	protected int size;
+	
+	/**
+	 * Mascara para obtener el indice de un hash. Es el tamaño de los arreglos menos uno
+	 */
+	protected int mascara;
+	
+	/**
+	 * Politica de capacidad que define el tamaño de los arreglos al crecer o ajustarse
+	 */
+	protected ICapacityPolicy capacityPolicy;
+	
+	private int capacidad;
+	
+	/**
+	 * Inicializa la capacidad y el factor de carga de la HashTable
+	 *
+	 * @param capacidad Capacidad inicial de los arreglos, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de Carga que se asignara al HashTable
+	 */
+	public AbstractPrimitiveHashTable( int capacidad, float loadFactor )
+	{
+		this.capacidad = tamanoArreglo( capacidad );
+		this.loadFactor = loadFactor;
+		this.capacityPolicy = new ICapacityPolicy.Geometric( );
+	}
+	
+	/**
+	 * Retorna la capacidad minima de los arreglos para contener el numero de elementos dado sin superar el factor de carga
+	 *
+	 * @param elementos Numero de elementos a contener
+	 * @return Capacidad minima de los arreglos
+	 */
+	protected int capacidadPara( int elementos )
+	{
+		return Math.max( 1, ( int ) Math.ceil( elementos / ( double ) loadFactor ) );
+	}
+	
+	/**
+	 * Retorna la capacidad actual de los arreglos que implementan la HashTable
+	 *
+	 * @return Capacidad actual de los arreglos
+	 */
+	public int capacity( )
+	{
+		return mascara + 1;
+	}
+	
+	@Override
+	public void clear( )
+	{
+		size = 0;
+		inicializar( capacidad );
+	}
+	
+	/**
+	 * Incrementa la capacidad de los arreglos segun la politica de capacidad
+	 */
+	protected void crecer( )
+	{
+		rehash( tamanoArreglo( capacityPolicy.grow( capacity( ), capacidadPara( size + 1 ) ) ) );
+	}
+	
+	/**
+	 * Asegura que la HashTable pueda contener el numero de elementos dado sin realizar rehash
+	 *
+	 * @param elementos Numero de elementos que se espera contener
+	 */
+	public void ensureCapacity( int elementos )
+	{
+		int requerida = capacidadPara( elementos );
+		if( requerida > capacity( ) )
+		{
+			rehash( tamanoArreglo( capacityPolicy.fit( requerida ) ) );
+		}
+	}
+	
+	/**
+	 * Retorna la politica de capacidad de la HashTable
+	 *
+	 * @return Politica de capacidad
+	 */
+	public ICapacityPolicy getCapacityPolicy( )
+	{
+		return capacityPolicy;
+	}
+	
+	/**
+	 * Crea los arreglos vacios de la HashTable con la capacidad dada y actualiza la mascara
+	 *
+	 * @param capacidad Capacidad de los arreglos, potencia de dos
+	 */
+	protected abstract void inicializar( int capacidad );
+	
+	@Override
+	public boolean isEmpty( )
+	{
+		return size == 0;
+	}
+	
+	/**
+	 * Retorna el hash disperso de una llave entera
+	 *
+	 * @param key Llave
+	 * @return Hash disperso de la llave
+	 */
+	protected static int mezclar( int key )
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+	
+	/**
+	 * Retorna el hash disperso de una llave larga
+	 *
+	 * @param key Llave
+	 * @return Hash disperso de la llave
+	 */
+	protected static int mezclar( long key )
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		h ^= h >>> 32;
+		return ( int ) ( h ^ ( h >>> 16 ) );
+	}
+	
+	/**
+	 * Reduce la capacidad de los arreglos si la politica de capacidad lo indica
+	 */
+	protected void reducir( )
+	{
+		int nuevaCapacidad = tamanoArreglo( capacityPolicy.shrink( capacity( ), capacidadPara( size ) ) );
+		if( nuevaCapacidad < capacity( ) )
+		{
+			rehash( nuevaCapacidad );
+		}
+	}
+	
+	/**
+	 * Realiza un rehash de la HashTable, reubicando las entradas en arreglos de la capacidad dada
+	 *
+	 * @param nuevaCapacidad Capacidad de los nuevos arreglos, potencia de dos. Debe poder contener todos los elementos
+	 */
+	protected abstract void rehash( int nuevaCapacidad );
+	
+	/**
+	 * Establece la politica de capacidad de la HashTable
+	 *
+	 * @param capacityPolicy Nueva politica de capacidad
+	 */
+	public void setCapacityPolicy( ICapacityPolicy capacityPolicy )
+	{
+		if( capacityPolicy == null )
+		{
+			throw new NullPointerException( "The policy cannot be null" );
+		}
+		this.capacityPolicy = capacityPolicy;
+	}
+	
+	@Override
+	public int size( )
+	{
+		return size;
+	}
+	
+	/**
+	 * Retorna el tamaño de arreglo valido para la capacidad dada: la menor potencia de dos mayor o igual a esta
+	 *
+	 * @param capacidad Capacidad deseada
+	 * @return Potencia de dos mayor o igual a la capacidad, al menos 2
+	 */
+	protected static int tamanoArreglo( int capacidad )
+	{
+		return ICapacityPolicy.Geometric.potencia( Math.max( 2, capacidad ) );
+	}
+	
+	/**
+	 * Reduce la capacidad de los arreglos al minimo que permite la politica de capacidad para los elementos actuales
+	 */
+	public void trimToSize( )
+	{
+		int nuevaCapacidad = tamanoArreglo( capacityPolicy.fit( capacidadPara( size + 1 ) ) );
+		if( nuevaCapacidad < capacity( ) )
+		{
+			rehash( nuevaCapacidad );
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+package dnarvaez27.collections.hashtable.primitive;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable con llaves de tipo <i>int</i> y valores de tipo <i>V</i><br>
+ * Las llaves y los valores se almacenan en arreglos primitivos paralelos con LinearProbing, sin objetos por entrada.
+ * La posicion vacia se representa con la llave 0; la entrada de la llave 0, si existe, se almacena por separado,
+ * por lo que cualquier valor de llave es valido
+ *
+ * @author dnarvaez27
+ * @param <V> Tipo de los valores
+ */
+@SuppressWarnings( "unchecked" )
+public class IntObjHashTable<V> extends AbstractPrimitiveHashTable
+{
+	/**
+	 * Tamaño inicial de los arreglos
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Arreglo de llaves. La llave 0 representa una posicion vacia
+	 */
+	private int[ ] llaves;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private Object[ ] valores;
+	
+	/**
+	 * Establece si existe una entrada con la llave 0
+	 */
+	private boolean tieneCero;
+	
+	/**
+	 * Valor asociado a la llave 0
+	 */
+	private V valorCero;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 */
+	public IntObjHashTable( )
+	{
+		this( TAMANO, 0.75f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos
+	 *
+	 * @param capacidad Tamaño de los arreglos, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public IntObjHashTable( int capacidad, float loadFactor )
+	{
+		super( capacidad, loadFactor );
+		inicializar( tamanoArreglo( capacidad ) );
+	}
+	
+	/**
+	 * Para poder usar este metodo la llave debe ser una instancia de {@link Number}
+	 *
+	 * @param values Tupla Llave-valor
+	 * @throws IllegalArgumentException Si el numero de parametros no es el correcto
+	 */
+	@Override
+	public void addElements( Object ... values )
+	{
+		if( values.length != 2 )
+		{
+			throw new IllegalArgumentException( "There must be 2 elements" );
+		}
+		put( ( ( Number ) values[ 0 ] ).intValue( ), ( V ) values[ 1 ] );
+	}
+	
+	/**
+	 * Retorna el indice de la llave en los arreglos
+	 *
+	 * @param key Llave a buscar, diferente de 0
+	 * @return Indice de la llave, o -(indice libre + 1) si la llave no se encuentra
+	 */
+	private int buscar( int key )
+	{
+		int index = mezclar( key ) & mascara;
+		while( llaves[ index ] != 0 )
+		{
+			if( llaves[ index ] == key )
+			{
+				return index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		return -( index + 1 );
+	}
+	
+	/**
+	 * Verifica si la llave dada por parametro se encuentra en la HashTable
+	 *
+	 * @param key Llave de interes
+	 * @return True si la llave se encuentra, False de lo contrario
+	 */
+	public boolean containsKey( int key )
+	{
+		return key == 0 ? tieneCero : buscar( key ) >= 0;
+	}
+	
+	/**
+	 * Elimina la entrada asociada a la llave dada por parametro
+	 *
+	 * @param key Llave de la entrada a eliminar
+	 * @return Valor eliminado, null si la llave no se encontraba
+	 */
+	public V delete( int key )
+	{
+		if( key == 0 )
+		{
+			if( !tieneCero )
+			{
+				return null;
+			}
+			V value = valorCero;
+			tieneCero = false;
+			valorCero = null;
+			size--;
+			return value;
+		}
+		int index = buscar( key );
+		if( index < 0 )
+		{
+			return null;
+		}
+		V value = ( V ) valores[ index ];
+		desplazar( index );
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras las entradas siguientes del cluster que pueden ocuparla
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int index = ( vacio + 1 ) & mascara;
+		while( llaves[ index ] != 0 )
+		{
+			int distanciaInicio = ( index - mezclar( llaves[ index ] ) ) & mascara;
+			int distanciaVacio = ( index - vacio ) & mascara;
+			if( distanciaInicio >= distanciaVacio )
+			{
+				llaves[ vacio ] = llaves[ index ];
+				valores[ vacio ] = valores[ index ];
+				vacio = index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		llaves[ vacio ] = 0;
+		valores[ vacio ] = null;
+	}
+	
+	@Override
+	public Iterable<Entry<Integer, V>> elements( )
+	{
+		return entries( );
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la HashTable<br>
+	 * Este metodo crea objetos por cada entrada, por lo que no se debe usar en operaciones frecuentes
+	 *
+	 * @return Lista con las entradas de la HashTable
+	 */
+	public DoubleLinkedList<Entry<Integer, V>> entries( )
+	{
+		DoubleLinkedList<Entry<Integer, V>> list = new DoubleLinkedList<>( );
+		if( tieneCero )
+		{
+			list.add( new Entry<>( 0, valorCero ) );
+		}
+		for( int i = 0; i < llaves.length; i++ )
+		{
+			if( llaves[ i ] != 0 )
+			{
+				list.add( new Entry<>( llaves[ i ], ( V ) valores[ i ] ) );
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro
+	 *
+	 * @param key Llave del elemento en interés
+	 * @return Valor asociado a la llave, null si la llave no se encuentra
+	 */
+	public V get( int key )
+	{
+		return getOrDefault( key, null );
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento en interés
+	 * @param defaultValue Valor a retornar si la llave no se encuentra
+	 * @return Valor asociado a la llave, o el valor por defecto
+	 */
+	public V getOrDefault( int key, V defaultValue )
+	{
+		if( key == 0 )
+		{
+			return tieneCero ? valorCero : defaultValue;
+		}
+		int index = buscar( key );
+		return index >= 0 ? ( V ) valores[ index ] : defaultValue;
+	}
+	
+	@Override
+	protected void inicializar( int capacidad )
+	{
+		llaves = new int[ capacidad ];
+		valores = new Object[ capacidad ];
+		mascara = capacidad - 1;
+		tieneCero = false;
+	}
+	
+	/**
+	 * Agrega una entrada a la HashTable<br>
+	 * Si ya existia una llave igual se sobreescribe el valor
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return El valor anterior de la llave, null si no existia
+	 */
+	public V put( int key, V value )
+	{
+		if( key == 0 )
+		{
+			V old = tieneCero ? valorCero : null;
+			if( !tieneCero )
+			{
+				tieneCero = true;
+				size++;
+			}
+			valorCero = value;
+			return old;
+		}
+		int index = buscar( key );
+		if( index >= 0 )
+		{
+			V old = ( V ) valores[ index ];
+			valores[ index ] = value;
+			return old;
+		}
+		index = -index - 1;
+		llaves[ index ] = key;
+		valores[ index ] = value;
+		size++;
+		if( ( ( float ) size / ( float ) llaves.length ) > loadFactor )
+		{
+			crecer( );
+		}
+		return null;
+	}
+	
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		int[ ] llavesAnteriores = llaves;
+		Object[ ] valoresAnteriores = valores;
+		boolean cero = tieneCero;
+		inicializar( nuevaCapacidad );
+		tieneCero = cero;
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != 0 )
+			{
+				int index = mezclar( llavesAnteriores[ i ] ) & mascara;
+				while( llaves[ index ] != 0 )
+				{
+					index = ( index + 1 ) & mascara;
+				}
+				llaves[ index ] = llavesAnteriores[ i ];
+				valores[ index ] = valoresAnteriores[ i ];
+			}
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| las posiciones vacias
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * <li>La entrada de la llave 0, si existe, se representa al inicio
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		if( tieneCero )
+		{
+			sBuilder.append( "0:" + valorCero + " | " );
+		}
+		for( int i = 0; i < llaves.length; i++ )
+		{
+			sBuilder.append( llaves[ i ] != 0 ? llaves[ i ] + ":" + valores[ i ] : "|X|" );
+			if( ( i + 1 ) < llaves.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,638 @@
+package dnarvaez27.collections.hashtable.primitive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable con llaves de tipo <i>long</i> y valores de tipo <i>long</i> almacenada fuera del heap,
+ * en un archivo mapeado a memoria<br>
+ * Las posiciones son pares llave-valor de 16 bytes con LinearProbing, precedidos por un encabezado con la capacidad,
+ * el tamaño, la semilla del hash y la entrada de la llave 0. Como el archivo es la tabla misma, reabrirlo no requiere
+ * rehash: las entradas quedan disponibles en cuanto se mapea, y el sistema operativo carga las paginas a medida que se
+ * acceden<br>
+ * Las escrituras se reflejan en el archivo a criterio del sistema operativo; {@link #force()} las lleva al disco de
+ * inmediato. El archivo solo crece, salvo con {@link #trimToSize()} o {@link #clear()}. Esta HashTable no es segura
+ * para el uso concurrente y debe cerrarse con {@link #close()}
+ *
+ * @author dnarvaez27
+ */
+public class MappedLongLongHashTable extends AbstractPrimitiveHashTable implements Closeable
+{
+	/**
+	 * Tamaño inicial de la tabla
+	 */
+	private static final int TAMANO = 1024;
+	
+	/**
+	 * Numero que identifica los archivos de esta HashTable
+	 */
+	private static final long MAGIA = 0x4D4150484153484CL;
+	
+	/**
+	 * Version del formato del archivo
+	 */
+	private static final int VERSION = 1;
+	
+	/**
+	 * Posiciones de los campos del encabezado
+	 */
+	private static final int POS_MAGIA = 0, POS_VERSION = 8, POS_LOAD_FACTOR = 12, POS_CAPACIDAD = 16, POS_TAMANO = 24,
+		POS_SEMILLA = 32, POS_AUSENTE = 40, POS_TIENE_CERO = 48, POS_VALOR_CERO = 56;
+	
+	/**
+	 * Tamaño en bytes del encabezado
+	 */
+	private static final int ENCABEZADO = 64;
+	
+	/**
+	 * Logaritmo del tamaño en bytes de cada region mapeada. Un MappedByteBuffer no puede superar los 2GB
+	 */
+	private static final int BITS_REGION = 30;
+	
+	/**
+	 * Tamaño en bytes de cada region mapeada. Es multiplo de 16, por lo que ninguna posicion queda entre dos regiones
+	 */
+	private static final int REGION = 1 << BITS_REGION;
+	
+	/**
+	 * Archivo de la HashTable
+	 */
+	private Path archivo;
+	
+	/**
+	 * Canal abierto sobre el archivo
+	 */
+	private FileChannel canal;
+	
+	/**
+	 * Regiones mapeadas del archivo, en orden
+	 */
+	private MappedByteBuffer[ ] regiones;
+	
+	/**
+	 * Semilla que se mezcla con las llaves antes de dispersarlas
+	 */
+	private long semilla;
+	
+	/**
+	 * Establece si existe una entrada con la llave 0
+	 */
+	private boolean tieneCero;
+	
+	/**
+	 * Valor asociado a la llave 0
+	 */
+	private long valorCero;
+	
+	/**
+	 * Valor retornado cuando una llave no se encuentra en la HashTable
+	 */
+	private long valorAusente;
+	
+	/**
+	 * Abre la HashTable almacenada en el archivo dado. Las entradas quedan disponibles sin reconstruir la tabla
+	 *
+	 * @param archivo Archivo creado por otra instancia de esta clase
+	 * @throws IOException Si el archivo no existe, no se puede mapear o no contiene una HashTable valida
+	 */
+	public MappedLongLongHashTable( Path archivo ) throws IOException
+	{
+		super( TAMANO, 0.75f );
+		this.archivo = archivo;
+		this.canal = FileChannel.open( archivo, StandardOpenOption.READ, StandardOpenOption.WRITE );
+		try
+		{
+			long bytes = canal.size( );
+			if( bytes < ENCABEZADO )
+			{
+				throw new IOException( "The file is not a mapped hash table" );
+			}
+			this.regiones = mapear( canal, bytes );
+			int capacidad = ( int ) leer( POS_CAPACIDAD );
+			if( ( leer( POS_MAGIA ) != MAGIA ) || ( capacidad <= 0 ) || ( Integer.bitCount( capacidad ) != 1 ) || ( bytes != bytes( capacidad ) ) )
+			{
+				throw new IOException( "The file is not a mapped hash table" );
+			}
+			if( regiones[ 0 ].getInt( POS_VERSION ) != VERSION )
+			{
+				throw new IOException( "Unsupported file version: " + regiones[ 0 ].getInt( POS_VERSION ) );
+			}
+			this.loadFactor = regiones[ 0 ].getFloat( POS_LOAD_FACTOR );
+			this.mascara = capacidad - 1;
+			this.size = ( int ) leer( POS_TAMANO );
+			this.semilla = leer( POS_SEMILLA );
+			this.valorAusente = leer( POS_AUSENTE );
+			this.tieneCero = leer( POS_TIENE_CERO ) != 0;
+			this.valorCero = leer( POS_VALOR_CERO );
+		}
+		catch( IOException e )
+		{
+			canal.close( );
+			throw e;
+		}
+	}
+	
+	/**
+	 * Crea una HashTable vacia en el archivo dado, con un tamaño, factor de carga y valor ausente definidos<br>
+	 * Si el archivo ya existe se sobreescribe
+	 *
+	 * @param archivo Archivo donde se almacena la HashTable
+	 * @param capacidad Numero de posiciones de la tabla, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 * @param valorAusente Valor retornado cuando una llave no se encuentra en la HashTable
+	 * @throws IOException Si el archivo no se puede crear o mapear
+	 */
+	public MappedLongLongHashTable( Path archivo, int capacidad, float loadFactor, long valorAusente ) throws IOException
+	{
+		super( capacidad, loadFactor );
+		this.archivo = archivo;
+		this.valorAusente = valorAusente;
+		this.semilla = ThreadLocalRandom.current( ).nextLong( );
+		this.canal = FileChannel.open( archivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+		try
+		{
+			inicializar( tamanoArreglo( capacidad ) );
+		}
+		catch( UncheckedIOException e )
+		{
+			canal.close( );
+			throw e.getCause( );
+		}
+	}
+	
+	/**
+	 * Para poder usar este metodo los parametros deben ser instancias de {@link Number}
+	 *
+	 * @param values Tupla Llave-valor
+	 * @throws IllegalArgumentException Si el numero de parametros no es el correcto
+	 */
+	@Override
+	public void addElements( Object ... values )
+	{
+		if( values.length != 2 )
+		{
+			throw new IllegalArgumentException( "There must be 2 elements" );
+		}
+		put( ( ( Number ) values[ 0 ] ).longValue( ), ( ( Number ) values[ 1 ] ).longValue( ) );
+	}
+	
+	/**
+	 * Retorna el indice de la llave en la tabla
+	 *
+	 * @param key Llave a buscar, diferente de 0
+	 * @return Indice de la llave, o -(indice libre + 1) si la llave no se encuentra
+	 */
+	private int buscar( long key )
+	{
+		int index = mezclar( key ^ semilla ) & mascara;
+		long actual;
+		while( ( actual = leer( posicion( index ) ) ) != 0 )
+		{
+			if( actual == key )
+			{
+				return index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		return -( index + 1 );
+	}
+	
+	/**
+	 * Retorna el tamaño en bytes del archivo de una tabla con la capacidad dada
+	 *
+	 * @param capacidad Numero de posiciones de la tabla
+	 * @return Tamaño del archivo
+	 */
+	private static long bytes( int capacidad )
+	{
+		return ENCABEZADO + ( ( long ) capacidad << 4 );
+	}
+	
+	/**
+	 * Lleva al disco los cambios pendientes y cierra el archivo<br>
+	 * La HashTable no se puede usar despues de cerrarla
+	 *
+	 * @throws IOException Si ocurre un error al escribir o cerrar el archivo
+	 */
+	@Override
+	public void close( ) throws IOException
+	{
+		if( canal != null )
+		{
+			force( );
+			canal.close( );
+			canal = null;
+			regiones = null;
+		}
+	}
+	
+	/**
+	 * Verifica si la llave dada por parametro se encuentra en la HashTable
+	 *
+	 * @param key Llave de interes
+	 * @return True si la llave se encuentra, False de lo contrario
+	 */
+	public boolean containsKey( long key )
+	{
+		return key == 0 ? tieneCero : buscar( key ) >= 0;
+	}
+	
+	/**
+	 * Extiende el archivo vacio del canal dado al tamaño de una tabla con la capacidad dada y lo mapea. Las posiciones
+	 * quedan en 0, es decir vacias
+	 *
+	 * @param canal Canal sobre un archivo vacio
+	 * @param capacidad Numero de posiciones de la tabla
+	 * @return Regiones mapeadas del archivo
+	 * @throws IOException Si el archivo no se puede extender o mapear
+	 */
+	private static MappedByteBuffer[ ] crear( FileChannel canal, int capacidad ) throws IOException
+	{
+		long bytes = bytes( capacidad );
+		canal.write( ByteBuffer.allocate( 1 ), bytes - 1 );
+		return mapear( canal, bytes );
+	}
+	
+	/**
+	 * Elimina la entrada asociada a la llave dada por parametro<br>
+	 * El archivo no se reduce al eliminar entradas
+	 *
+	 * @param key Llave de la entrada a eliminar
+	 * @return Valor eliminado, el valor ausente si la llave no se encontraba
+	 */
+	public long delete( long key )
+	{
+		if( key == 0 )
+		{
+			if( !tieneCero )
+			{
+				return valorAusente;
+			}
+			tieneCero = false;
+			escribir( POS_TIENE_CERO, 0 );
+			escribir( POS_TAMANO, --size );
+			return valorCero;
+		}
+		int index = buscar( key );
+		if( index < 0 )
+		{
+			return valorAusente;
+		}
+		long value = leer( posicion( index ) + 8 );
+		desplazar( index );
+		escribir( POS_TAMANO, --size );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras las entradas siguientes del cluster que pueden ocuparla
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int index = ( vacio + 1 ) & mascara;
+		long llave;
+		while( ( llave = leer( posicion( index ) ) ) != 0 )
+		{
+			int distanciaInicio = ( index - mezclar( llave ^ semilla ) ) & mascara;
+			int distanciaVacio = ( index - vacio ) & mascara;
+			if( distanciaInicio >= distanciaVacio )
+			{
+				escribir( posicion( vacio ), llave );
+				escribir( posicion( vacio ) + 8, leer( posicion( index ) + 8 ) );
+				vacio = index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		escribir( posicion( vacio ), 0 );
+	}
+	
+	@Override
+	public Iterable<Entry<Long, Long>> elements( )
+	{
+		return entries( );
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la HashTable<br>
+	 * Este metodo crea objetos por cada entrada, por lo que no se debe usar en operaciones frecuentes
+	 *
+	 * @return Lista con las entradas de la HashTable
+	 */
+	public DoubleLinkedList<Entry<Long, Long>> entries( )
+	{
+		DoubleLinkedList<Entry<Long, Long>> list = new DoubleLinkedList<>( );
+		if( tieneCero )
+		{
+			list.add( new Entry<>( ( long ) 0, valorCero ) );
+		}
+		for( int i = 0; i <= mascara; i++ )
+		{
+			long llave = leer( posicion( i ) );
+			if( llave != 0 )
+			{
+				list.add( new Entry<>( llave, leer( posicion( i ) + 8 ) ) );
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Escribe un long en la posicion dada del archivo
+	 *
+	 * @param posicion Posicion en bytes, multiplo de 8
+	 * @param valor Valor a escribir
+	 */
+	private void escribir( long posicion, long valor )
+	{
+		regiones[ ( int ) ( posicion >>> BITS_REGION ) ].putLong( ( int ) posicion & ( REGION - 1 ), valor );
+	}
+	
+	/**
+	 * Escribe en el archivo todos los campos del encabezado
+	 */
+	private void escribirEncabezado( )
+	{
+		escribir( POS_MAGIA, MAGIA );
+		regiones[ 0 ].putInt( POS_VERSION, VERSION );
+		regiones[ 0 ].putFloat( POS_LOAD_FACTOR, loadFactor );
+		escribir( POS_CAPACIDAD, capacity( ) );
+		escribir( POS_TAMANO, size );
+		escribir( POS_SEMILLA, semilla );
+		escribir( POS_AUSENTE, valorAusente );
+		escribir( POS_TIENE_CERO, tieneCero ? 1 : 0 );
+		escribir( POS_VALOR_CERO, valorCero );
+	}
+	
+	/**
+	 * Lleva al disco los cambios de la HashTable que aun no se han escrito en el archivo<br>
+	 * Al retornar, el archivo puede reabrirse con todas las entradas aun si el sistema se detiene
+	 *
+	 * @throws IOException Si ocurre un error al escribir el archivo
+	 */
+	public void force( ) throws IOException
+	{
+		for( MappedByteBuffer region : regiones )
+		{
+			region.force( );
+		}
+		canal.force( true );
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro
+	 *
+	 * @param key Llave del elemento en interés
+	 * @return Valor asociado a la llave, el valor ausente si la llave no se encuentra
+	 */
+	public long get( long key )
+	{
+		return getOrDefault( key, valorAusente );
+	}
+	
+	/**
+	 * Retorna el archivo donde se almacena la HashTable
+	 *
+	 * @return Archivo de la HashTable
+	 */
+	public Path getFile( )
+	{
+		return archivo;
+	}
+	
+	/**
+	 * Retorna el valor retornado cuando una llave no se encuentra en la HashTable
+	 *
+	 * @return Valor ausente de la HashTable
+	 */
+	public long getMissingValue( )
+	{
+		return valorAusente;
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento en interés
+	 * @param defaultValue Valor a retornar si la llave no se encuentra
+	 * @return Valor asociado a la llave, o el valor por defecto
+	 */
+	public long getOrDefault( long key, long defaultValue )
+	{
+		if( key == 0 )
+		{
+			return tieneCero ? valorCero : defaultValue;
+		}
+		int index = buscar( key );
+		return index >= 0 ? leer( posicion( index ) + 8 ) : defaultValue;
+	}
+	
+	/**
+	 * Vacia el archivo, lo ajusta a la capacidad dada y escribe el encabezado
+	 *
+	 * @throws UncheckedIOException Si el archivo no se puede ajustar o mapear
+	 */
+	@Override
+	protected void inicializar( int capacidad )
+	{
+		try
+		{
+			canal.truncate( 0 );
+			regiones = crear( canal, capacidad );
+		}
+		catch( IOException e )
+		{
+			throw new UncheckedIOException( e );
+		}
+		mascara = capacidad - 1;
+		tieneCero = false;
+		escribirEncabezado( );
+	}
+	
+	/**
+	 * Lee un long de la posicion dada del archivo
+	 *
+	 * @param posicion Posicion en bytes, multiplo de 8
+	 * @return Valor leido
+	 */
+	private long leer( long posicion )
+	{
+		return regiones[ ( int ) ( posicion >>> BITS_REGION ) ].getLong( ( int ) posicion & ( REGION - 1 ) );
+	}
+	
+	/**
+	 * Mapea el archivo del canal dado en regiones de {@link #REGION} bytes
+	 *
+	 * @param canal Canal sobre el archivo
+	 * @param bytes Tamaño del archivo
+	 * @return Regiones mapeadas del archivo
+	 * @throws IOException Si el archivo no se puede mapear
+	 */
+	private static MappedByteBuffer[ ] mapear( FileChannel canal, long bytes ) throws IOException
+	{
+		MappedByteBuffer[ ] regiones = new MappedByteBuffer[ ( int ) ( ( bytes + REGION - 1 ) >>> BITS_REGION ) ];
+		for( int i = 0; i < regiones.length; i++ )
+		{
+			long inicio = ( long ) i << BITS_REGION;
+			regiones[ i ] = canal.map( FileChannel.MapMode.READ_WRITE, inicio, Math.min( REGION, bytes - inicio ) );
+			regiones[ i ].order( ByteOrder.LITTLE_ENDIAN );
+		}
+		return regiones;
+	}
+	
+	/**
+	 * Retorna la posicion en bytes de la llave en el indice dado. El valor se encuentra 8 bytes despues
+	 *
+	 * @param index Indice en la tabla
+	 * @return Posicion de la llave en el archivo
+	 */
+	private static long posicion( int index )
+	{
+		return ENCABEZADO + ( ( long ) index << 4 );
+	}
+	
+	/**
+	 * Agrega una entrada a la HashTable<br>
+	 * Si ya existia una llave igual se sobreescribe el valor
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return El valor anterior de la llave, el valor ausente si no existia
+	 * @throws UncheckedIOException Si la tabla debe crecer y el archivo no se puede reescribir
+	 */
+	public long put( long key, long value )
+	{
+		if( key == 0 )
+		{
+			long old = tieneCero ? valorCero : valorAusente;
+			if( !tieneCero )
+			{
+				tieneCero = true;
+				escribir( POS_TIENE_CERO, 1 );
+				escribir( POS_TAMANO, ++size );
+			}
+			valorCero = value;
+			escribir( POS_VALOR_CERO, value );
+			return old;
+		}
+		int index = buscar( key );
+		if( index >= 0 )
+		{
+			long old = leer( posicion( index ) + 8 );
+			escribir( posicion( index ) + 8, value );
+			return old;
+		}
+		index = -index - 1;
+		escribir( posicion( index ), key );
+		escribir( posicion( index ) + 8, value );
+		escribir( POS_TAMANO, ++size );
+		if( ( ( float ) size / ( float ) capacity( ) ) > loadFactor )
+		{
+			crecer( );
+		}
+		return valorAusente;
+	}
+	
+	/**
+	 * Reescribe la tabla en un archivo temporal junto al archivo de la HashTable y luego lo reemplaza, de modo que el
+	 * archivo original sigue siendo valido si el proceso se detiene durante el rehash
+	 *
+	 * @throws UncheckedIOException Si el archivo temporal no se puede crear o mover
+	 */
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Path temporal = archivo.resolveSibling( archivo.getFileName( ) + ".rehash" );
+		MappedByteBuffer[ ] anteriores = regiones;
+		int mascaraAnterior = mascara;
+		try
+		{
+			FileChannel nuevo = FileChannel.open( temporal, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE );
+			try
+			{
+				regiones = crear( nuevo, nuevaCapacidad );
+				mascara = nuevaCapacidad - 1;
+				for( int i = 0; i <= mascaraAnterior; i++ )
+				{
+					long posicion = posicion( i );
+					long llave = anteriores[ ( int ) ( posicion >>> BITS_REGION ) ].getLong( ( int ) posicion & ( REGION - 1 ) );
+					if( llave != 0 )
+					{
+						int index = mezclar( llave ^ semilla ) & mascara;
+						while( leer( posicion( index ) ) != 0 )
+						{
+							index = ( index + 1 ) & mascara;
+						}
+						escribir( posicion( index ), llave );
+						escribir( posicion( index ) + 8, anteriores[ ( int ) ( posicion >>> BITS_REGION ) ].getLong( ( int ) ( posicion + 8 ) & ( REGION - 1 ) ) );
+					}
+				}
+				escribirEncabezado( );
+				for( MappedByteBuffer region : regiones )
+				{
+					region.force( );
+				}
+				Files.move( temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch( IOException | RuntimeException e )
+			{
+				regiones = anteriores;
+				mascara = mascaraAnterior;
+				nuevo.close( );
+				Files.deleteIfExists( temporal );
+				throw e;
+			}
+			canal.close( );
+			canal = nuevo;
+		}
+		catch( IOException e )
+		{
+			throw new UncheckedIOException( e );
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| las posiciones vacias
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * <li>La entrada de la llave 0, si existe, se representa al inicio
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		if( tieneCero )
+		{
+			sBuilder.append( "0:" + valorCero + " | " );
+		}
+		for( int i = 0; i <= mascara; i++ )
+		{
+			long llave = leer( posicion( i ) );
+			sBuilder.append( llave != 0 ? llave + ":" + leer( posicion( i ) + 8 ) : "|X|" );
+			if( i < mascara )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
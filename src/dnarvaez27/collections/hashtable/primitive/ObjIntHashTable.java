@@ -0,0 +1,329 @@
+package dnarvaez27.collections.hashtable.primitive;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.list.linkedlist.DoubleLinkedList;
+
+/**
+ * Estructura de HashTable con llaves de tipo <i>K</i> y valores de tipo <i>int</i><br>
+ * Las llaves, los valores y el hash de cada llave se almacenan en arreglos paralelos con LinearProbing, sin objetos por entrada.
+ * La posicion vacia se representa con null, por lo que no se permiten llaves null
+ *
+ * @author dnarvaez27
+ * @param <K> Tipo de las llaves
+ */
+@SuppressWarnings( "unchecked" )
+public class ObjIntHashTable<K> extends AbstractPrimitiveHashTable
+{
+	/**
+	 * Tamaño inicial de los arreglos
+	 */
+	private static final int TAMANO = 16;
+	
+	/**
+	 * Arreglo de llaves. null representa una posicion vacia
+	 */
+	private Object[ ] llaves;
+	
+	/**
+	 * Arreglo de valores, paralelo al arreglo de llaves
+	 */
+	private int[ ] valores;
+	
+	/**
+	 * Arreglo del hash de cada llave, paralelo al arreglo de llaves
+	 */
+	private int[ ] hashes;
+	
+	/**
+	 * Valor retornado cuando una llave no se encuentra en la HashTable
+	 */
+	private int valorAusente;
+	
+	/**
+	 * Construye un HashTable con un tamaño definido por la constante {@link #TAMANO} y un factor de carga de 0.75
+	 */
+	public ObjIntHashTable( )
+	{
+		this( TAMANO, 0.75f );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño y factor de carga definidos. El valor ausente es 0
+	 *
+	 * @param capacidad Tamaño de los arreglos, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 */
+	public ObjIntHashTable( int capacidad, float loadFactor )
+	{
+		this( capacidad, loadFactor, 0 );
+	}
+	
+	/**
+	 * Construye un HashTable con un tamaño, factor de carga y valor ausente definidos
+	 *
+	 * @param capacidad Tamaño de los arreglos, se redondea a la siguiente potencia de dos
+	 * @param loadFactor Factor de carga
+	 * @param valorAusente Valor retornado cuando una llave no se encuentra en la HashTable
+	 */
+	public ObjIntHashTable( int capacidad, float loadFactor, int valorAusente )
+	{
+		super( capacidad, loadFactor );
+		this.valorAusente = valorAusente;
+		inicializar( tamanoArreglo( capacidad ) );
+	}
+	
+	/**
+	 * Para poder usar este metodo el valor debe ser una instancia de {@link Number}
+	 *
+	 * @param values Tupla Llave-valor
+	 * @throws IllegalArgumentException Si el numero de parametros no es el correcto
+	 */
+	@Override
+	public void addElements( Object ... values )
+	{
+		if( values.length != 2 )
+		{
+			throw new IllegalArgumentException( "There must be 2 elements" );
+		}
+		put( ( K ) values[ 0 ], ( ( Number ) values[ 1 ] ).intValue( ) );
+	}
+	
+	/**
+	 * Retorna el indice de la llave en los arreglos
+	 *
+	 * @param key Llave a buscar
+	 * @param hash Hash de la llave
+	 * @return Indice de la llave, o -(indice libre + 1) si la llave no se encuentra
+	 */
+	private int buscar( Object key, int hash )
+	{
+		int index = hash & mascara;
+		while( llaves[ index ] != null )
+		{
+			if( ( hashes[ index ] == hash ) && llaves[ index ].equals( key ) )
+			{
+				return index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		return -( index + 1 );
+	}
+	
+	/**
+	 * Verifica si la llave dada por parametro se encuentra en la HashTable
+	 *
+	 * @param key Llave de interes
+	 * @return True si la llave se encuentra, False de lo contrario
+	 */
+	public boolean containsKey( K key )
+	{
+		return buscar( key, hash( key ) ) >= 0;
+	}
+	
+	/**
+	 * Elimina la entrada asociada a la llave dada por parametro
+	 *
+	 * @param key Llave de la entrada a eliminar
+	 * @return Valor eliminado, el valor ausente si la llave no se encontraba
+	 */
+	public int delete( K key )
+	{
+		int index = buscar( key, hash( key ) );
+		if( index < 0 )
+		{
+			return valorAusente;
+		}
+		int value = valores[ index ];
+		desplazar( index );
+		size--;
+		reducir( );
+		return value;
+	}
+	
+	/**
+	 * Libera la posicion dada y desplaza hacia atras las entradas siguientes del cluster que pueden ocuparla
+	 *
+	 * @param vacio Indice de la posicion a liberar
+	 */
+	private void desplazar( int vacio )
+	{
+		int index = ( vacio + 1 ) & mascara;
+		while( llaves[ index ] != null )
+		{
+			int distanciaInicio = ( index - hashes[ index ] ) & mascara;
+			int distanciaVacio = ( index - vacio ) & mascara;
+			if( distanciaInicio >= distanciaVacio )
+			{
+				llaves[ vacio ] = llaves[ index ];
+				valores[ vacio ] = valores[ index ];
+				hashes[ vacio ] = hashes[ index ];
+				vacio = index;
+			}
+			index = ( index + 1 ) & mascara;
+		}
+		llaves[ vacio ] = null;
+	}
+	
+	@Override
+	public Iterable<Entry<K, Integer>> elements( )
+	{
+		return entries( );
+	}
+	
+	/**
+	 * Retorna una lista con las entradas de la HashTable<br>
+	 * Este metodo crea objetos por cada entrada, por lo que no se debe usar en operaciones frecuentes
+	 *
+	 * @return Lista con las entradas de la HashTable
+	 */
+	public DoubleLinkedList<Entry<K, Integer>> entries( )
+	{
+		DoubleLinkedList<Entry<K, Integer>> list = new DoubleLinkedList<>( );
+		for( int i = 0; i < llaves.length; i++ )
+		{
+			if( llaves[ i ] != null )
+			{
+				list.add( new Entry<>( ( K ) llaves[ i ], valores[ i ] ) );
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro
+	 *
+	 * @param key Llave del elemento en interés
+	 * @return Valor asociado a la llave, el valor ausente si la llave no se encuentra
+	 */
+	public int get( K key )
+	{
+		return getOrDefault( key, valorAusente );
+	}
+	
+	/**
+	 * Retorna el valor retornado cuando una llave no se encuentra en la HashTable
+	 *
+	 * @return Valor ausente de la HashTable
+	 */
+	public int getMissingValue( )
+	{
+		return valorAusente;
+	}
+	
+	/**
+	 * Retorna el valor asociado a la llave dada por parametro, o el valor por defecto si la llave no se encuentra
+	 *
+	 * @param key Llave del elemento en interés
+	 * @param defaultValue Valor a retornar si la llave no se encuentra
+	 * @return Valor asociado a la llave, o el valor por defecto
+	 */
+	public int getOrDefault( K key, int defaultValue )
+	{
+		int index = buscar( key, hash( key ) );
+		return index >= 0 ? valores[ index ] : defaultValue;
+	}
+	
+	/**
+	 * Retorna el hash disperso de la llave dada por parametro
+	 *
+	 * @param key Llave
+	 * @return Hash disperso de la llave
+	 * @throws NullPointerException Si la llave es null
+	 */
+	private static int hash( Object key )
+	{
+		if( key == null )
+		{
+			throw new NullPointerException( "La llave no puede ser null" );
+		}
+		return mezclar( key.hashCode( ) );
+	}
+	
+	@Override
+	protected void inicializar( int capacidad )
+	{
+		llaves = new Object[ capacidad ];
+		valores = new int[ capacidad ];
+		hashes = new int[ capacidad ];
+		mascara = capacidad - 1;
+	}
+	
+	/**
+	 * Agrega una entrada a la HashTable<br>
+	 * Si ya existia una llave igual se sobreescribe el valor
+	 *
+	 * @param key Llave de la entrada
+	 * @param value Valor de la entrada
+	 * @return El valor anterior de la llave, el valor ausente si no existia
+	 * @throws NullPointerException Si la llave es null
+	 */
+	public int put( K key, int value )
+	{
+		int hash = hash( key );
+		int index = buscar( key, hash );
+		if( index >= 0 )
+		{
+			int old = valores[ index ];
+			valores[ index ] = value;
+			return old;
+		}
+		index = -index - 1;
+		llaves[ index ] = key;
+		valores[ index ] = value;
+		hashes[ index ] = hash;
+		size++;
+		if( ( ( float ) size / ( float ) llaves.length ) > loadFactor )
+		{
+			crecer( );
+		}
+		return valorAusente;
+	}
+	
+	@Override
+	protected void rehash( int nuevaCapacidad )
+	{
+		Object[ ] llavesAnteriores = llaves;
+		int[ ] valoresAnteriores = valores;
+		int[ ] hashesAnteriores = hashes;
+		inicializar( nuevaCapacidad );
+		for( int i = 0; i < llavesAnteriores.length; i++ )
+		{
+			if( llavesAnteriores[ i ] != null )
+			{
+				int index = hashesAnteriores[ i ] & mascara;
+				while( llaves[ index ] != null )
+				{
+					index = ( index + 1 ) & mascara;
+				}
+				llaves[ index ] = llavesAnteriores[ i ];
+				valores[ index ] = valoresAnteriores[ i ];
+				hashes[ index ] = hashesAnteriores[ i ];
+			}
+		}
+	}
+	
+	/**
+	 * Retorna una representacion de la HashTable<br>
+	 * El proposito de esta representacion es por Debug o
+	 * interés del almacenamiento de los datos en la HashTable<br>
+	 * <ul>
+	 * <li>Se representa con |X| las posiciones vacias
+	 * <li>Se representa con <i>llave:valor</i> las posiciones que contengan entradas
+	 * </ul>
+	 */
+	@Override
+	public String toString( )
+	{
+		StringBuilder sBuilder = new StringBuilder( "[" );
+		for( int i = 0; i < llaves.length; i++ )
+		{
+			sBuilder.append( llaves[ i ] != null ? llaves[ i ] + ":" + valores[ i ] : "|X|" );
+			if( ( i + 1 ) < llaves.length )
+			{
+				sBuilder.append( ", " );
+			}
+		}
+		sBuilder.append( "]" );
+		return sBuilder.toString( );
+	}
+}
\ No newline at end of file
@@ -445,6 +445,7 @@ public class DoubleLinkedList<T> extends AbstractList<T> implements IList<T>, IC
 				if( head.hasNext( ) )
 				{
 					head = ( dnarvaez27.collections.elements.NodoLineal<T> ) head.getNext( );
+					( ( DoubleNodo ) head ).setPrevious( null );
 					size--;
 					return element;
 				}
@@ -474,6 +475,10 @@ public class DoubleLinkedList<T> extends AbstractList<T> implements IList<T>, IC
 								{
 									( ( DoubleNodo ) nodo.getNext( ) ).setPrevious( nodo.getPrevious( ) );
 								}
+								else
+								{
+									tail = nodo.getPrevious( );
+								}
 							}
 							else
 							{
@@ -501,6 +506,10 @@ public class DoubleLinkedList<T> extends AbstractList<T> implements IList<T>, IC
 								{
 									( ( DoubleNodo ) nodo.getNext( ) ).setPrevious( nodo.getPrevious( ) );
 								}
+								else
+								{
+									tail = nodo.getPrevious( );
+								}
 							}
 							else
 							{
@@ -0,0 +1,227 @@
+package hashtable;
+
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.hashtable.CacheTable;
+import dnarvaez27.collections.hashtable.IAdmissionPolicy;
+import dnarvaez27.collections.hashtable.ICursor;
+import dnarvaez27.collections.hashtable.IEvictionListener;
+import dnarvaez27.collections.hashtable.IWeigher;
+import junit.framework.TestCase;
+
+public class TestCacheTable extends TestCase
+{
+	private CacheTable<Integer, String> tabla;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	private StringBuilder expulsadas;
+	
+	private void setUpEscenario1( )
+	{
+		tabla = new CacheTable<>( 5 );
+		tabla.setEvictionListener( new IEvictionListener<Integer, String>( )
+		{
+			@Override
+			public void onEviction( Integer key, String value )
+			{
+				expulsadas.append( value );
+			}
+		} );
+	}
+	
+	protected void setUp( )
+	{
+		tabla = new CacheTable<Integer, String>( 100 );
+		expulsadas = new StringBuilder( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		assertEquals( "TEST", tabla.get( 0 ) );
+		assertEquals( 26, tabla.size( ) );
+		
+		assertNull( tabla.put( 123, "ABC" ) );
+		assertEquals( 27, tabla.size( ) );
+		assertEquals( 27, tabla.weight( ) );
+	}
+	
+	public void testGet( )
+	{
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+		assertNull( tabla.get( 100 ) );
+		assertEquals( 26, tabla.hitCount( ) );
+		assertEquals( 1, tabla.missCount( ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( "C", tabla.delete( 2 ) );
+		assertNull( tabla.delete( 2 ) );
+		assertNull( tabla.get( 2 ) );
+		assertEquals( 25, tabla.size( ) );
+		assertEquals( 0, tabla.evictionCount( ) );
+	}
+	
+	public void testLRU( )
+	{
+		setUpEscenario1( );
+		for( int i = 0; i < 5; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+		tabla.get( 0 );
+		tabla.get( 2 );
+		tabla.put( 5, abc[ 5 ] );
+		tabla.put( 6, abc[ 6 ] );
+		
+		assertEquals( "BD", expulsadas.toString( ) );
+		assertEquals( 2, tabla.evictionCount( ) );
+		assertEquals( 5, tabla.size( ) );
+		assertNull( tabla.get( 1 ) );
+		assertNull( tabla.get( 3 ) );
+		
+		String orden = "";
+		ICursor<Integer, String> cursor = tabla.cursor( );
+		while( cursor.advance( ) )
+		{
+			orden += cursor.value( );
+		}
+		assertEquals( "EACFG", orden );
+		
+		tabla.setMaximumWeight( 2 );
+		assertEquals( "BDEAC", expulsadas.toString( ) );
+		assertEquals( 2, tabla.size( ) );
+	}
+	
+	public void testPeso( )
+	{
+		tabla = new CacheTable<>( 10, new IWeigher<Integer, String>( )
+		{
+			@Override
+			public int weigh( Integer key, String value )
+			{
+				return value.length( );
+			}
+		} );
+		tabla.put( 1, "AAAA" );
+		tabla.put( 2, "BBBB" );
+		assertEquals( 8, tabla.weight( ) );
+		
+		tabla.put( 1, "AAAAAA" );
+		assertEquals( 10, tabla.weight( ) );
+		assertEquals( 2, tabla.size( ) );
+		
+		tabla.put( 3, "CC" );
+		assertNull( tabla.get( 2 ) );
+		assertEquals( 8, tabla.weight( ) );
+		
+		tabla.put( 4, "DDDDDDDDDDDD" );
+		assertNull( tabla.get( 4 ) );
+		assertEquals( 2, tabla.evictionCount( ) );
+	}
+	
+	public void testAdmision( )
+	{
+		setUpEscenario1( );
+		tabla.setAdmissionPolicy( new IAdmissionPolicy.TinyLfu( 5 ) );
+		for( int i = 0; i < 5; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+			for( int j = 0; j < 3; j++ )
+			{
+				tabla.get( i );
+			}
+		}
+		for( int i = 5; i < abc.length; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+		for( int i = 0; i < 5; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+		assertEquals( 21, tabla.evictionCount( ) );
+		
+		tabla.get( 10 );
+		tabla.get( 10 );
+		tabla.get( 10 );
+		tabla.get( 10 );
+		tabla.get( 10 );
+		tabla.put( 10, abc[ 10 ] );
+		assertEquals( abc[ 10 ], tabla.get( 10 ) );
+		assertEquals( 5, tabla.size( ) );
+	}
+	
+	public void testComputeIfAbsent( )
+	{
+		Function<Integer, String> funcion = new Function<Integer, String>( )
+		{
+			@Override
+			public String apply( Integer key )
+			{
+				return "K" + key;
+			}
+		};
+		assertEquals( "A", tabla.computeIfAbsent( 0, funcion ) );
+		assertEquals( "K200", tabla.computeIfAbsent( 200, funcion ) );
+		assertEquals( "K200", tabla.get( 200 ) );
+		assertEquals( 2, tabla.hitCount( ) );
+		assertEquals( 1, tabla.missCount( ) );
+	}
+	
+	public void testIterator( )
+	{
+		int i = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( i, entry.getKey( ).intValue( ) );
+			assertEquals( abc[ i ], entry.getValue( ) );
+			i++;
+		}
+		assertEquals( 26, i );
+		
+		tabla.clear( );
+		assertEquals( 0, tabla.size( ) );
+		assertEquals( 0, tabla.weight( ) );
+		assertFalse( tabla.iterator( ).hasNext( ) );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package hashtable;
+
+import java.util.concurrent.TimeUnit;
+
+import dnarvaez27.collections.hashtable.ExpiringHashTable;
+import junit.framework.TestCase;
+
+public class TestExpiringHashTable extends TestCase
+{
+	private ExpiringHashTable<Integer, String> tabla;
+	
+	private long reloj;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	private void setUpEscenario1( )
+	{
+		tabla = new ExpiringHashTable<Integer, String>( 1, TimeUnit.MINUTES )
+		{
+			@Override
+			protected long tiempo( )
+			{
+				return reloj;
+			}
+		};
+	}
+	
+	protected void setUp( )
+	{
+		reloj = 0;
+		setUpEscenario1( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+	}
+	
+	private void avanzar( long tiempo, TimeUnit unit )
+	{
+		reloj += unit.toNanos( tiempo );
+	}
+	
+	public void testGet( )
+	{
+		avanzar( 59, TimeUnit.SECONDS );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+		
+		avanzar( 1, TimeUnit.SECONDS );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertNull( tabla.get( i ) );
+		}
+		assertEquals( 0, tabla.size( ) );
+	}
+	
+	public void testPut( )
+	{
+		avanzar( 30, TimeUnit.SECONDS );
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		
+		avanzar( 45, TimeUnit.SECONDS );
+		assertEquals( "TEST", tabla.get( 0 ) );
+		assertNull( tabla.get( 1 ) );
+		assertNull( tabla.put( 1, "B" ) );
+		assertEquals( "B", tabla.get( 1 ) );
+	}
+	
+	public void testPutTTL( )
+	{
+		tabla.put( 100, "Corto", 5, TimeUnit.SECONDS );
+		tabla.put( 200, "Largo", 3, TimeUnit.DAYS );
+		
+		avanzar( 5, TimeUnit.SECONDS );
+		assertNull( tabla.get( 100 ) );
+		
+		avanzar( 2, TimeUnit.DAYS );
+		tabla.cleanUp( );
+		assertEquals( 1, tabla.size( ) );
+		assertEquals( "Largo", tabla.get( 200 ) );
+		
+		avanzar( 1, TimeUnit.DAYS );
+		tabla.cleanUp( );
+		assertEquals( 0, tabla.size( ) );
+		
+		try
+		{
+			tabla.put( 1, "A", 0, TimeUnit.SECONDS );
+			fail( );
+		}
+		catch( IllegalArgumentException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
+	
+	public void testCleanUp( )
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			avanzar( 100, TimeUnit.MILLISECONDS );
+			tabla.put( 1000 + i, "V" + i );
+		}
+		tabla.cleanUp( );
+		int vigentes = 600;
+		assertTrue( tabla.size( ) >= vigentes );
+		assertTrue( tabla.size( ) <= ( vigentes + 20 ) );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( i >= 400 ? "V" + i : null, tabla.get( 1000 + i ) );
+		}
+		
+		avanzar( 2, TimeUnit.MINUTES );
+		tabla.cleanUp( );
+		assertEquals( 0, tabla.size( ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( "C", tabla.delete( 2 ) );
+		assertNull( tabla.get( 2 ) );
+		
+		avanzar( 2, TimeUnit.MINUTES );
+		assertNull( tabla.delete( 3 ) );
+		tabla.cleanUp( );
+		assertEquals( 0, tabla.size( ) );
+		
+		tabla.put( 2, "C" );
+		assertEquals( "C", tabla.get( 2 ) );
+	}
+}
\ No newline at end of file
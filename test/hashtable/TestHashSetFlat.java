@@ -0,0 +1,236 @@
+package hashtable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import dnarvaez27.collections.exceptions.IllegalOperationException;
+import dnarvaez27.collections.hashtable.HashSetFlat;
+import dnarvaez27.collections.hashtable.IHashSpreader;
+import junit.framework.TestCase;
+
+public class TestHashSetFlat extends TestCase
+{
+	private HashSetFlat<String> conjunto;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	private void setUpEscenario1( )
+	{
+		conjunto = new HashSetFlat<>( );
+	}
+	
+	protected void setUp( )
+	{
+		conjunto = new HashSetFlat<String>( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			conjunto.add( abc[ i ] );
+		}
+	}
+	
+	public void testAdd( )
+	{
+		assertFalse( conjunto.add( "A" ) );
+		assertTrue( conjunto.add( "AA" ) );
+		assertEquals( 27, conjunto.size( ) );
+		assertTrue( conjunto.contains( "AA" ) );
+		
+		try
+		{
+			conjunto.add( null );
+			fail( );
+		}
+		catch( NullPointerException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
+	
+	public void testSize( )
+	{
+		assertEquals( abc.length, conjunto.size( ) );
+		setUpEscenario1( );
+		assertEquals( 0, conjunto.size( ) );
+		assertTrue( conjunto.isEmpty( ) );
+	}
+	
+	public void testContains( )
+	{
+		for( String letra : abc )
+		{
+			assertTrue( conjunto.contains( letra ) );
+		}
+		assertFalse( conjunto.contains( "a" ) );
+		setUpEscenario1( );
+		assertFalse( conjunto.contains( "A" ) );
+	}
+	
+	public void testRemove( )
+	{
+		assertTrue( conjunto.remove( "C" ) );
+		assertFalse( conjunto.remove( "C" ) );
+		assertFalse( conjunto.contains( "C" ) );
+		assertEquals( 25, conjunto.size( ) );
+		for( String letra : abc )
+		{
+			assertEquals( !letra.equals( "C" ), conjunto.contains( letra ) );
+		}
+	}
+	
+	public void testDesplazamiento( )
+	{
+		HashSetFlat<Integer> numeros = new HashSetFlat<>( 64, 0.75f );
+		numeros.setHashSpreader( new IHashSpreader.Identity( ) );
+		for( int i = 0; i < 6; i++ )
+		{
+			numeros.add( 62 + ( i * 64 ) );
+		}
+		numeros.add( 0 );
+		numeros.add( 63 );
+		assertTrue( numeros.remove( 62 ) );
+		assertTrue( numeros.remove( 62 + 128 ) );
+		for( int i = 1; i < 6; i++ )
+		{
+			assertEquals( i != 2, numeros.contains( 62 + ( i * 64 ) ) );
+		}
+		assertTrue( numeros.contains( 0 ) );
+		assertTrue( numeros.contains( 63 ) );
+		assertEquals( 6, numeros.size( ) );
+	}
+	
+	public void testCapacidad( )
+	{
+		HashSetFlat<Integer> numeros = new HashSetFlat<>( );
+		numeros.ensureCapacity( 1000 );
+		int capacidad = numeros.capacity( );
+		assertTrue( capacidad >= ( 1000 / 0.75f ) );
+		for( int i = 0; i < 1000; i++ )
+		{
+			numeros.add( i );
+		}
+		assertEquals( capacidad, numeros.capacity( ) );
+		
+		for( int i = 0; i < 990; i++ )
+		{
+			assertTrue( numeros.remove( i ) );
+		}
+		assertTrue( numeros.capacity( ) < capacidad );
+		numeros.trimToSize( );
+		assertTrue( numeros.capacity( ) <= 16 );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( i >= 990, numeros.contains( i ) );
+		}
+	}
+	
+	public void testAddAll( )
+	{
+		HashSetFlat<String> otro = new HashSetFlat<>( );
+		otro.addElements( "A", "AA", "BB" );
+		assertTrue( conjunto.addAll( otro ) );
+		assertEquals( 28, conjunto.size( ) );
+		assertTrue( conjunto.contains( "BB" ) );
+		assertFalse( conjunto.addAll( otro ) );
+	}
+	
+	public void testRetainAll( )
+	{
+		HashSetFlat<Integer> numeros = new HashSetFlat<>( );
+		HashSetFlat<Integer> pares = new HashSetFlat<>( );
+		for( int i = 0; i < 5000; i++ )
+		{
+			numeros.add( i );
+			pares.add( i * 2 );
+		}
+		assertTrue( numeros.retainAll( pares ) );
+		assertEquals( 2500, numeros.size( ) );
+		for( int i = 0; i < 5000; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0, numeros.contains( i ) );
+		}
+		assertFalse( numeros.retainAll( pares ) );
+		
+		HashSetFlat<Integer> bajos = new HashSetFlat<>( );
+		for( int i = 0; i < 1000; i++ )
+		{
+			bajos.add( i );
+		}
+		assertTrue( numeros.removeAll( bajos ) );
+		assertEquals( 2000, numeros.size( ) );
+		assertFalse( numeros.contains( 998 ) );
+		assertTrue( numeros.contains( 1000 ) );
+		
+		numeros.retainAll( new HashSetFlat<Integer>( ) );
+		assertTrue( numeros.isEmpty( ) );
+	}
+	
+	public void testIterator( )
+	{
+		Iterator<String> iterator = conjunto.iterator( );
+		HashSetFlat<String> vistos = new HashSetFlat<>( );
+		while( iterator.hasNext( ) )
+		{
+			assertTrue( vistos.add( iterator.next( ) ) );
+		}
+		assertEquals( abc.length, vistos.size( ) );
+		
+		try
+		{
+			iterator.next( );
+			fail( );
+		}
+		catch( NoSuchElementException e )
+		{
+			// Debe lanzar excepcion
+		}
+		
+		setUpEscenario1( );
+		assertFalse( conjunto.iterator( ).hasNext( ) );
+	}
+	
+	public void testHashSpreader( )
+	{
+		try
+		{
+			conjunto.setHashSpreader( new IHashSpreader.Murmur3( ) );
+			fail( );
+		}
+		catch( IllegalOperationException e )
+		{
+			// Debe lanzar excepcion
+		}
+		conjunto.clear( );
+		conjunto.setHashSpreader( new IHashSpreader.Murmur3( ) );
+		conjunto.add( "A" );
+		assertTrue( conjunto.contains( "A" ) );
+	}
+}
\ No newline at end of file
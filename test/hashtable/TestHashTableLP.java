@@ -1,10 +1,56 @@
 package hashtable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.exceptions.IllegalOperationException;
 import dnarvaez27.collections.hashtable.HashTableLP;
+import dnarvaez27.collections.hashtable.HashTableStats;
+import dnarvaez27.collections.hashtable.ICapacityPolicy;
+import dnarvaez27.collections.hashtable.ICodec;
+import dnarvaez27.collections.hashtable.ICursor;
+import dnarvaez27.collections.hashtable.IHashSpreader;
 import junit.framework.TestCase;
 
 public class TestHashTableLP extends TestCase
 {
+	private static class Llave
+	{
+		private static int hashCodes;
+		
+		private int id;
+		
+		public Llave( int id )
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public boolean equals( Object obj )
+		{
+			return ( obj instanceof Llave ) && ( ( ( Llave ) obj ).id == id );
+		}
+		
+		@Override
+		public int hashCode( )
+		{
+			hashCodes++;
+			return id;
+		}
+	}
+	
 	private HashTableLP<Integer, String> tabla;
 	
 	private String[ ] abc = new String[ ]
@@ -90,4 +136,622 @@ public class TestHashTableLP extends TestCase
 		
 		assertEquals( 25, tabla.size( ) );
 	}
+	
+	public void testEnsureCapacity( )
+	{
+		setUpEscenario1( );
+		tabla.ensureCapacity( 1000 );
+		int capacidad = tabla.capacity( );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		assertEquals( capacidad, tabla.capacity( ) );
+		assertEquals( 1000, tabla.size( ) );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.get( i ) );
+		}
+	}
+	
+	public void testTrimToSize( )
+	{
+		for( int i = abc.length; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		for( int i = abc.length; i < 1000; i++ )
+		{
+			tabla.delete( i );
+		}
+		int capacidad = tabla.capacity( );
+		tabla.trimToSize( );
+		assertTrue( tabla.capacity( ) <= capacidad );
+		assertEquals( abc.length, tabla.size( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testShrink( )
+	{
+		for( int i = abc.length; i < 5000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		int capacidad = tabla.capacity( );
+		for( int i = abc.length; i < 5000; i++ )
+		{
+			tabla.delete( i );
+		}
+		assertTrue( tabla.capacity( ) < capacidad );
+		assertTrue( tabla.capacity( ) >= ICapacityPolicy.Geometric.MINIMO );
+		
+		capacidad = tabla.capacity( );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( 10000, "X" );
+			tabla.delete( 10000 );
+		}
+		assertEquals( capacidad, tabla.capacity( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testTombstoneThreshold( )
+	{
+		tabla.setTombstoneThreshold( 0.1f );
+		for( int i = 0; i < 20; i++ )
+		{
+			tabla.delete( i );
+			tabla.put( i + 100, abc[ i ] );
+		}
+		for( int i = 0; i < 20; i++ )
+		{
+			assertNull( tabla.get( i ) );
+			assertEquals( abc[ i ], tabla.get( i + 100 ) );
+		}
+		tabla.put( 120, "A" );
+		tabla.put( 120, "B" );
+		assertEquals( "B", tabla.get( 120 ) );
+		assertEquals( 27, tabla.size( ) );
+		
+		try
+		{
+			tabla.setTombstoneThreshold( 0 );
+			fail( );
+		}
+		catch( IllegalArgumentException e )
+		{
+			// Esperado
+		}
+	}
+	
+	public void testBackwardShift( )
+	{
+		tabla.delete( 0 );
+		tabla.setBackwardShift( true );
+		assertTrue( tabla.isBackwardShift( ) );
+		assertFalse( tabla.toString( ).contains( "|M|" ) );
+		
+		for( int i = 100; i < 2000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		for( int i = 100; i < 2000; i += 2 )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.delete( i ) );
+		}
+		assertFalse( tabla.toString( ).contains( "|M|" ) );
+		assertEquals( 25 + 950, tabla.size( ) );
+		for( int i = 1; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+		for( int i = 100; i < 2000; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : abc[ i % abc.length ], tabla.get( i ) );
+		}
+	}
+	
+	public void testCachedHash( )
+	{
+		HashTableLP<Llave, Integer> llaves = new HashTableLP<>( );
+		Llave.hashCodes = 0;
+		for( int i = 0; i < 1000; i++ )
+		{
+			llaves.put( new Llave( i ), i );
+		}
+		assertEquals( 1000, Llave.hashCodes );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), llaves.get( new Llave( i ) ) );
+		}
+	}
+	
+	public void testHashSpreader( )
+	{
+		try
+		{
+			tabla.setHashSpreader( new IHashSpreader.Murmur3( ) );
+			fail( );
+		}
+		catch( IllegalOperationException e )
+		{
+			// Esperado
+		}
+		
+		setUpEscenario1( );
+		tabla.setHashSpreader( new IHashSpreader.Murmur3( ) );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( i << 16, abc[ i % abc.length ] );
+		}
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.get( i << 16 ) );
+		}
+		int capacidad = tabla.capacity( );
+		assertEquals( 0, capacidad & ( capacidad - 1 ) );
+	}
+	
+	public void testCursor( )
+	{
+		ICursor<Integer, String> cursor = tabla.cursor( );
+		for( int vuelta = 0; vuelta < 2; vuelta++ )
+		{
+			int cantidad = 0;
+			while( cursor.advance( ) )
+			{
+				assertEquals( abc[ cursor.key( ) ], cursor.value( ) );
+				cantidad++;
+			}
+			assertEquals( abc.length, cantidad );
+			cursor.reset( );
+		}
+	}
+	
+	public void testIterator( )
+	{
+		tabla.delete( 3 );
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( abc[ entry.getKey( ) ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( abc.length - 1, cantidad );
+	}
+	
+	public void testIncrementalRehash( )
+	{
+		setUpEscenario1( );
+		tabla.setIncrementalRehash( true );
+		boolean rehashing = false;
+		for( int i = 0; i < 5000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+			rehashing |= tabla.isRehashing( );
+			assertEquals( abc[ ( i / 2 ) % abc.length ], tabla.get( i / 2 ) );
+		}
+		assertTrue( rehashing );
+		for( int i = 0; i < 5000; i += 2 )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.delete( i ) );
+		}
+		for( int i = 0; i < 5000; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : abc[ i % abc.length ], tabla.get( i ) );
+		}
+		assertEquals( 2500, tabla.size( ) );
+		
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( abc[ entry.getKey( ) % abc.length ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( 2500, cantidad );
+		assertFalse( tabla.isRehashing( ) );
+	}
+	
+	public void testCompute( )
+	{
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		assertNull( tabla.put( 100, "X" ) );
+		
+		assertEquals( "TEST", tabla.putIfAbsent( 0, "Z" ) );
+		assertNull( tabla.putIfAbsent( 101, "Y" ) );
+		assertEquals( "Y", tabla.get( 101 ) );
+		
+		assertEquals( "B", tabla.getOrDefault( 1, "-" ) );
+		assertEquals( "-", tabla.getOrDefault( 200, "-" ) );
+		
+		Function<Integer, String> funcion = new Function<Integer, String>( )
+		{
+			@Override
+			public String apply( Integer key )
+			{
+				return "K" + key;
+			}
+		};
+		assertEquals( "C", tabla.computeIfAbsent( 2, funcion ) );
+		assertEquals( "K300", tabla.computeIfAbsent( 300, funcion ) );
+		
+		BiFunction<String, String, String> concatenar = new BiFunction<String, String, String>( )
+		{
+			@Override
+			public String apply( String a, String b )
+			{
+				return a + b;
+			}
+		};
+		assertEquals( "DD", tabla.merge( 3, "D", concatenar ) );
+		assertEquals( "N", tabla.merge( 400, "N", concatenar ) );
+		
+		BiFunction<Integer, String, String> alternar = new BiFunction<Integer, String, String>( )
+		{
+			@Override
+			public String apply( Integer key, String value )
+			{
+				return value == null ? "Nuevo" : null;
+			}
+		};
+		assertNull( tabla.compute( 4, alternar ) );
+		assertNull( tabla.get( 4 ) );
+		assertEquals( "Nuevo", tabla.compute( 4, alternar ) );
+		assertEquals( "Nuevo", tabla.get( 4 ) );
+		assertEquals( 30, tabla.size( ) );
+		
+		for( int i = 5; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testEstadisticas( )
+	{
+		setUpEscenario1( );
+		assertFalse( tabla.isStatisticsEnabled( ) );
+		tabla.setStatisticsEnabled( true );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		for( int i = 0; i < 100; i++ )
+		{
+			tabla.delete( i );
+		}
+		HashTableStats stats = tabla.getStatistics( );
+		assertEquals( 900, stats.getSize( ) );
+		assertEquals( tabla.capacity( ), stats.getCapacity( ) );
+		assertEquals( 900f / tabla.capacity( ), stats.getLoad( ) );
+		assertEquals( 100, stats.getTombstones( ) );
+		assertTrue( stats.getGrowCount( ) > 0 );
+		assertEquals( 0, stats.getShrinkCount( ) );
+		assertTrue( stats.getRehashTime( TimeUnit.NANOSECONDS ) > 0 );
+		long entradas = 0;
+		for( long cantidad : stats.getProbeLengths( ) )
+		{
+			entradas += cantidad;
+		}
+		assertEquals( 900, entradas );
+		assertEquals( 0, stats.getProbeLengths( )[ 0 ] );
+		assertTrue( stats.getMeanProbeLength( ) >= 1 );
+		assertEquals( stats.getProbeLengths( ).length - 1, stats.getMaxProbeLength( ) );
+		
+		tabla.setBackwardShift( true );
+		tabla.ensureCapacity( 10000 );
+		stats = tabla.getStatistics( );
+		assertEquals( 0, stats.getTombstones( ) );
+		assertEquals( 1, stats.getCleanupCount( ) );
+		assertEquals( 1, stats.getResizeCount( ) );
+		
+		tabla.setStatisticsEnabled( false );
+		tabla.trimToSize( );
+		stats = tabla.getStatistics( );
+		assertEquals( 0, stats.getResizeCount( ) );
+		assertEquals( 0, stats.getRehashTime( TimeUnit.NANOSECONDS ) );
+		assertEquals( 0, stats.getChainLengths( ).length );
+	}
+	
+	public void testLotes( )
+	{
+		Integer[ ] keys = new Integer[ 1000 ];
+		String[ ] values = new String[ keys.length ];
+		for( int i = 0; i < keys.length; i++ )
+		{
+			keys[ i ] = i % 500;
+			values[ i ] = "V" + i;
+		}
+		tabla.putAll( keys, values );
+		assertEquals( 500, tabla.size( ) );
+		
+		String[ ] out = new String[ keys.length + 1 ];
+		Integer[ ] buscadas = new Integer[ out.length ];
+		for( int i = 0; i < buscadas.length; i++ )
+		{
+			buscadas[ i ] = buscadas.length - i - 1;
+		}
+		tabla.getAll( buscadas, out );
+		for( int i = 0; i < buscadas.length; i++ )
+		{
+			int key = buscadas[ i ];
+			assertEquals( key < 500 ? "V" + ( key + 500 ) : null, out[ i ] );
+			assertEquals( out[ i ], tabla.get( key ) );
+		}
+		
+		try
+		{
+			tabla.putAll( keys, new String[ 1 ] );
+			fail( );
+		}
+		catch( IllegalArgumentException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
+	
+	public void testRehashParalelo( )
+	{
+		HashTableLP<Integer, Integer> paralela = new HashTableLP<>( );
+		paralela.setParallelRehash( true );
+		assertTrue( paralela.isParallelRehash( ) );
+		
+		int n = HashTableLP.REHASH_PARALELO * 2;
+		for( int i = 0; i < n; i++ )
+		{
+			paralela.put( i * 7, i );
+		}
+		for( int i = 0; i < n; i += 2 )
+		{
+			paralela.delete( i * 7 );
+		}
+		paralela.ensureCapacity( n * 4 );
+		paralela.trimToSize( );
+		assertEquals( n / 2, paralela.size( ) );
+		for( int i = 0; i < n; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : ( Integer ) i, paralela.get( i * 7 ) );
+		}
+		
+		paralela.setIncrementalRehash( true );
+		paralela.ensureCapacity( n * 2 );
+		assertTrue( paralela.isRehashing( ) );
+		paralela.ensureCapacity( n * 4 );
+		assertFalse( paralela.isRehashing( ) );
+		for( int i = 1; i < n; i += 2 )
+		{
+			assertEquals( ( Integer ) i, paralela.get( i * 7 ) );
+		}
+	}
+	
+	public void testOperacionesParalelas( )
+	{
+		HashTableLP<Integer, Integer> numeros = new HashTableLP<>( );
+		for( int i = 1; i <= 10000; i++ )
+		{
+			numeros.put( i, i );
+		}
+		
+		BiFunction<Integer, Integer, Long> valor = new BiFunction<Integer, Integer, Long>( )
+		{
+			@Override
+			public Long apply( Integer key, Integer value )
+			{
+				return ( key % 2 ) == 0 ? ( long ) value : null;
+			}
+		};
+		BiFunction<Long, Long, Long> suma = new BiFunction<Long, Long, Long>( )
+		{
+			@Override
+			public Long apply( Long a, Long b )
+			{
+				return a + b;
+			}
+		};
+		assertEquals( ( Long ) 25005000L, numeros.reduce( 1, valor, suma ) );
+		assertEquals( ( Long ) 25005000L, numeros.reduce( Long.MAX_VALUE, valor, suma ) );
+		assertNull( new HashTableLP<Integer, Integer>( ).reduce( 1, valor, suma ) );
+		
+		numeros.replaceAll( 1, new BiFunction<Integer, Integer, Integer>( )
+		{
+			@Override
+			public Integer apply( Integer key, Integer value )
+			{
+				return value * 2;
+			}
+		} );
+		final long[ ] total = new long[ 1 ];
+		numeros.forEach( Long.MAX_VALUE, new BiConsumer<Integer, Integer>( )
+		{
+			@Override
+			public void accept( Integer key, Integer value )
+			{
+				assertEquals( key * 2, ( int ) value );
+				total[ 0 ] += value;
+			}
+		} );
+		assertEquals( 100010000L, total[ 0 ] );
+		
+		final int[ ] visitadas = new int[ 10001 ];
+		numeros.forEach( 1, new BiConsumer<Integer, Integer>( )
+		{
+			@Override
+			public void accept( Integer key, Integer value )
+			{
+				visitadas[ key ]++;
+			}
+		} );
+		for( int i = 1; i <= 10000; i++ )
+		{
+			assertEquals( 1, visitadas[ i ] );
+		}
+		
+		try
+		{
+			numeros.replaceAll( 1, new BiFunction<Integer, Integer, Integer>( )
+			{
+				@Override
+				public Integer apply( Integer key, Integer value )
+				{
+					return null;
+				}
+			} );
+			fail( );
+		}
+		catch( NullPointerException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
+	
+	public void testFotografia( ) throws IOException
+	{
+		tabla.delete( 3 );
+		tabla.delete( 17 );
+		ByteArrayOutputStream out = new ByteArrayOutputStream( );
+		tabla.writeTo( out, new ICodec.Integers( ), new ICodec.Strings( ) );
+		
+		HashTableLP<Integer, String> copia = new HashTableLP<>( );
+		copia.put( 100, "X" );
+		copia.readFrom( new ByteArrayInputStream( out.toByteArray( ) ), new ICodec.Integers( ), new ICodec.Strings( ) );
+		assertEquals( tabla.size( ), copia.size( ) );
+		assertEquals( tabla.capacity( ), copia.capacity( ) );
+		assertEquals( tabla.getStatistics( ).getTombstones( ), copia.getStatistics( ).getTombstones( ) );
+		assertNull( copia.get( 100 ) );
+		Iterator<Entry<Integer, String>> original = tabla.iterator( );
+		for( Entry<Integer, String> entry : copia )
+		{
+			Entry<Integer, String> esperada = original.next( );
+			assertEquals( esperada.getKey( ), entry.getKey( ) );
+			assertEquals( esperada.getValue( ), entry.getValue( ) );
+		}
+		assertFalse( original.hasNext( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( ( i == 3 ) || ( i == 17 ) ? null : abc[ i ], copia.get( i ) );
+		}
+		
+		HashTableLP<Integer, String> dispersa = new HashTableLP<>( );
+		dispersa.setHashSpreader( new IHashSpreader.Murmur3( ) );
+		dispersa.readFrom( new ByteArrayInputStream( out.toByteArray( ) ), new ICodec.Integers( ), new ICodec.Strings( ) );
+		assertEquals( 24, dispersa.size( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( ( i == 3 ) || ( i == 17 ) ? null : abc[ i ], dispersa.get( i ) );
+		}
+		
+		byte[ ] bytes = out.toByteArray( );
+		bytes[ bytes.length - 1 ]++;
+		try
+		{
+			copia.readFrom( new ByteArrayInputStream( bytes, 0, bytes.length - 1 ), new ICodec.Integers( ), new ICodec.Strings( ) );
+			fail( );
+		}
+		catch( IOException e )
+		{
+			// Debe lanzar excepcion
+		}
+		assertTrue( copia.isEmpty( ) );
+		try
+		{
+			copia.readFrom( new ByteArrayInputStream( new byte[ 64 ] ), new ICodec.Integers( ), new ICodec.Strings( ) );
+			fail( );
+		}
+		catch( IOException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
+	
+	public void testFotografiaNulos( ) throws IOException
+	{
+		tabla.put( 2, null );
+		tabla.put( 30, null );
+		ByteArrayOutputStream out = new ByteArrayOutputStream( );
+		tabla.writeTo( out, new ICodec.Integers( ), new ICodec.Strings( ) );
+		
+		HashTableLP<Integer, String> copia = new HashTableLP<>( );
+		copia.readFrom( new ByteArrayInputStream( out.toByteArray( ) ), new ICodec.Integers( ), new ICodec.Strings( ) );
+		assertEquals( abc.length + 1, copia.size( ) );
+		int nulos = 0;
+		for( Entry<Integer, String> entry : copia )
+		{
+			if( entry.getValue( ) == null )
+			{
+				assertTrue( ( entry.getKey( ) == 2 ) || ( entry.getKey( ) == 30 ) );
+				nulos++;
+			}
+		}
+		assertEquals( 2, nulos );
+		assertEquals( abc[ 3 ], copia.get( 3 ) );
+		
+		HashTableLP<Integer, String> dispersa = new HashTableLP<>( );
+		dispersa.setHashSpreader( new IHashSpreader.Murmur3( ) );
+		dispersa.readFrom( new ByteArrayInputStream( out.toByteArray( ) ), new ICodec.Integers( ), new ICodec.Strings( ) );
+		assertEquals( abc.length + 1, dispersa.size( ) );
+		assertNull( dispersa.get( 30 ) );
+		assertEquals( abc[ 25 ], dispersa.get( 25 ) );
+	}
+	
+	public void testFotografiaBackwardShift( ) throws IOException
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			tabla.delete( i * 2 );
+		}
+		assertEquals( 10, tabla.getStatistics( ).getTombstones( ) );
+		ByteArrayOutputStream out = new ByteArrayOutputStream( );
+		tabla.writeTo( out, new ICodec.Integers( ), new ICodec.Strings( ) );
+		
+		HashTableLP<Integer, String> copia = new HashTableLP<>( );
+		copia.setBackwardShift( true );
+		copia.readFrom( new ByteArrayInputStream( out.toByteArray( ) ), new ICodec.Integers( ), new ICodec.Strings( ) );
+		assertEquals( 0, copia.getStatistics( ).getTombstones( ) );
+		assertEquals( abc.length - 10, copia.size( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( ( i < 20 ) && ( ( i % 2 ) == 0 ) ? null : abc[ i ], copia.get( i ) );
+		}
+	}
+	
+	public void testFotografiaArchivo( ) throws IOException
+	{
+		HashTableLP<Long, String> numeros = new HashTableLP<>( );
+		for( long i = 0; i < 20000; i++ )
+		{
+			numeros.put( i * 31, "N" + i );
+		}
+		
+		Path archivo = Files.createTempFile( "tabla", ".bin" );
+		try
+		{
+			try( FileChannel channel = FileChannel.open( archivo, StandardOpenOption.WRITE ) )
+			{
+				numeros.writeTo( channel, new ICodec.Longs( ), new ICodec.Strings( ) );
+				channel.write( ByteBuffer.allocate( 4 ).putInt( 42 ).flip( ) );
+			}
+			HashTableLP<Long, String> copia = new HashTableLP<>( );
+			try( FileChannel channel = FileChannel.open( archivo, StandardOpenOption.READ ) )
+			{
+				copia.readFrom( channel, new ICodec.Longs( ), new ICodec.Strings( ) );
+				ByteBuffer resto = ByteBuffer.allocate( 4 );
+				channel.read( resto );
+				assertEquals( 42, resto.getInt( 0 ) );
+			}
+			assertEquals( 20000, copia.size( ) );
+			for( long i = 0; i < 20000; i++ )
+			{
+				assertEquals( "N" + i, copia.get( i * 31 ) );
+			}
+		}
+		finally
+		{
+			Files.delete( archivo );
+		}
+	}
 }
\ No newline at end of file
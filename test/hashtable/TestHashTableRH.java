@@ -0,0 +1,208 @@
+package hashtable;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.hashtable.HashTableRH;
+import junit.framework.TestCase;
+
+public class TestHashTableRH extends TestCase
+{
+	private HashTableRH<Integer, String> tabla;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	private void setUpEscenario1( )
+	{
+		tabla = new HashTableRH<>( );
+	}
+	
+	protected void setUp( )
+	{
+		tabla = new HashTableRH<Integer, String>( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+	}
+	
+	public void testPut( )
+	{
+		tabla.put( 0, "TEST" );
+		assertEquals( "TEST", tabla.get( 0 ) );
+		
+		tabla.put( 0, "B" );
+		assertEquals( "B", tabla.get( 0 ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		tabla.put( 123, "ABC" );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testSize( )
+	{
+		assertEquals( 26, tabla.size( ) );
+		
+		setUpEscenario1( );
+		assertEquals( 0, tabla.size( ) );
+	}
+	
+	public void testGet( )
+	{
+		for( int i = 0; i < tabla.size( ); i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( abc[ 1 ], tabla.delete( 1 ) );
+		assertNull( tabla.delete( 123 ) );
+		assertNull( tabla.get( 1 ) );
+		
+		assertEquals( 25, tabla.size( ) );
+	}
+	
+	public void testCollisions( )
+	{
+		setUpEscenario1( );
+		for( int i = 0; i < 2000; i++ )
+		{
+			tabla.put( i * 64, abc[ i % abc.length ] );
+		}
+		for( int i = 0; i < 2000; i += 3 )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.delete( i * 64 ) );
+		}
+		for( int i = 0; i < 2000; i++ )
+		{
+			assertEquals( ( i % 3 ) == 0 ? null : abc[ i % abc.length ], tabla.get( i * 64 ) );
+		}
+		assertEquals( 2000 - 667, tabla.size( ) );
+	}
+	
+	public void testEntries( )
+	{
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla.entries( ) )
+		{
+			assertEquals( abc[ entry.getKey( ) ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( abc.length, cantidad );
+		
+		tabla.clear( );
+		assertEquals( 0, tabla.size( ) );
+		assertNull( tabla.get( 0 ) );
+	}
+	
+	public void testHighLoad( )
+	{
+		tabla = new HashTableRH<>( 1 << 12, 0.95f );
+		for( int i = 0; i < 3800; i++ )
+		{
+			tabla.put( i * 31, abc[ i % abc.length ] );
+		}
+		assertEquals( 1 << 12, tabla.capacity( ) );
+		for( int i = 0; i < 3800; i++ )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.get( i * 31 ) );
+			assertNull( tabla.get( ( i * 31 ) + 1 ) );
+		}
+		for( int i = 0; i < 3800; i += 2 )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.delete( i * 31 ) );
+		}
+		for( int i = 0; i < 3800; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : abc[ i % abc.length ], tabla.get( i * 31 ) );
+		}
+		assertTrue( tabla.getMaxProbeDistance( ) < 64 );
+	}
+	
+	public void testCompute( )
+	{
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		assertNull( tabla.put( 100, "X" ) );
+		
+		assertEquals( "TEST", tabla.putIfAbsent( 0, "Z" ) );
+		assertNull( tabla.putIfAbsent( 101, "Y" ) );
+		assertEquals( "Y", tabla.get( 101 ) );
+		
+		assertEquals( "B", tabla.getOrDefault( 1, "-" ) );
+		assertEquals( "-", tabla.getOrDefault( 200, "-" ) );
+		
+		Function<Integer, String> funcion = new Function<Integer, String>( )
+		{
+			@Override
+			public String apply( Integer key )
+			{
+				return "K" + key;
+			}
+		};
+		assertEquals( "C", tabla.computeIfAbsent( 2, funcion ) );
+		assertEquals( "K300", tabla.computeIfAbsent( 300, funcion ) );
+		
+		BiFunction<String, String, String> concatenar = new BiFunction<String, String, String>( )
+		{
+			@Override
+			public String apply( String a, String b )
+			{
+				return a + b;
+			}
+		};
+		assertEquals( "DD", tabla.merge( 3, "D", concatenar ) );
+		assertEquals( "N", tabla.merge( 400, "N", concatenar ) );
+		
+		BiFunction<Integer, String, String> alternar = new BiFunction<Integer, String, String>( )
+		{
+			@Override
+			public String apply( Integer key, String value )
+			{
+				return value == null ? "Nuevo" : null;
+			}
+		};
+		assertNull( tabla.compute( 4, alternar ) );
+		assertNull( tabla.get( 4 ) );
+		assertEquals( "Nuevo", tabla.compute( 4, alternar ) );
+		assertEquals( "Nuevo", tabla.get( 4 ) );
+		assertEquals( 30, tabla.size( ) );
+		
+		for( int i = 5; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+}
\ No newline at end of file
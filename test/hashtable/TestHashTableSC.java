@@ -1,10 +1,78 @@
 package hashtable;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import dnarvaez27.collections.elements.Entry;
 import dnarvaez27.collections.hashtable.HashTableSC;
+import dnarvaez27.collections.hashtable.HashTableStats;
+import dnarvaez27.collections.hashtable.ICapacityPolicy;
+import dnarvaez27.collections.hashtable.ICursor;
 import junit.framework.TestCase;
 
 public class TestHashTableSC extends TestCase
 {
+	private static class Colision
+	{
+		protected int id;
+		
+		public Colision( int id )
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public boolean equals( Object obj )
+		{
+			return ( obj != null ) && ( obj.getClass( ) == getClass( ) ) && ( ( ( Colision ) obj ).id == id );
+		}
+		
+		@Override
+		public int hashCode( )
+		{
+			return 42;
+		}
+	}
+	
+	private static class ColisionComparable extends Colision implements Comparable<ColisionComparable>
+	{
+		public ColisionComparable( int id )
+		{
+			super( id );
+		}
+		
+		@Override
+		public int compareTo( ColisionComparable o )
+		{
+			return Integer.compare( id, o.id );
+		}
+	}
+	
+	private static class Llave
+	{
+		private static int hashCodes;
+		
+		private int id;
+		
+		public Llave( int id )
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public boolean equals( Object obj )
+		{
+			return ( obj instanceof Llave ) && ( ( ( Llave ) obj ).id == id );
+		}
+		
+		@Override
+		public int hashCode( )
+		{
+			hashCodes++;
+			return id;
+		}
+	}
+	
 	private HashTableSC<Integer, String> tabla;
 	
 	private String[ ] abc = new String[ ]
@@ -90,4 +158,416 @@ public class TestHashTableSC extends TestCase
 		
 		assertEquals( 25, tabla.size( ) );
 	}
+	
+	public void testEnsureCapacity( )
+	{
+		setUpEscenario1( );
+		tabla.ensureCapacity( 1000 );
+		int capacidad = tabla.capacity( );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		assertEquals( capacidad, tabla.capacity( ) );
+		assertEquals( 1000, tabla.size( ) );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.get( i ) );
+		}
+	}
+	
+	public void testTrimToSize( )
+	{
+		for( int i = abc.length; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		for( int i = abc.length; i < 1000; i++ )
+		{
+			tabla.delete( i );
+		}
+		int capacidad = tabla.capacity( );
+		tabla.trimToSize( );
+		assertTrue( tabla.capacity( ) <= capacidad );
+		assertEquals( abc.length, tabla.size( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testShrink( )
+	{
+		for( int i = abc.length; i < 5000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		int capacidad = tabla.capacity( );
+		for( int i = abc.length; i < 5000; i++ )
+		{
+			tabla.delete( i );
+		}
+		assertTrue( tabla.capacity( ) < capacidad );
+		assertTrue( tabla.capacity( ) >= ICapacityPolicy.Geometric.MINIMO );
+		
+		capacidad = tabla.capacity( );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( 10000, "X" );
+			tabla.delete( 10000 );
+		}
+		assertEquals( capacidad, tabla.capacity( ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testCachedHash( )
+	{
+		HashTableSC<Llave, Integer> llaves = new HashTableSC<>( );
+		Llave.hashCodes = 0;
+		for( int i = 0; i < 1000; i++ )
+		{
+			llaves.put( new Llave( i ), i );
+		}
+		assertEquals( 1000, Llave.hashCodes );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), llaves.get( new Llave( i ) ) );
+		}
+	}
+	
+	public void testCursor( )
+	{
+		ICursor<Integer, String> cursor = tabla.cursor( );
+		for( int vuelta = 0; vuelta < 2; vuelta++ )
+		{
+			int cantidad = 0;
+			while( cursor.advance( ) )
+			{
+				assertEquals( abc[ cursor.key( ) ], cursor.value( ) );
+				cantidad++;
+			}
+			assertEquals( abc.length, cantidad );
+			cursor.reset( );
+		}
+	}
+	
+	public void testCursorColisiones( )
+	{
+		HashTableSC<Colision, Integer> colisiones = new HashTableSC<>( );
+		for( int i = 0; i < 300; i++ )
+		{
+			colisiones.put( new ColisionComparable( i ), i );
+		}
+		colisiones.put( new Colision( 0 ), -1 );
+		ICursor<Colision, Integer> cursor = colisiones.cursor( );
+		for( int vuelta = 0; vuelta < 2; vuelta++ )
+		{
+			boolean[ ] vistos = new boolean[ 300 ];
+			int cantidad = 0;
+			while( cursor.advance( ) )
+			{
+				if( cursor.value( ) >= 0 )
+				{
+					assertEquals( cursor.key( ).id, cursor.value( ).intValue( ) );
+					assertFalse( vistos[ cursor.value( ) ] );
+					vistos[ cursor.value( ) ] = true;
+				}
+				cantidad++;
+			}
+			assertEquals( 301, cantidad );
+			cursor.reset( );
+		}
+	}
+	
+	public void testIterator( )
+	{
+		tabla.delete( 3 );
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( abc[ entry.getKey( ) ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( abc.length - 1, cantidad );
+	}
+	
+	public void testIncrementalRehash( )
+	{
+		setUpEscenario1( );
+		tabla.setIncrementalRehash( true );
+		boolean rehashing = false;
+		for( int i = 0; i < 5000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+			rehashing |= tabla.isRehashing( );
+			assertEquals( abc[ ( i / 2 ) % abc.length ], tabla.get( i / 2 ) );
+		}
+		assertTrue( rehashing );
+		for( int i = 0; i < 5000; i += 2 )
+		{
+			assertEquals( abc[ i % abc.length ], tabla.delete( i ) );
+		}
+		for( int i = 0; i < 5000; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : abc[ i % abc.length ], tabla.get( i ) );
+		}
+		assertEquals( 2500, tabla.size( ) );
+		
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( abc[ entry.getKey( ) % abc.length ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( 2500, cantidad );
+		assertFalse( tabla.isRehashing( ) );
+	}
+	
+	public void testColisiones( )
+	{
+		HashTableSC<Colision, Integer> colisiones = new HashTableSC<>( );
+		for( int i = 0; i < 500; i++ )
+		{
+			colisiones.put( new Colision( i ), i );
+			colisiones.put( new ColisionComparable( i ), -i );
+		}
+		assertEquals( 1000, colisiones.size( ) );
+		for( int i = 0; i < 500; i++ )
+		{
+			assertEquals( Integer.valueOf( i ), colisiones.get( new Colision( i ) ) );
+			assertEquals( Integer.valueOf( -i ), colisiones.get( new ColisionComparable( i ) ) );
+		}
+		assertEquals( Integer.valueOf( 7 ), colisiones.put( new Colision( 7 ), 70 ) );
+		assertEquals( Integer.valueOf( 70 ), colisiones.get( new Colision( 7 ) ) );
+		
+		for( int i = 0; i < 500; i += 2 )
+		{
+			assertNotNull( colisiones.delete( new Colision( i ) ) );
+			assertEquals( Integer.valueOf( -i ), colisiones.delete( new ColisionComparable( i ) ) );
+		}
+		assertEquals( 500, colisiones.size( ) );
+		int cantidad = 0;
+		for( Entry<Colision, Integer> entry : colisiones )
+		{
+			assertEquals( 1, entry.getKey( ).id % 2 );
+			cantidad++;
+		}
+		assertEquals( 500, cantidad );
+		
+		for( int i = 1; i < 490; i += 2 )
+		{
+			colisiones.delete( new Colision( i ) );
+			colisiones.delete( new ColisionComparable( i ) );
+		}
+		assertEquals( 10, colisiones.size( ) );
+		for( int i = 491; i < 500; i += 2 )
+		{
+			assertEquals( Integer.valueOf( i ), colisiones.get( new Colision( i ) ) );
+			assertEquals( Integer.valueOf( -i ), colisiones.get( new ColisionComparable( i ) ) );
+		}
+		assertNull( colisiones.get( new Colision( 0 ) ) );
+	}
+	
+	public void testDeleteCadena( )
+	{
+		HashTableSC<Colision, Integer> colisiones = new HashTableSC<>( );
+		for( int i = 0; i < 6; i++ )
+		{
+			colisiones.put( new Colision( i ), i );
+		}
+		assertEquals( Integer.valueOf( 0 ), colisiones.delete( new Colision( 0 ) ) );
+		assertEquals( Integer.valueOf( 3 ), colisiones.delete( new Colision( 3 ) ) );
+		assertEquals( Integer.valueOf( 5 ), colisiones.delete( new Colision( 5 ) ) );
+		assertNull( colisiones.delete( new Colision( 5 ) ) );
+		assertEquals( 3, colisiones.size( ) );
+		
+		colisiones.put( new Colision( 6 ), 6 );
+		int[ ] esperados = new int[ ]
+		{
+				1,
+				2,
+				4,
+				6
+		};
+		for( int esperado : esperados )
+		{
+			assertEquals( Integer.valueOf( esperado ), colisiones.get( new Colision( esperado ) ) );
+		}
+		int cantidad = 0;
+		for( Entry<Colision, Integer> entry : colisiones )
+		{
+			assertEquals( esperados[ cantidad++ ], entry.getKey( ).id );
+		}
+		assertEquals( 4, cantidad );
+	}
+	
+	public void testCompute( )
+	{
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		assertNull( tabla.put( 100, "X" ) );
+		
+		assertEquals( "TEST", tabla.putIfAbsent( 0, "Z" ) );
+		assertNull( tabla.putIfAbsent( 101, "Y" ) );
+		assertEquals( "Y", tabla.get( 101 ) );
+		
+		assertEquals( "B", tabla.getOrDefault( 1, "-" ) );
+		assertEquals( "-", tabla.getOrDefault( 200, "-" ) );
+		
+		Function<Integer, String> funcion = new Function<Integer, String>( )
+		{
+			@Override
+			public String apply( Integer key )
+			{
+				return "K" + key;
+			}
+		};
+		assertEquals( "C", tabla.computeIfAbsent( 2, funcion ) );
+		assertEquals( "K300", tabla.computeIfAbsent( 300, funcion ) );
+		
+		BiFunction<String, String, String> concatenar = new BiFunction<String, String, String>( )
+		{
+			@Override
+			public String apply( String a, String b )
+			{
+				return a + b;
+			}
+		};
+		assertEquals( "DD", tabla.merge( 3, "D", concatenar ) );
+		assertEquals( "N", tabla.merge( 400, "N", concatenar ) );
+		
+		BiFunction<Integer, String, String> alternar = new BiFunction<Integer, String, String>( )
+		{
+			@Override
+			public String apply( Integer key, String value )
+			{
+				return value == null ? "Nuevo" : null;
+			}
+		};
+		assertNull( tabla.compute( 4, alternar ) );
+		assertNull( tabla.get( 4 ) );
+		assertEquals( "Nuevo", tabla.compute( 4, alternar ) );
+		assertEquals( "Nuevo", tabla.get( 4 ) );
+		assertEquals( 30, tabla.size( ) );
+		
+		for( int i = 5; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testComputeColisiones( )
+	{
+		HashTableSC<Colision, Integer> colisiones = new HashTableSC<>( );
+		BiFunction<Colision, Integer, Integer> eliminar = new BiFunction<Colision, Integer, Integer>( )
+		{
+			@Override
+			public Integer apply( Colision key, Integer value )
+			{
+				return null;
+			}
+		};
+		BiFunction<Integer, Integer, Integer> anular = new BiFunction<Integer, Integer, Integer>( )
+		{
+			@Override
+			public Integer apply( Integer a, Integer b )
+			{
+				return null;
+			}
+		};
+		for( int i = 0; i < 6; i++ )
+		{
+			colisiones.put( new Colision( i ), i );
+		}
+		assertNull( colisiones.compute( new Colision( 3 ), eliminar ) );
+		assertNull( colisiones.merge( new Colision( 0 ), 1, anular ) );
+		assertNull( colisiones.compute( new Colision( 5 ), eliminar ) );
+		assertEquals( 3, colisiones.size( ) );
+		for( int i = 0; i < 6; i++ )
+		{
+			assertEquals( ( i == 1 ) || ( i == 2 ) || ( i == 4 ) ? Integer.valueOf( i ) : null, colisiones.get( new Colision( i ) ) );
+		}
+		
+		for( int i = 0; i < 100; i++ )
+		{
+			colisiones.put( new ColisionComparable( i ), i );
+		}
+		for( int i = 0; i < 100; i += 2 )
+		{
+			assertNull( colisiones.compute( new ColisionComparable( i ), eliminar ) );
+			assertNull( colisiones.merge( new ColisionComparable( i + 1 ), 1, anular ) );
+		}
+		assertEquals( 3, colisiones.size( ) );
+		assertNull( colisiones.get( new ColisionComparable( 51 ) ) );
+		assertEquals( Integer.valueOf( 4 ), colisiones.get( new Colision( 4 ) ) );
+	}
+	
+	public void testEstadisticas( )
+	{
+		setUpEscenario1( );
+		tabla.setStatisticsEnabled( true );
+		for( int i = 0; i < 1000; i++ )
+		{
+			tabla.put( i, abc[ i % abc.length ] );
+		}
+		for( int i = 0; i < 900; i++ )
+		{
+			tabla.delete( i );
+		}
+		HashTableStats stats = tabla.getStatistics( );
+		assertEquals( 100, stats.getSize( ) );
+		assertEquals( 0, stats.getTombstones( ) );
+		assertTrue( stats.getGrowCount( ) > 0 );
+		assertTrue( stats.getShrinkCount( ) > 0 );
+		assertEquals( 0, stats.getProbeLengths( ).length );
+		long cadenas = 0;
+		long entradas = 0;
+		long[ ] longitudes = stats.getChainLengths( );
+		for( int i = 0; i < longitudes.length; i++ )
+		{
+			cadenas += longitudes[ i ];
+			entradas += i * longitudes[ i ];
+		}
+		assertEquals( tabla.capacity( ), cadenas );
+		assertEquals( 100, entradas );
+	}
+	
+	public void testLotes( )
+	{
+		Integer[ ] keys = new Integer[ 1000 ];
+		String[ ] values = new String[ keys.length ];
+		for( int i = 0; i < keys.length; i++ )
+		{
+			keys[ i ] = i % 500;
+			values[ i ] = "V" + i;
+		}
+		tabla.putAll( keys, values );
+		assertEquals( 500, tabla.size( ) );
+		
+		String[ ] out = new String[ keys.length + 1 ];
+		Integer[ ] buscadas = new Integer[ out.length ];
+		for( int i = 0; i < buscadas.length; i++ )
+		{
+			buscadas[ i ] = buscadas.length - i - 1;
+		}
+		tabla.getAll( buscadas, out );
+		for( int i = 0; i < buscadas.length; i++ )
+		{
+			int key = buscadas[ i ];
+			assertEquals( key < 500 ? "V" + ( key + 500 ) : null, out[ i ] );
+			assertEquals( out[ i ], tabla.get( key ) );
+		}
+		
+		try
+		{
+			tabla.putAll( keys, new String[ 1 ] );
+			fail( );
+		}
+		catch( IllegalArgumentException e )
+		{
+			// Debe lanzar excepcion
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package hashtable;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.hashtable.primitive.IntIntHashTable;
+import junit.framework.TestCase;
+
+public class TestIntIntHashTable extends TestCase
+{
+	private IntIntHashTable tabla;
+	
+	private void setUpEscenario1( )
+	{
+		tabla = new IntIntHashTable( );
+	}
+	
+	protected void setUp( )
+	{
+		tabla = new IntIntHashTable( );
+		
+		for( int i = 0; i < 26; i++ )
+		{
+			tabla.put( i, i * 10 );
+		}
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( 0, tabla.put( 0, 5 ) );
+		assertEquals( 5, tabla.get( 0 ) );
+		
+		assertEquals( 10, tabla.put( 1, 7 ) );
+		assertEquals( 7, tabla.get( 1 ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		tabla.put( -123, 1 );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testZeroKey( )
+	{
+		setUpEscenario1( );
+		assertFalse( tabla.containsKey( 0 ) );
+		
+		tabla.put( 0, 0 );
+		assertTrue( tabla.containsKey( 0 ) );
+		assertEquals( 1, tabla.size( ) );
+		
+		assertEquals( 0, tabla.delete( 0 ) );
+		assertFalse( tabla.containsKey( 0 ) );
+		assertEquals( 0, tabla.size( ) );
+	}
+	
+	public void testMissingValue( )
+	{
+		tabla = new IntIntHashTable( 16, 0.75f, -1 );
+		assertEquals( -1, tabla.getMissingValue( ) );
+		assertEquals( -1, tabla.get( 3 ) );
+		assertEquals( -1, tabla.put( 3, 4 ) );
+		assertEquals( 9, tabla.getOrDefault( 5, 9 ) );
+		assertEquals( 4, tabla.delete( 3 ) );
+		assertEquals( -1, tabla.delete( 3 ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( 10, tabla.delete( 1 ) );
+		assertEquals( 0, tabla.delete( 123 ) );
+		assertFalse( tabla.containsKey( 1 ) );
+		
+		assertEquals( 25, tabla.size( ) );
+	}
+	
+	public void testCollisions( )
+	{
+		setUpEscenario1( );
+		for( int i = 0; i < 2000; i++ )
+		{
+			tabla.put( i << 16, i );
+		}
+		for( int i = 0; i < 2000; i += 3 )
+		{
+			assertEquals( i, tabla.delete( i << 16 ) );
+		}
+		for( int i = 0; i < 2000; i++ )
+		{
+			assertEquals( ( i % 3 ) != 0, tabla.containsKey( i << 16 ) );
+			assertEquals( ( i % 3 ) == 0 ? 0 : i, tabla.get( i << 16 ) );
+		}
+		assertEquals( 2000 - 667, tabla.size( ) );
+	}
+	
+	public void testEntries( )
+	{
+		int cantidad = 0;
+		for( Entry<Integer, Integer> entry : tabla.entries( ) )
+		{
+			assertEquals( entry.getKey( ) * 10, ( int ) entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( 26, cantidad );
+		
+		tabla.clear( );
+		assertEquals( 0, tabla.size( ) );
+		assertFalse( tabla.containsKey( 0 ) );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package hashtable;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.hashtable.primitive.IntObjHashTable;
+import junit.framework.TestCase;
+
+public class TestIntObjHashTable extends TestCase
+{
+	private IntObjHashTable<String> tabla;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	protected void setUp( )
+	{
+		tabla = new IntObjHashTable<>( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla.put( i, abc[ i ] );
+		}
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( "A", tabla.put( 0, "TEST" ) );
+		assertEquals( "TEST", tabla.get( 0 ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		assertNull( tabla.put( 123, "ABC" ) );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testGet( )
+	{
+		for( int i = 0; i < tabla.size( ); i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+		assertNull( tabla.get( -1 ) );
+		assertEquals( "?", tabla.getOrDefault( -1, "?" ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( abc[ 0 ], tabla.delete( 0 ) );
+		assertEquals( abc[ 1 ], tabla.delete( 1 ) );
+		assertNull( tabla.delete( 123 ) );
+		assertNull( tabla.get( 0 ) );
+		assertNull( tabla.get( 1 ) );
+		
+		assertEquals( 24, tabla.size( ) );
+	}
+	
+	public void testEntries( )
+	{
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla.entries( ) )
+		{
+			assertEquals( abc[ entry.getKey( ) ], entry.getValue( ) );
+			cantidad++;
+		}
+		assertEquals( abc.length, cantidad );
+		
+		tabla.clear( );
+		assertEquals( 0, tabla.size( ) );
+		assertNull( tabla.get( 0 ) );
+	}
+}
\ No newline at end of file
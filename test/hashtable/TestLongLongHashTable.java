@@ -0,0 +1,60 @@
+package hashtable;
+
+import dnarvaez27.collections.hashtable.primitive.LongLongHashTable;
+import junit.framework.TestCase;
+
+public class TestLongLongHashTable extends TestCase
+{
+	private LongLongHashTable tabla;
+	
+	protected void setUp( )
+	{
+		tabla = new LongLongHashTable( );
+		
+		for( long i = 0; i < 26; i++ )
+		{
+			tabla.put( i << 32, i );
+		}
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( 1L, tabla.put( 1L << 32, 100L ) );
+		assertEquals( 100L, tabla.get( 1L << 32 ) );
+		assertEquals( 0L, tabla.get( 1L ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		tabla.put( Long.MIN_VALUE, Long.MAX_VALUE );
+		assertEquals( Long.MAX_VALUE, tabla.get( Long.MIN_VALUE ) );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( 0L, tabla.delete( 0L ) );
+		assertFalse( tabla.containsKey( 0L ) );
+		assertEquals( 5L, tabla.delete( 5L << 32 ) );
+		
+		for( long i = 1; i < 26; i++ )
+		{
+			assertEquals( i != 5, tabla.containsKey( i << 32 ) );
+		}
+		assertEquals( 24, tabla.size( ) );
+	}
+	
+	public void testGrowAndShrink( )
+	{
+		for( long i = 26; i < 10000; i++ )
+		{
+			tabla.put( i << 32, i );
+		}
+		int capacidad = tabla.capacity( );
+		for( long i = 0; i < 10000; i++ )
+		{
+			assertEquals( i, tabla.delete( i << 32 ) );
+		}
+		assertTrue( tabla.isEmpty( ) );
+		assertTrue( tabla.capacity( ) < capacidad );
+	}
+}
\ No newline at end of file
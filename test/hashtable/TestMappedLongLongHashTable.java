@@ -0,0 +1,137 @@
+package hashtable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import dnarvaez27.collections.hashtable.primitive.MappedLongLongHashTable;
+import junit.framework.TestCase;
+
+public class TestMappedLongLongHashTable extends TestCase
+{
+	private Path archivo;
+	
+	private MappedLongLongHashTable tabla;
+	
+	protected void setUp( ) throws IOException
+	{
+		archivo = Files.createTempFile( "tabla", ".bin" );
+		tabla = new MappedLongLongHashTable( archivo, 64, 0.75f, -1L );
+		
+		for( long i = 0; i < 26; i++ )
+		{
+			tabla.put( i << 32, i );
+		}
+	}
+	
+	protected void tearDown( ) throws IOException
+	{
+		tabla.close( );
+		Files.deleteIfExists( archivo );
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( 1L, tabla.put( 1L << 32, 100L ) );
+		assertEquals( 100L, tabla.get( 1L << 32 ) );
+		assertEquals( -1L, tabla.get( 1L ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		tabla.put( Long.MIN_VALUE, Long.MAX_VALUE );
+		assertEquals( Long.MAX_VALUE, tabla.get( Long.MIN_VALUE ) );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( 0L, tabla.delete( 0L ) );
+		assertFalse( tabla.containsKey( 0L ) );
+		assertEquals( 5L, tabla.delete( 5L << 32 ) );
+		assertEquals( -1L, tabla.delete( 5L << 32 ) );
+		
+		for( long i = 1; i < 26; i++ )
+		{
+			assertEquals( i != 5, tabla.containsKey( i << 32 ) );
+		}
+		assertEquals( 24, tabla.size( ) );
+	}
+	
+	public void testReabrir( ) throws IOException
+	{
+		tabla.delete( 5L << 32 );
+		tabla.close( );
+		
+		tabla = new MappedLongLongHashTable( archivo );
+		assertEquals( 25, tabla.size( ) );
+		assertEquals( 64, tabla.capacity( ) );
+		assertEquals( -1L, tabla.getMissingValue( ) );
+		assertEquals( 0L, tabla.get( 0L ) );
+		for( long i = 1; i < 26; i++ )
+		{
+			assertEquals( i == 5 ? -1L : i, tabla.get( i << 32 ) );
+		}
+		
+		tabla.put( 5L << 32, 50L );
+		tabla.force( );
+		assertEquals( 50L, tabla.get( 5L << 32 ) );
+	}
+	
+	public void testCrecer( ) throws IOException
+	{
+		for( long i = 26; i < 10000; i++ )
+		{
+			tabla.put( i << 32, i );
+		}
+		assertEquals( 10000, tabla.size( ) );
+		assertTrue( tabla.capacity( ) >= 10000 / 0.75f );
+		assertFalse( Files.exists( archivo.resolveSibling( archivo.getFileName( ) + ".rehash" ) ) );
+		tabla.close( );
+		
+		tabla = new MappedLongLongHashTable( archivo );
+		assertEquals( 10000, tabla.size( ) );
+		for( long i = 0; i < 10000; i++ )
+		{
+			assertEquals( i, tabla.get( i << 32 ) );
+		}
+		for( long i = 0; i < 10000; i += 2 )
+		{
+			assertEquals( i, tabla.delete( i << 32 ) );
+		}
+		for( long i = 0; i < 10000; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? -1L : i, tabla.get( i << 32 ) );
+		}
+	}
+	
+	public void testClear( ) throws IOException
+	{
+		tabla.clear( );
+		assertTrue( tabla.isEmpty( ) );
+		assertFalse( tabla.containsKey( 0L ) );
+		tabla.close( );
+		
+		tabla = new MappedLongLongHashTable( archivo );
+		assertTrue( tabla.isEmpty( ) );
+		assertEquals( -1L, tabla.get( 3L << 32 ) );
+	}
+	
+	public void testArchivoInvalido( ) throws IOException
+	{
+		Path otro = Files.createTempFile( "otro", ".bin" );
+		try
+		{
+			Files.write( otro, new byte[ 128 ] );
+			new MappedLongLongHashTable( otro );
+			fail( );
+		}
+		catch( IOException e )
+		{
+			// Debe lanzar excepcion
+		}
+		finally
+		{
+			Files.delete( otro );
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package hashtable;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.hashtable.primitive.ObjIntHashTable;
+import junit.framework.TestCase;
+
+public class TestObjIntHashTable extends TestCase
+{
+	private ObjIntHashTable<String> tabla;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	protected void setUp( )
+	{
+		tabla = new ObjIntHashTable<>( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla.put( abc[ i ], i );
+		}
+	}
+	
+	public void testPut( )
+	{
+		assertEquals( 0, tabla.put( "A", 100 ) );
+		assertEquals( 100, tabla.get( "A" ) );
+		
+		assertEquals( 26, tabla.size( ) );
+		
+		tabla.put( "ABC", 1 );
+		assertEquals( 27, tabla.size( ) );
+	}
+	
+	public void testGet( )
+	{
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( i, tabla.get( abc[ i ] ) );
+		}
+		assertFalse( tabla.containsKey( "ABC" ) );
+		assertEquals( -1, tabla.getOrDefault( "ABC", -1 ) );
+	}
+	
+	public void testDelete( )
+	{
+		assertEquals( 1, tabla.delete( "B" ) );
+		assertEquals( 0, tabla.delete( "ABC" ) );
+		assertFalse( tabla.containsKey( "B" ) );
+		
+		assertEquals( 25, tabla.size( ) );
+	}
+	
+	public void testNullKey( )
+	{
+		try
+		{
+			tabla.put( null, 1 );
+			fail( );
+		}
+		catch( NullPointerException e )
+		{
+			// Se espera la excepcion
+		}
+	}
+	
+	public void testEntries( )
+	{
+		int cantidad = 0;
+		for( Entry<String, Integer> entry : tabla.entries( ) )
+		{
+			assertEquals( abc[ entry.getValue( ) ], entry.getKey( ) );
+			cantidad++;
+		}
+		assertEquals( abc.length, cantidad );
+		
+		tabla.clear( );
+		assertEquals( 0, tabla.size( ) );
+		assertFalse( tabla.containsKey( "A" ) );
+	}
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package hashtable;
+
+import dnarvaez27.collections.elements.Entry;
+import dnarvaez27.collections.exceptions.IllegalOperationException;
+import dnarvaez27.collections.hashtable.PersistentHashTable;
+import junit.framework.TestCase;
+
+public class TestPersistentHashTable extends TestCase
+{
+	private static class Colision
+	{
+		private int id;
+		
+		public Colision( int id )
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public boolean equals( Object obj )
+		{
+			return ( obj instanceof Colision ) && ( ( ( Colision ) obj ).id == id );
+		}
+		
+		@Override
+		public int hashCode( )
+		{
+			return 42;
+		}
+	}
+	
+	private PersistentHashTable<Integer, String> tabla;
+	
+	private String[ ] abc = new String[ ]
+	{
+			"A",
+			"B",
+			"C",
+			"D",
+			"E",
+			"F",
+			"G",
+			"H",
+			"I",
+			"J",
+			"K",
+			"L",
+			"M",
+			"N",
+			"O",
+			"P",
+			"Q",
+			"R",
+			"S",
+			"T",
+			"U",
+			"V",
+			"W",
+			"X",
+			"Y",
+			"Z"
+	};
+	
+	private void setUpEscenario1( )
+	{
+		tabla = new PersistentHashTable<>( );
+	}
+	
+	protected void setUp( )
+	{
+		tabla = new PersistentHashTable<Integer, String>( );
+		
+		for( int i = 0; i < abc.length; i++ )
+		{
+			tabla = tabla.put( i, abc[ i ] );
+		}
+	}
+	
+	public void testPut( )
+	{
+		PersistentHashTable<Integer, String> nueva = tabla.put( 0, "TEST" );
+		assertEquals( "TEST", nueva.get( 0 ) );
+		assertEquals( "A", tabla.get( 0 ) );
+		assertEquals( 26, nueva.size( ) );
+		
+		assertSame( nueva, nueva.put( 0, nueva.get( 0 ) ) );
+		
+		nueva = nueva.put( 123, "ABC" );
+		assertEquals( 27, nueva.size( ) );
+		assertEquals( 26, tabla.size( ) );
+		assertNull( tabla.get( 123 ) );
+	}
+	
+	public void testGet( )
+	{
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( abc[ i ], tabla.get( i ) );
+			assertTrue( tabla.containsKey( i ) );
+		}
+		assertNull( tabla.get( 100 ) );
+		assertEquals( "-", tabla.getOrDefault( 100, "-" ) );
+		
+		setUpEscenario1( );
+		assertNull( tabla.get( 0 ) );
+		assertTrue( tabla.isEmpty( ) );
+	}
+	
+	public void testDelete( )
+	{
+		PersistentHashTable<Integer, String> nueva = tabla;
+		for( int i = 0; i < abc.length; i += 2 )
+		{
+			nueva = nueva.delete( i );
+		}
+		assertEquals( 13, nueva.size( ) );
+		assertSame( nueva, nueva.delete( 0 ) );
+		for( int i = 0; i < abc.length; i++ )
+		{
+			assertEquals( ( i % 2 ) == 0 ? null : abc[ i ], nueva.get( i ) );
+			assertEquals( abc[ i ], tabla.get( i ) );
+		}
+	}
+	
+	public void testTransient( )
+	{
+		PersistentHashTable.Transient<Integer, String> transitoria = tabla.asTransient( );
+		for( int i = 0; i < 10000; i++ )
+		{
+			transitoria.put( i, "V" + i );
+		}
+		assertEquals( "V5", transitoria.put( 5, "X" ) );
+		assertEquals( "V7", transitoria.delete( 7 ) );
+		assertNull( transitoria.delete( 7 ) );
+		
+		PersistentHashTable<Integer, String> nueva = transitoria.persistent( );
+		assertEquals( 9999, nueva.size( ) );
+		assertEquals( "X", nueva.get( 5 ) );
+		assertNull( nueva.get( 7 ) );
+		assertEquals( "V9999", nueva.get( 9999 ) );
+		assertEquals( "A", tabla.get( 0 ) );
+		assertEquals( 26, tabla.size( ) );
+		
+		try
+		{
+			transitoria.put( 1, "A" );
+			fail( );
+		}
+		catch( IllegalOperationException e )
+		{
+			// Debe lanzar excepcion
+		}
+		
+		PersistentHashTable<Integer, String> otra = nueva.asTransient( ).persistent( ).put( 5, "Y" );
+		assertEquals( "X", nueva.get( 5 ) );
+		assertEquals( "Y", otra.get( 5 ) );
+	}
+	
+	public void testColisiones( )
+	{
+		PersistentHashTable<Colision, Integer> colisiones = new PersistentHashTable<>( );
+		for( int i = 0; i < 20; i++ )
+		{
+			colisiones = colisiones.put( new Colision( i ), i );
+		}
+		PersistentHashTable<Colision, Integer> anterior = colisiones;
+		colisiones = colisiones.put( new Colision( 3 ), 30 ).delete( new Colision( 4 ) );
+		
+		assertEquals( 19, colisiones.size( ) );
+		assertEquals( 30, colisiones.get( new Colision( 3 ) ).intValue( ) );
+		assertNull( colisiones.get( new Colision( 4 ) ) );
+		assertEquals( 3, anterior.get( new Colision( 3 ) ).intValue( ) );
+		assertEquals( 4, anterior.get( new Colision( 4 ) ).intValue( ) );
+		
+		for( int i = 0; i < 20; i++ )
+		{
+			colisiones = colisiones.delete( new Colision( i ) );
+		}
+		assertTrue( colisiones.isEmpty( ) );
+	}
+	
+	public void testIterator( )
+	{
+		boolean[ ] vistas = new boolean[ abc.length ];
+		int cantidad = 0;
+		for( Entry<Integer, String> entry : tabla )
+		{
+			assertEquals( abc[ entry.getKey( ) ], entry.getValue( ) );
+			assertFalse( vistas[ entry.getKey( ) ] );
+			vistas[ entry.getKey( ) ] = true;
+			cantidad++;
+		}
+		assertEquals( 26, cantidad );
+		assertEquals( 26, tabla.entries( ).size( ) );
+	}
+}
\ No newline at end of file
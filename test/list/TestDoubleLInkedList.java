@@ -164,6 +164,28 @@ public class TestDoubleLInkedList extends TestCase
 		}
 	}
 	
+	public void testRemoveIntUltimo( )
+	{
+		setup2( );
+		assertEquals( "El5", doubleLinkedList.remove( 4 ) );
+		assertEquals( 4, doubleLinkedList.size( ) );
+		assertEquals( -1, doubleLinkedList.lastIndexOf( "El5" ) );
+		
+		doubleLinkedList.add( "El6" );
+		assertEquals( 5, doubleLinkedList.size( ) );
+		assertEquals( 4, doubleLinkedList.lastIndexOf( "El6" ) );
+		assertEquals( 3, doubleLinkedList.lastIndexOf( "El4" ) );
+		assertEquals( 0, doubleLinkedList.lastIndexOf( "El1" ) );
+		assertEquals( "El6", doubleLinkedList.get( 4 ) );
+		assertEquals( "El4", doubleLinkedList.get( 3 ) );
+		
+		assertEquals( "El4", doubleLinkedList.remove( 3 ) );
+		assertEquals( "El6", doubleLinkedList.get( 3 ) );
+		assertEquals( "El3", doubleLinkedList.get( 2 ) );
+		assertEquals( 2, doubleLinkedList.lastIndexOf( "El3" ) );
+		assertEquals( -1, doubleLinkedList.lastIndexOf( "El4" ) );
+	}
+	
 	public void testRemoveT( )
 	{
 		setup2( );